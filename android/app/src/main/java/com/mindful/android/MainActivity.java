@@ -34,11 +34,16 @@ import androidx.annotation.Nullable;
 
 import com.mindful.android.generics.SafeServiceConnection;
 import com.mindful.android.helpers.AlarmTasksSchedulingHelper;
+import com.mindful.android.helpers.BlocklistImportHelper;
 import com.mindful.android.helpers.DeviceAppsHelper;
+import com.mindful.android.helpers.DeviceAppsStreamHandler;
 import com.mindful.android.helpers.NewActivitiesLaunchHelper;
 import com.mindful.android.helpers.NotificationHelper;
 import com.mindful.android.helpers.PermissionsHelper;
 import com.mindful.android.helpers.SharedPrefsHelper;
+import com.mindful.android.helpers.ShortsBlockingHelper;
+import com.mindful.android.helpers.UsageRollupDbHelper;
+import com.mindful.android.helpers.UsageSnapshotHelper;
 import com.mindful.android.models.AppRestrictions;
 import com.mindful.android.models.BedtimeSettings;
 import com.mindful.android.models.FocusSession;
@@ -57,6 +62,7 @@ import java.util.Locale;
 
 import io.flutter.embedding.android.FlutterFragmentActivity;
 import io.flutter.embedding.engine.FlutterEngine;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 
@@ -66,6 +72,7 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
     private SafeServiceConnection<MindfulTrackerService> mTrackerServiceConn;
     private SafeServiceConnection<MindfulVpnService> mVpnServiceConn;
     private SafeServiceConnection<FocusSessionService> mFocusServiceConn;
+    private DeviceAppsStreamHandler mDeviceAppsStreamHandler;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -105,6 +112,12 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
 
         MethodChannel mMethodChannel = new MethodChannel(flutterEngine.getDartExecutor().getBinaryMessenger(), AppConstants.FLUTTER_METHOD_CHANNEL);
         mMethodChannel.setMethodCallHandler(this);
+
+        // Event channel for streaming device apps in stages
+        mDeviceAppsStreamHandler = new DeviceAppsStreamHandler(this, this::getAppsLaunchCount);
+        new EventChannel(flutterEngine.getDartExecutor().getBinaryMessenger(), AppConstants.FLUTTER_DEVICE_APPS_EVENT_CHANNEL)
+                .setStreamHandler(mDeviceAppsStreamHandler);
+
         // Check if the was restarted itself during databased import
         boolean isRestart = getIntent().getBooleanExtra(INTENT_EXTRA_IS_SELF_RESTART, false);
         String appPackage = getIntent().getStringExtra(INTENT_EXTRA_PACKAGE_NAME);
@@ -117,6 +130,16 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
         }
     }
 
+    /**
+     * Returns the launch count of apps for today from the tracker service, if it is running.
+     */
+    @NonNull
+    private HashMap<String, Integer> getAppsLaunchCount() {
+        return mTrackerServiceConn != null && mTrackerServiceConn.isConnected()
+                ? mTrackerServiceConn.getService().getAppsLaunchCount()
+                : new HashMap<>(0);
+    }
+
     @Override
     public void onMethodCall(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
         switch (call.method) {
@@ -128,6 +151,7 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
             }
             case "updateExcludedApps": {
                 SharedPrefsHelper.getSetExcludedApps(this, Utils.notNullStr(call.arguments()));
+                UsageSnapshotHelper.getInstance(this).invalidate();
                 result.success(true);
                 break;
             }
@@ -136,11 +160,31 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
                 break;
             }
             case "getDeviceApps": {
-                DeviceAppsHelper.getDeviceApps(
-                        this,
-                        result,
-                        mTrackerServiceConn.isConnected() ? mTrackerServiceConn.getService().getAppsLaunchCount() : new HashMap<>(0)
-                );
+                DeviceAppsHelper.getDeviceApps(this, result, getAppsLaunchCount());
+                break;
+            }
+            case "ackDeviceAppsEvent": {
+                if (mDeviceAppsStreamHandler != null) {
+                    mDeviceAppsStreamHandler.onEventAcknowledged(call.arguments() == null ? 0 : call.arguments());
+                }
+                result.success(true);
+                break;
+            }
+            case "getHourlyScreenUsage": {
+                Long dayTimeMs = call.arguments();
+                DeviceAppsHelper.getHourlyScreenUsage(this, dayTimeMs == null ? System.currentTimeMillis() : dayTimeMs, result);
+                break;
+            }
+            case "importBlocklist": {
+                BlocklistImportHelper.importBlocklist(this, Utils.notNullStr(call.arguments()), result);
+                break;
+            }
+            case "removeBlocklist": {
+                result.success(BlocklistImportHelper.removeBlocklist(this));
+                break;
+            }
+            case "updateShortsRules": {
+                result.success(ShortsBlockingHelper.updateRules(this, Utils.notNullStr(call.arguments())));
                 break;
             }
             case "getShortsScreenTimeMs": {
@@ -148,7 +192,14 @@ public class MainActivity extends FlutterFragmentActivity implements MethodChann
                 break;
             }
             case "setDataResetTime": {
-                SharedPrefsHelper.getSetDataResetTimeMins(this, call.arguments() == null ? 0 : call.arguments());
+                long oldResetTime = SharedPrefsHelper.getSetDataResetTimeMins(this, null).getTimeInMillis();
+                long newResetTime = SharedPrefsHelper.getSetDataResetTimeMins(this, call.arguments() == null ? 0 : call.arguments()).getTimeInMillis();
+
+                // The data usage of the snapshot and the rolled up days was split at the old reset time
+                if (oldResetTime != newResetTime) {
+                    UsageSnapshotHelper.getInstance(this).invalidate();
+                    UsageRollupDbHelper.getInstance(this).invalidateRolledUpDays();
+                }
                 result.success(true);
                 break;
             }
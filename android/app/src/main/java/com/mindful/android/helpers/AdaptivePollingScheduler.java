@@ -0,0 +1,200 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * AdaptivePollingScheduler runs a polling task on its own background thread with an interval that adapts to the results.
+ * It polls at the minimum interval right after a change is detected, backs off step by step while nothing changes
+ * and snaps back to the minimum interval whenever a change is hinted from outside. Backing off is only enabled while
+ * such a hint source is available, otherwise changes would go unnoticed for up to the maximum interval.
+ * <p>
+ * It also records the number of wakeups so the cost of polling can be compared against a fixed rate.
+ */
+public class AdaptivePollingScheduler {
+    private static final String TAG = "Mindful.AdaptivePollingScheduler";
+
+    /**
+     * Number of polls which keep running at the minimum interval after a change before backing off.
+     */
+    private static final int FAST_POLLS_AFTER_CHANGE = 4;
+    private static final long ONE_HOUR_MS = 60 * 60 * 1000L;
+
+    /**
+     * Task executed on every poll.
+     */
+    public interface PollTask {
+        /**
+         * Called on the scheduler's thread for every poll.
+         *
+         * @return True if the poll detected a change, false otherwise.
+         */
+        boolean onPoll();
+    }
+
+    private final HandlerThread mHandlerThread;
+    private final Handler mHandler;
+    private final PollTask mPollTask;
+    private final long mMinIntervalMs;
+    private final long mMaxIntervalMs;
+    private final Runnable mPollRunnable = this::poll;
+
+    // Only modified from the scheduler's thread
+    private long mIntervalMs;
+    private int mStablePollsCount = 0;
+    private boolean mIsBackOffEnabled = false;
+    private volatile boolean mIsRunning = false;
+    private volatile long mRunningSinceMs = 0L;
+    private volatile long mWakeupsCount = 0L;
+    private volatile long mTotalRunningTimeMs = 0L;
+
+    /**
+     * Creates the scheduler and starts its background thread. Polling does not start until {@link #start()} is called.
+     *
+     * @param name          The name of the background thread.
+     * @param minIntervalMs The interval in milliseconds used right after a change.
+     * @param maxIntervalMs The maximum interval in milliseconds used while nothing changes.
+     * @param pollTask      The task to run on every poll.
+     */
+    public AdaptivePollingScheduler(@NonNull String name, long minIntervalMs, long maxIntervalMs, @NonNull PollTask pollTask) {
+        mMinIntervalMs = minIntervalMs;
+        mMaxIntervalMs = maxIntervalMs;
+        mIntervalMs = minIntervalMs;
+        mPollTask = pollTask;
+        mHandlerThread = new HandlerThread(name, Process.THREAD_PRIORITY_BACKGROUND);
+        mHandlerThread.start();
+        mHandler = new Handler(mHandlerThread.getLooper());
+    }
+
+    /**
+     * Starts polling at the minimum interval if not already running.
+     */
+    public void start() {
+        mHandler.post(() -> {
+            if (mIsRunning) return;
+            mIsRunning = true;
+            mRunningSinceMs = SystemClock.elapsedRealtime();
+            pollNowAtMinInterval();
+        });
+    }
+
+    /**
+     * Stops polling and logs the wakeups statistics. The background thread stays alive so polling can be started again.
+     */
+    public void stop() {
+        mHandler.post(() -> {
+            if (!mIsRunning) return;
+            mIsRunning = false;
+            mHandler.removeCallbacks(mPollRunnable);
+            mTotalRunningTimeMs += SystemClock.elapsedRealtime() - mRunningSinceMs;
+            Log.d(TAG, String.format(Locale.ENGLISH,
+                    "stop: Polled %d times in %d seconds, averaging %.0f wakeups per hour against %d at fixed rate",
+                    mWakeupsCount, mTotalRunningTimeMs / 1000, getWakeupsPerHour(), ONE_HOUR_MS / mMinIntervalMs));
+        });
+    }
+
+    /**
+     * Hints that a change may have happened. The scheduler polls immediately and returns to the minimum interval.
+     */
+    public void requestFastPolling() {
+        mHandler.post(() -> {
+            if (mIsRunning) pollNowAtMinInterval();
+        });
+    }
+
+    /**
+     * Enables or disables backing off while nothing changes. It should only be enabled while changes are hinted
+     * from outside by {@link #requestFastPolling()}. Disabling it returns to the minimum interval immediately.
+     *
+     * @param isEnabled True to back off while nothing changes, false to always poll at the minimum interval.
+     */
+    public void setBackOffEnabled(boolean isEnabled) {
+        mHandler.post(() -> {
+            if (mIsBackOffEnabled == isEnabled) return;
+            mIsBackOffEnabled = isEnabled;
+            if (!isEnabled && mIsRunning) pollNowAtMinInterval();
+        });
+    }
+
+    /**
+     * Runs the task on the scheduler's thread, serialized with the polls.
+     *
+     * @param task The task to run.
+     */
+    public void post(@NonNull Runnable task) {
+        mHandler.post(task);
+    }
+
+    /**
+     * Calculates the average number of polls per hour of running time.
+     *
+     * @return The average wakeups per hour, or 0 if the scheduler never ran.
+     */
+    public float getWakeupsPerHour() {
+        long runningTimeMs = mTotalRunningTimeMs;
+        if (mIsRunning) runningTimeMs += SystemClock.elapsedRealtime() - mRunningSinceMs;
+        return runningTimeMs > 0 ? (mWakeupsCount * (float) ONE_HOUR_MS) / runningTimeMs : 0f;
+    }
+
+    /**
+     * Stops polling and quits the background thread. The scheduler can not be used after this.
+     */
+    public void dispose() {
+        stop();
+        mHandlerThread.quitSafely();
+    }
+
+    /**
+     * Cancels the pending poll, resets the interval to minimum and polls immediately.
+     */
+    private void pollNowAtMinInterval() {
+        mHandler.removeCallbacks(mPollRunnable);
+        mIntervalMs = mMinIntervalMs;
+        mStablePollsCount = 0;
+        mHandler.post(mPollRunnable);
+    }
+
+    /**
+     * Runs the task and schedules the next poll on the basis of its result.
+     */
+    private void poll() {
+        if (!mIsRunning) return;
+        mWakeupsCount++;
+
+        boolean hasChanged = false;
+        try {
+            hasChanged = mPollTask.onPoll();
+        } catch (Exception e) {
+            Log.e(TAG, "poll: Error while running the polling task", e);
+        }
+
+        if (hasChanged) {
+            mIntervalMs = mMinIntervalMs;
+            mStablePollsCount = 0;
+        } else if (mIsBackOffEnabled && ++mStablePollsCount > FAST_POLLS_AFTER_CHANGE) {
+            // Back off while nothing changes
+            mIntervalMs = Math.min(mIntervalMs * 2, mMaxIntervalMs);
+        }
+
+        mHandler.postDelayed(mPollRunnable, mIntervalMs);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.util.Log;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.mindful.android.models.InstalledApp;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AppIconCache keeps the compressed icons of the apps in two tiers, an in-memory LRU cache and files in
+ * the app's cache directory. Icons are keyed by the package name, version code and last update time of the
+ * app and the icon size, so an icon is rendered again only when the app is installed or updated. Missed icons
+ * are rendered by {@link AppIconRenderer}.
+ */
+public class AppIconCache {
+    private static final String TAG = "Mindful.AppIconCache";
+    private static final String ICONS_DIRECTORY = "app_icons";
+    private static final String KEY_SEPARATOR = "@";
+
+    /**
+     * Size of the memory cache in bytes of the compressed icons.
+     */
+    private static final int MEMORY_CACHE_SIZE_BYTES = 8 * 1024 * 1024;
+
+    private static AppIconCache sInstance;
+
+    private final File mIconsDirectory;
+    private final AppIconRenderer mRenderer;
+    private final LruCache<String, byte[]> mMemoryCache = new LruCache<String, byte[]>(MEMORY_CACHE_SIZE_BYTES) {
+        @Override
+        protected int sizeOf(String key, byte[] iconBytes) {
+            return iconBytes.length;
+        }
+    };
+
+    private byte[] mDefaultIcon = null;
+
+    private AppIconCache(@NonNull Context context) {
+        this(new File(context.getCacheDir(), ICONS_DIRECTORY), new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX));
+    }
+
+    @VisibleForTesting
+    AppIconCache(@NonNull File iconsDirectory, @NonNull AppIconRenderer renderer) {
+        mIconsDirectory = iconsDirectory;
+        mRenderer = renderer;
+        if (!mIconsDirectory.exists() && !mIconsDirectory.mkdirs()) {
+            Log.e(TAG, "AppIconCache: Unable to create icons directory, icons will not be cached on disk");
+        }
+    }
+
+    public static synchronized AppIconCache getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            sInstance = new AppIconCache(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    /**
+     * Returns the compressed icons of the apps. The icons are served from memory or disk if the same
+     * version of the app was seen before, the rest are rendered in parallel and stored in both tiers.
+     * <p>
+     * NOTE: The returned arrays are shared with the cache and must not be modified.
+     *
+     * @param packageManager The PackageManager used to load the icons on a cache miss.
+     * @param apps           The apps from the inventory.
+     * @return The compressed icons in the same order as the apps. The icon of an app which can not be loaded is an empty array.
+     */
+    @NonNull
+    public byte[][] getAppIcons(@NonNull PackageManager packageManager, @NonNull List<InstalledApp> apps) {
+        byte[][] icons = new byte[apps.size()][];
+        String[] keys = new String[apps.size()];
+        List<Integer> diskIndices = new ArrayList<>();
+
+        // First tier: memory
+        synchronized (this) {
+            for (int i = 0; i < apps.size(); i++) {
+                InstalledApp app = apps.get(i);
+
+                // The separator can not be a part of the package name
+                keys[i] = app.packageName + KEY_SEPARATOR + app.versionCode + KEY_SEPARATOR + app.lastUpdateTime
+                        + KEY_SEPARATOR + mRenderer.getIconSizePx();
+
+                icons[i] = mMemoryCache.get(keys[i]);
+                if (icons[i] == null) diskIndices.add(i);
+            }
+        }
+
+        if (diskIndices.isEmpty()) return icons;
+
+        // Second tier: disk, read outside of the lock so invalidation from the main thread never waits for it
+        List<Integer> missedIndices = new ArrayList<>();
+        List<String> missedPackages = new ArrayList<>();
+        for (int i : diskIndices) {
+            icons[i] = readIconFile(getIconFile(keys[i]));
+            if (icons[i] == null) {
+                missedIndices.add(i);
+                missedPackages.add(apps.get(i).packageName);
+            }
+        }
+
+        synchronized (this) {
+            for (int i : diskIndices) {
+                if (icons[i] != null) mMemoryCache.put(keys[i], icons[i]);
+            }
+        }
+
+        if (missedPackages.isEmpty()) return icons;
+
+        // Misses: Render outside of the lock, so the cache stays responsive
+        byte[][] renderedIcons = mRenderer.renderAppIcons(packageManager, missedPackages);
+
+        HashSet<String> renderedPackages = new HashSet<>(renderedIcons.length);
+        for (int m = 0; m < renderedIcons.length; m++) {
+            if (renderedIcons[m].length > 0) renderedPackages.add(missedPackages.get(m));
+        }
+
+        synchronized (this) {
+            // Replace the icons of the older versions of the apps, if any
+            deleteIconFiles(renderedPackages);
+
+            for (int m = 0; m < renderedIcons.length; m++) {
+                int i = missedIndices.get(m);
+                icons[i] = renderedIcons[m];
+                if (icons[i].length == 0) continue;
+
+                writeIconFile(getIconFile(keys[i]), icons[i]);
+                mMemoryCache.put(keys[i], icons[i]);
+            }
+        }
+
+        Log.d(TAG, "getAppIcons: Rendered " + missedPackages.size() + " of " + apps.size() + " icons");
+        return icons;
+    }
+
+    /**
+     * Returns the compressed default icon of the system, used for the apps which have no package like tethering.
+     * It is rendered only once per process.
+     *
+     * @param packageManager The PackageManager used to load the icon.
+     * @return The compressed default icon.
+     */
+    @NonNull
+    public synchronized byte[] getDefaultIcon(@NonNull PackageManager packageManager) {
+        if (mDefaultIcon == null) {
+            try {
+                mDefaultIcon = mRenderer.render(packageManager.getApplicationIcon(new ApplicationInfo()));
+            } catch (Exception e) {
+                Log.e(TAG, "getDefaultIcon: Cannot render default icon", e);
+                return new byte[0];
+            }
+        }
+        return mDefaultIcon;
+    }
+
+    /**
+     * Removes the cached icons of the package from both tiers. Called when an app is installed, updated or uninstalled.
+     *
+     * @param packageName The package name of the app.
+     */
+    public synchronized void invalidate(@NonNull String packageName) {
+        String keyPrefix = packageName + KEY_SEPARATOR;
+        for (String key : mMemoryCache.snapshot().keySet()) {
+            if (key.startsWith(keyPrefix)) mMemoryCache.remove(key);
+        }
+        deleteIconFiles(Collections.singleton(packageName));
+    }
+
+    /**
+     * Deletes the icon files of the packages which are not installed anymore, in case their uninstall broadcast was missed.
+     *
+     * @param installedPackages The set of package names of the installed apps.
+     */
+    public synchronized void retainPackages(@NonNull Set<String> installedPackages) {
+        File[] iconFiles = mIconsDirectory.listFiles();
+        if (iconFiles == null) return;
+
+        for (File iconFile : iconFiles) {
+            String fileName = iconFile.getName();
+            int separatorIndex = fileName.indexOf(KEY_SEPARATOR);
+            if (separatorIndex < 0 || !installedPackages.contains(fileName.substring(0, separatorIndex))) {
+                if (!iconFile.delete()) Log.w(TAG, "retainPackages: Unable to delete icon file " + fileName);
+            }
+        }
+    }
+
+    @NonNull
+    private File getIconFile(@NonNull String key) {
+        return new File(mIconsDirectory, key + mRenderer.getFileExtension());
+    }
+
+    /**
+     * Deletes the icon files of all versions of the packages, listing the icons directory only once.
+     */
+    private void deleteIconFiles(@NonNull Set<String> packageNames) {
+        if (packageNames.isEmpty()) return;
+
+        File[] iconFiles = mIconsDirectory.listFiles((dir, name) -> {
+            int separatorIndex = name.indexOf(KEY_SEPARATOR);
+            return separatorIndex > 0 && packageNames.contains(name.substring(0, separatorIndex));
+        });
+        if (iconFiles == null) return;
+
+        for (File iconFile : iconFiles) {
+            if (!iconFile.delete()) Log.w(TAG, "deleteIconFiles: Unable to delete icon file " + iconFile.getName());
+        }
+    }
+
+    private static byte[] readIconFile(@NonNull File iconFile) {
+        if (!iconFile.isFile()) return null;
+
+        byte[] iconBytes = new byte[(int) iconFile.length()];
+        try (FileInputStream inputStream = new FileInputStream(iconFile)) {
+            int offset = 0;
+            while (offset < iconBytes.length) {
+                int read = inputStream.read(iconBytes, offset, iconBytes.length - offset);
+                if (read < 0) return null;
+                offset += read;
+            }
+            return iconBytes;
+        } catch (IOException e) {
+            Log.e(TAG, "readIconFile: Unable to read icon file " + iconFile.getName(), e);
+            return null;
+        }
+    }
+
+    private static void writeIconFile(@NonNull File iconFile, @NonNull byte[] iconBytes) {
+        // Write to a temporary file first, so a partially written icon is never read
+        File tempFile = new File(iconFile.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+            outputStream.write(iconBytes);
+        } catch (IOException e) {
+            Log.e(TAG, "writeIconFile: Unable to write icon file " + iconFile.getName(), e);
+            return;
+        }
+
+        if (!tempFile.renameTo(iconFile)) {
+            Log.w(TAG, "writeIconFile: Unable to rename icon file " + iconFile.getName());
+            tempFile.delete();
+        }
+    }
+}
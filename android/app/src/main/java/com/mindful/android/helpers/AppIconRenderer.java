@@ -0,0 +1,153 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.pm.PackageManager;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppIconRenderer renders app icons into fixed size bitmaps and compresses them, lossless WebP on Android R
+ * and above and PNG below it. Icons are drawn at the target size instead of their intrinsic size, which is
+ * often 192-432 px for adaptive icons.
+ * <p>
+ * Batches of icons are rendered in parallel on a pool bounded by the number of cores. Every worker borrows a
+ * bitmap from a pool of the same size and erases it for the next icon, so the native bitmap memory stays at
+ * one bitmap per worker no matter how many icons are rendered.
+ */
+public class AppIconRenderer {
+    private static final String TAG = "Mindful.AppIconRenderer";
+    public static final int DEFAULT_ICON_SIZE_PX = 96;
+    private static final int IDLE_WORKER_TIMEOUT_SECS = 10;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final int mIconSizePx;
+    private final Bitmap.CompressFormat mCompressFormat;
+    private final ThreadPoolExecutor mExecutor;
+    private final ArrayBlockingQueue<Bitmap> mBitmapPool;
+
+    /**
+     * @param iconSizePx The width and height in pixels of the rendered icons.
+     */
+    public AppIconRenderer(int iconSizePx) {
+        int workersCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+        mIconSizePx = iconSizePx;
+        mCompressFormat = Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                ? Bitmap.CompressFormat.WEBP_LOSSLESS
+                : Bitmap.CompressFormat.PNG;
+        mBitmapPool = new ArrayBlockingQueue<>(workersCount);
+
+        // Workers are released when idle, as icons are rendered only when apps are listed
+        mExecutor = new ThreadPoolExecutor(
+                workersCount,
+                workersCount,
+                IDLE_WORKER_TIMEOUT_SECS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>()
+        );
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return The size in pixels of the rendered icons.
+     */
+    public int getIconSizePx() {
+        return mIconSizePx;
+    }
+
+    /**
+     * @return The file extension matching the format of the rendered icons.
+     */
+    @NonNull
+    public String getFileExtension() {
+        return mCompressFormat == Bitmap.CompressFormat.PNG ? ".png" : ".webp";
+    }
+
+    /**
+     * Renders the icons of the packages in parallel.
+     *
+     * @param packageManager The package manager used to load the icons.
+     * @param packageNames   The package names of the apps.
+     * @return The compressed icons in the same order as the packages. The icon of a package which can not
+     * be loaded is an empty array.
+     */
+    @NonNull
+    public byte[][] renderAppIcons(@NonNull PackageManager packageManager, @NonNull List<String> packageNames) {
+        List<Future<byte[]>> futures = new ArrayList<>(packageNames.size());
+        for (String packageName : packageNames) {
+            futures.add(mExecutor.submit(() -> render(packageManager.getApplicationIcon(packageName))));
+        }
+
+        byte[][] icons = new byte[packageNames.size()][];
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                icons[i] = futures.get(i).get();
+            } catch (ExecutionException e) {
+                Log.e(TAG, "renderAppIcons: Cannot render icon of " + packageNames.get(i), e.getCause());
+                icons[i] = new byte[0];
+            } catch (InterruptedException e) {
+                // Cancel the remaining icons and keep the interrupt for the caller
+                for (int j = i; j < futures.size(); j++) futures.get(j).cancel(true);
+                Thread.currentThread().interrupt();
+                for (int j = i; j < icons.length; j++) icons[j] = new byte[0];
+                break;
+            }
+        }
+        return icons;
+    }
+
+    /**
+     * Renders the drawable on the calling thread.
+     *
+     * @param drawable The drawable to render.
+     * @return The compressed icon.
+     */
+    @NonNull
+    public byte[] render(@NonNull Drawable drawable) {
+        Bitmap bitmap = mBitmapPool.poll();
+        if (bitmap == null) {
+            bitmap = Bitmap.createBitmap(mIconSizePx, mIconSizePx, Bitmap.Config.ARGB_8888);
+        } else {
+            bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        try {
+            Canvas canvas = new Canvas(bitmap);
+            drawable.setBounds(0, 0, mIconSizePx, mIconSizePx);
+            drawable.draw(canvas);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            bitmap.compress(mCompressFormat, 100, outputStream);
+            return outputStream.toByteArray();
+        } finally {
+            // Return the bitmap to the pool or release it if the pool is full
+            if (!mBitmapPool.offer(bitmap)) bitmap.recycle();
+        }
+    }
+}
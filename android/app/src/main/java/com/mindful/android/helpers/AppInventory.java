@@ -0,0 +1,236 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.pm.ChangedPackages;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.os.Build;
+import android.provider.Settings;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.InstalledApp;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * AppInventory keeps a persisted list of the launchable apps on the device, so the callers do not have to
+ * query every installed package and its launch intent on every refresh.
+ * <p>
+ * The inventory is refreshed incrementally. On Android O and above the packages changed since the last
+ * refresh are read with {@link PackageManager#getChangedPackages(int)}, and on every version the packages
+ * reported by the install/uninstall broadcasts are checked again. Whether an app is launchable is looked up
+ * in the set resolved by {@link LaunchableAppsResolver}. A full scan of the installed packages is
+ * done only when the sequence number is not valid anymore (after a reboot), when the locale of the labels
+ * has changed or when there is no persisted inventory yet.
+ */
+public class AppInventory {
+    private static final String TAG = "Mindful.AppInventory";
+    private static final String PREFS_APP_INVENTORY = "MindfulAppInventory";
+    private static final String PREF_KEY_APPS = "mindful.appInventory.apps";
+    private static final String PREF_KEY_SEQUENCE_NUMBER = "mindful.appInventory.sequenceNumber";
+    private static final String PREF_KEY_BOOT_COUNT = "mindful.appInventory.bootCount";
+    private static final String PREF_KEY_LOCALE = "mindful.appInventory.locale";
+
+    private static AppInventory sInstance;
+
+    private final Context mContext;
+    private final SharedPreferences mPrefs;
+    private final HashMap<String, InstalledApp> mApps = new HashMap<>();
+    private final HashSet<String> mPendingPackages = new HashSet<>();
+
+    private boolean mIsLoaded = false;
+    private boolean mNeedsFullScan = true;
+    private int mSequenceNumber = 0;
+
+    private AppInventory(@NonNull Context context) {
+        mContext = context;
+        mPrefs = context.getSharedPreferences(PREFS_APP_INVENTORY, Context.MODE_PRIVATE);
+    }
+
+    public static synchronized AppInventory getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            sInstance = new AppInventory(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    /**
+     * Refreshes the inventory with the changes since the last refresh and returns the launchable apps.
+     *
+     * @return The list of launchable apps on the device.
+     */
+    @NonNull
+    public synchronized List<InstalledApp> getLaunchableApps() {
+        refresh();
+        return new ArrayList<>(mApps.values());
+    }
+
+    /**
+     * Marks the package to be checked again on the next refresh. Called from the install/uninstall broadcasts.
+     *
+     * @param packageName The package name of the installed, updated or uninstalled app.
+     */
+    public synchronized void onPackageChanged(@NonNull String packageName) {
+        mPendingPackages.add(packageName);
+    }
+
+    private void refresh() {
+        if (!mIsLoaded) {
+            load();
+            mIsLoaded = true;
+        }
+
+        PackageManager packageManager = mContext.getPackageManager();
+        if (mNeedsFullScan) {
+            fullScan(packageManager);
+        } else {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                ChangedPackages changedPackages = packageManager.getChangedPackages(mSequenceNumber);
+                if (changedPackages != null) {
+                    mPendingPackages.addAll(changedPackages.getPackageNames());
+                    mSequenceNumber = changedPackages.getSequenceNumber();
+                }
+            }
+
+            if (mPendingPackages.isEmpty()) return;
+
+            // Resolve the launchable packages again once for all the changed packages
+            LaunchableAppsResolver.invalidate();
+            Set<String> launchablePackages = LaunchableAppsResolver.getLaunchablePackages(packageManager);
+            for (String packageName : mPendingPackages) {
+                updatePackage(packageManager, launchablePackages, packageName);
+            }
+            Log.d(TAG, "refresh: Updated " + mPendingPackages.size() + " changed packages incrementally");
+        }
+
+        mPendingPackages.clear();
+        save();
+    }
+
+    private void fullScan(@NonNull PackageManager packageManager) {
+        // Read the sequence number before scanning, so the changes made during the scan are picked by the next refresh
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            ChangedPackages changedPackages = packageManager.getChangedPackages(0);
+            mSequenceNumber = changedPackages != null ? changedPackages.getSequenceNumber() : 0;
+        }
+
+        mApps.clear();
+        LaunchableAppsResolver.invalidate();
+        Set<String> launchablePackages = LaunchableAppsResolver.getLaunchablePackages(packageManager);
+        List<PackageInfo> installedPackages = packageManager.getInstalledPackages(0);
+        for (PackageInfo packageInfo : installedPackages) {
+            if (launchablePackages.contains(packageInfo.packageName)) {
+                mApps.put(packageInfo.packageName, createInstalledApp(packageManager, packageInfo));
+            }
+        }
+
+        mNeedsFullScan = false;
+        Log.d(TAG, "fullScan: Scanned " + installedPackages.size() + " installed packages, found " + mApps.size() + " launchable apps");
+    }
+
+    private void updatePackage(@NonNull PackageManager packageManager, @NonNull Set<String> launchablePackages, @NonNull String packageName) {
+        if (!launchablePackages.contains(packageName)) {
+            // Uninstalled or not launchable anymore
+            mApps.remove(packageName);
+            return;
+        }
+
+        try {
+            PackageInfo packageInfo = packageManager.getPackageInfo(packageName, 0);
+            mApps.put(packageName, createInstalledApp(packageManager, packageInfo));
+        } catch (PackageManager.NameNotFoundException e) {
+            // Uninstalled
+            mApps.remove(packageName);
+        }
+    }
+
+    @NonNull
+    private static InstalledApp createInstalledApp(@NonNull PackageManager packageManager, @NonNull PackageInfo packageInfo) {
+        long versionCode = Build.VERSION.SDK_INT >= Build.VERSION_CODES.P
+                ? packageInfo.getLongVersionCode()
+                : packageInfo.versionCode;
+
+        return new InstalledApp(
+                packageInfo.packageName,
+                packageInfo.applicationInfo.loadLabel(packageManager).toString(),
+                packageInfo.applicationInfo.uid,
+                versionCode,
+                packageInfo.lastUpdateTime
+        );
+    }
+
+    /**
+     * Loads the persisted inventory. A full scan is needed if there is no inventory, the device was rebooted
+     * since it was persisted (sequence numbers are valid only within a boot) or the locale has changed.
+     * Below Android O the changes made while the app was not running are unknown, so a full scan is always needed.
+     */
+    private void load() {
+        String appsJson = mPrefs.getString(PREF_KEY_APPS, "");
+        boolean isSameBoot = mPrefs.getInt(PREF_KEY_BOOT_COUNT, -1) == getBootCount();
+        boolean isSameLocale = Locale.getDefault().toLanguageTag().equals(mPrefs.getString(PREF_KEY_LOCALE, ""));
+        if (appsJson.isEmpty() || !isSameBoot || !isSameLocale || Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+            mNeedsFullScan = true;
+            return;
+        }
+
+        try {
+            JSONArray appsJsonArray = new JSONArray(appsJson);
+            for (int i = 0; i < appsJsonArray.length(); i++) {
+                InstalledApp app = InstalledApp.fromJson(appsJsonArray.optJSONObject(i));
+                if (app != null) mApps.put(app.packageName, app);
+            }
+            mSequenceNumber = mPrefs.getInt(PREF_KEY_SEQUENCE_NUMBER, 0);
+            mNeedsFullScan = false;
+        } catch (JSONException e) {
+            Log.e(TAG, "load: Malformed persisted inventory, falling back to full scan", e);
+            mApps.clear();
+            mNeedsFullScan = true;
+        }
+    }
+
+    private void save() {
+        JSONArray appsJsonArray = new JSONArray();
+        try {
+            for (InstalledApp app : mApps.values()) {
+                appsJsonArray.put(app.toJson());
+            }
+        } catch (JSONException e) {
+            Log.e(TAG, "save: Unable to serialize inventory", e);
+            return;
+        }
+
+        mPrefs.edit()
+                .putString(PREF_KEY_APPS, appsJsonArray.toString())
+                .putInt(PREF_KEY_SEQUENCE_NUMBER, mSequenceNumber)
+                .putInt(PREF_KEY_BOOT_COUNT, getBootCount())
+                .putString(PREF_KEY_LOCALE, Locale.getDefault().toLanguageTag())
+                .apply();
+    }
+
+    private int getBootCount() {
+        return Settings.Global.getInt(mContext.getContentResolver(), Settings.Global.BOOT_COUNT, -1);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.services.MindfulAccessibilityService;
+import com.mindful.android.utils.DomainBlocklist;
+import com.mindful.android.utils.Utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Helper class to import external blocklists like community hosts files or plain domain lists.
+ * The list is compiled into a {@link DomainBlocklist} file in the app's files directory, which is
+ * memory-mapped by the accessibility service for blocking websites.
+ * <p>
+ * Accepted lines are {@code 0.0.0.0 example.com} (hosts file, any address, several hosts per line)
+ * or {@code example.com} (domain list). Everything after {@code #} is a comment.
+ */
+public class BlocklistImportHelper {
+    private static final String TAG = "Mindful.BlocklistImportHelper";
+    private static final String BLOCKLIST_FILE_NAME = "imported_blocklist.bin";
+
+    /**
+     * Hosts which are present in almost every hosts file but must never be blocked.
+     */
+    private static final HashSet<String> IGNORED_HOSTS = new HashSet<>(Arrays.asList(
+            "localhost", "localhost.localdomain", "local", "broadcasthost", "ip6-localhost", "ip6-loopback", "0.0.0.0"
+    ));
+
+    /**
+     * Imports the blocklist file on a background thread and replaces the previously imported one.
+     *
+     * @param context    The application context.
+     * @param sourcePath The path of the hosts file or domain list to import.
+     * @param result     The result returned to flutter with the number of imported domains.
+     */
+    public static void importBlocklist(@NonNull Context context, @NonNull String sourcePath, @NonNull MethodChannel.Result result) {
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        new Thread(() -> {
+            try (InputStream inputStream = new FileInputStream(sourcePath)) {
+                int count = compileBlocklist(inputStream, getBlocklistFile(context));
+                notifyAccessibilityService(context);
+                mainHandler.post(() -> result.success(count));
+            } catch (IOException e) {
+                Log.e(TAG, "importBlocklist: Unable to import blocklist from " + sourcePath, e);
+                mainHandler.post(() -> result.error("IMPORT_ERROR", e.getMessage(), null));
+            }
+        }).start();
+    }
+
+    /**
+     * Deletes the imported blocklist, if any.
+     *
+     * @param context The application context.
+     * @return True if there is no imported blocklist anymore.
+     */
+    public static boolean removeBlocklist(@NonNull Context context) {
+        File blocklistFile = getBlocklistFile(context);
+        boolean isRemoved = !blocklistFile.exists() || blocklistFile.delete();
+        notifyAccessibilityService(context);
+        return isRemoved;
+    }
+
+    /**
+     * Memory-maps the imported blocklist.
+     *
+     * @param context The application context.
+     * @return The imported blocklist or null if nothing is imported.
+     */
+    @Nullable
+    public static DomainBlocklist openBlocklist(@NonNull Context context) {
+        return DomainBlocklist.open(getBlocklistFile(context));
+    }
+
+    /**
+     * Parses the hosts file or domain list and compiles the distinct domains into the blocklist file.
+     * The file is replaced atomically, so a reader never maps a partially written list.
+     *
+     * @param inputStream   The stream of the hosts file or domain list.
+     * @param blocklistFile The compiled blocklist file.
+     * @return The number of distinct domains compiled.
+     * @throws IOException If the stream can not be read or the file can not be written.
+     */
+    public static int compileBlocklist(@NonNull InputStream inputStream, @NonNull File blocklistFile) throws IOException {
+        long startTime = System.currentTimeMillis();
+        List<String> domains = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line, domains);
+            }
+        }
+
+        // Sort and remove duplicates, String order is the byte order for ASCII domains
+        Collections.sort(domains);
+        List<String> distinctDomains = new ArrayList<>(domains.size());
+        String lastDomain = null;
+        for (String domain : domains) {
+            if (!domain.equals(lastDomain)) distinctDomains.add(domain);
+            lastDomain = domain;
+        }
+        domains.clear();
+
+        File tempFile = new File(blocklistFile.getPath() + ".tmp");
+        DomainBlocklist.write(distinctDomains, tempFile);
+        if (!tempFile.renameTo(blocklistFile)) {
+            tempFile.delete();
+            throw new IOException("Unable to replace blocklist file");
+        }
+
+        Log.d(TAG, "compileBlocklist: Compiled " + distinctDomains.size() + " domains in " + (System.currentTimeMillis() - startTime) + "ms");
+        return distinctDomains.size();
+    }
+
+    private static void parseLine(@NonNull String line, @NonNull List<String> domains) {
+        int commentStart = line.indexOf('#');
+        if (commentStart >= 0) line = line.substring(0, commentStart);
+        line = line.trim();
+        if (line.isEmpty()) return;
+
+        String[] tokens = line.split("\\s+");
+
+        // Hosts file lines start with an address followed by one or more hosts
+        int firstHost = isAddress(tokens[0]) ? 1 : 0;
+        for (int i = firstHost; i < tokens.length; i++) {
+            String domain = normalizeDomain(tokens[i]);
+            if (domain != null) domains.add(domain);
+        }
+    }
+
+    @Nullable
+    private static String normalizeDomain(@NonNull String token) {
+        String domain = token.toLowerCase(Locale.ROOT);
+        if (domain.endsWith(".")) domain = domain.substring(0, domain.length() - 1);
+        if (domain.isEmpty() || !domain.contains(".") || IGNORED_HOSTS.contains(domain)) return null;
+
+        for (int i = 0; i < domain.length(); i++) {
+            char c = domain.charAt(i);
+            boolean isValid = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_';
+            if (!isValid) return null;
+        }
+        return domain;
+    }
+
+    private static boolean isAddress(@NonNull String token) {
+        // IPv6 addresses contain colons, IPv4 addresses only digits and dots
+        if (token.contains(":")) return true;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c != '.' && (c < '0' || c > '9')) return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    private static File getBlocklistFile(@NonNull Context context) {
+        return new File(context.getFilesDir(), BLOCKLIST_FILE_NAME);
+    }
+
+    private static void notifyAccessibilityService(@NonNull Context context) {
+        if (Utils.isServiceRunning(context, MindfulAccessibilityService.class.getName())) {
+            Intent serviceIntent = new Intent(context.getApplicationContext(), MindfulAccessibilityService.class)
+                    .setAction(MindfulAccessibilityService.ACTION_BLOCKLIST_UPDATED);
+            context.startService(serviceIntent);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.util.Log;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.utils.LatencyStats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BrowserUrlBarResolver extracts the url from the url bar of the browsers. Every lookup of a view id is a
+ * cross-process search of the window's node tree, so the id which resolved the url bar of a browser last
+ * time is remembered and tried first, and the rest of the ids are searched only when it stops resolving.
+ * <p>
+ * Browsers which have none of the known url bar ids in {@link #NEGATIVE_CACHE_MIN_MISSED_WINDOWS} distinct windows
+ * in a row are cached negatively for {@link #NEGATIVE_CACHE_TTL_MS} and only the focused input field is checked
+ * for them meanwhile. A single window is not enough, as the first one may be a splash, first-run or fullscreen screen. The hit rate and the extraction latency
+ * of every browser are logged after every {@link #STATS_REPORT_INTERVAL} extractions.
+ * <p>
+ * NOTE: This class is thread safe as the accessibility events are processed on a pool of threads.
+ */
+public class BrowserUrlBarResolver {
+    private static final String TAG = "Mindful.BrowserUrlBarResolver";
+    private static final long NEGATIVE_CACHE_TTL_MS = 15 * 1000; // 15 seconds
+    private static final int NEGATIVE_CACHE_MIN_MISSED_WINDOWS = 3;
+    private static final long EXTRACTION_LATENCY_TARGET_MS = 16L;
+    private static final long STATS_REPORT_INTERVAL = 200L;
+
+    /**
+     * List of Ids of URL Bars used by different browsers.
+     * These are used to retrieve/extract url from the browsers.
+     */
+    private static final List<String> URL_BAR_NODE_IDS = Arrays.asList(
+            ":id/url_bar",
+            ":id/mozac_browser_toolbar_url_view",
+            ":id/url",
+            ":id/search",
+            ":id/url_field",
+            ":id/location_bar_edit_text",
+            ":id/addressbarEdit",
+            ":id/bro_omnibar_address_title_text"
+    );
+
+    private final ConcurrentHashMap<String, BrowserState> mBrowserStates = new ConcurrentHashMap<>();
+
+    /**
+     * Extracts the url from the url bar of the browser.
+     *
+     * @param node        The root node of the browser's window.
+     * @param packageName The package name of the browser.
+     * @return The url or an empty string if it can not be extracted.
+     */
+    @NonNull
+    public String extractUrl(@NonNull AccessibilityNodeInfo node, @NonNull String packageName) {
+        BrowserState state = mBrowserStates.computeIfAbsent(packageName, BrowserState::new);
+        long startTime = System.currentTimeMillis();
+        String url = "";
+
+        try {
+            url = extractUrl(node, packageName, state, startTime);
+        } catch (Exception ignored) {
+        }
+
+        long samples = state.extractionLatency.record(System.currentTimeMillis() - startTime);
+        if (samples % STATS_REPORT_INTERVAL == 0) {
+            Log.d(TAG, "extractUrl: " + state);
+        }
+        return url;
+    }
+
+    /**
+     * Drops the cached url bar id of the browser, its views may have changed. Called when a package is updated or removed.
+     *
+     * @param packageName The package name of the browser.
+     */
+    public void invalidate(@NonNull String packageName) {
+        mBrowserStates.remove(packageName);
+    }
+
+    /**
+     * Logs the hit rates and extraction latencies of all the browsers.
+     */
+    public void logStats() {
+        for (BrowserState state : mBrowserStates.values()) {
+            Log.d(TAG, "logStats: " + state);
+        }
+    }
+
+    @NonNull
+    private String extractUrl(@NonNull AccessibilityNodeInfo node, @NonNull String packageName, @NonNull BrowserState state, long now) {
+        String cachedId = state.urlBarId;
+
+        if (cachedId != null) {
+            // Try the id which worked last time first
+            String url = findUrlById(node, packageName + cachedId);
+            if (url != null) {
+                state.recordLookup(LookupResult.HIT);
+                if (!url.isEmpty()) return url;
+                return findUrlInInputField(node);
+            }
+        } else if (now < state.negativeCacheExpiry) {
+            state.recordLookup(LookupResult.NEGATIVE);
+            return findUrlInInputField(node);
+        }
+
+        // Search all the other ids, once the cached one stopped resolving or nothing is cached yet
+        for (String id : URL_BAR_NODE_IDS) {
+            if (id.equals(cachedId)) continue;
+
+            String url = findUrlById(node, packageName + id);
+            if (url != null) {
+                state.urlBarId = id;
+                state.resetMissedWindows();
+                state.recordLookup(LookupResult.MISS);
+                if (!url.isEmpty()) return url;
+                return findUrlInInputField(node);
+            }
+        }
+
+        // None of the ids resolved, cache negatively once the browser missed in enough distinct windows
+        state.urlBarId = null;
+        if (state.recordMissedWindow(node.getWindowId()) >= NEGATIVE_CACHE_MIN_MISSED_WINDOWS) {
+            state.negativeCacheExpiry = now + NEGATIVE_CACHE_TTL_MS;
+            state.resetMissedWindows();
+        }
+        state.recordLookup(LookupResult.MISS);
+        return findUrlInInputField(node);
+    }
+
+    /**
+     * Finds the url bar by its view id.
+     *
+     * @return The url, an empty string if the url bar exists but has no url, or null if no view has the id.
+     */
+    @Nullable
+    private static String findUrlById(@NonNull AccessibilityNodeInfo node, @NonNull String viewId) {
+        List<AccessibilityNodeInfo> urlBarNodes = node.findAccessibilityNodeInfosByViewId(viewId);
+        if (urlBarNodes.isEmpty()) return null;
+
+        try {
+            CharSequence txtSequence = urlBarNodes.get(0).getText();
+            return txtSequence != null && txtSequence.length() > 1 ? txtSequence.toString() : "";
+        } finally {
+            for (AccessibilityNodeInfo urlBarNode : urlBarNodes) recycleNode(urlBarNode);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void recycleNode(@NonNull AccessibilityNodeInfo node) {
+        try {
+            node.recycle();
+        } catch (Exception ignored) {
+        }
+    }
+
+    @NonNull
+    private static String findUrlInInputField(@NonNull AccessibilityNodeInfo node) {
+        // Find by input field class
+        if (node.getClassName().equals("android.widget.EditText")) {
+            CharSequence txtSequence = node.getText();
+            if (txtSequence != null && txtSequence.length() > 1) {
+                return txtSequence.toString();
+            }
+        }
+        return "";
+    }
+
+    private enum LookupResult {
+        HIT,
+        MISS,
+        NEGATIVE
+    }
+
+    private static class BrowserState {
+        final String packageName;
+        final LatencyStats extractionLatency;
+        volatile String urlBarId = null;
+        volatile long negativeCacheExpiry = 0L;
+
+        private long mHits = 0L;
+        private long mMisses = 0L;
+        private long mNegativeHits = 0L;
+        private int mMissedWindowsCount = 0;
+        private int mLastMissedWindowId = -1;
+
+        BrowserState(@NonNull String packageName) {
+            this.packageName = packageName;
+            this.extractionLatency = new LatencyStats("Extraction", EXTRACTION_LATENCY_TARGET_MS);
+        }
+
+        /**
+         * Records that none of the ids resolved in the window.
+         *
+         * @return The number of distinct windows missed in a row.
+         */
+        synchronized int recordMissedWindow(int windowId) {
+            if (mMissedWindowsCount == 0 || windowId != mLastMissedWindowId) {
+                mMissedWindowsCount++;
+                mLastMissedWindowId = windowId;
+            }
+            return mMissedWindowsCount;
+        }
+
+        synchronized void resetMissedWindows() {
+            mMissedWindowsCount = 0;
+            mLastMissedWindowId = -1;
+        }
+
+        synchronized void recordLookup(@NonNull LookupResult result) {
+            switch (result) {
+                case HIT:
+                    mHits++;
+                    break;
+                case MISS:
+                    mMisses++;
+                    break;
+                case NEGATIVE:
+                    mNegativeHits++;
+                    break;
+            }
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            long total = mHits + mMisses + mNegativeHits;
+            float hitRate = total == 0 ? 0f : ((mHits + mNegativeHits) * 100f) / total;
+            return String.format(Locale.ENGLISH,
+                    "%s: url bar %s, %.1f%% cache hits (%d hits, %d negative hits, %d misses) | %s",
+                    packageName, urlBarId, hitRate, mHits, mNegativeHits, mMisses, extractionLatency);
+        }
+    }
+}
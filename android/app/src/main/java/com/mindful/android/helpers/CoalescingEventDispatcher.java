@@ -0,0 +1,219 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.util.Log;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * CoalescingEventDispatcher processes the content changed events of the accessibility service on a pool of
+ * workers with latest-wins semantics. Only one event per package and window is kept pending, a newer event
+ * replaces the pending one, so the workers always check the latest screen instead of a backlog of outdated
+ * node snapshots during fast scrolling.
+ * <p>
+ * The mailbox is bounded, when it is full the oldest pending event is dropped.
+ * Events of the same package and window are never processed concurrently. The nodes of both the processed
+ * and the dropped events are recycled by the dispatcher.
+ */
+public class CoalescingEventDispatcher {
+    private static final String TAG = "Mindful.CoalescingEventDispatcher";
+    private static final long STATS_REPORT_INTERVAL = 500L;
+
+    /**
+     * Processes the latest event of a package on a worker thread. The node is recycled once it returns,
+     * so it must not be retained.
+     */
+    public interface EventProcessor {
+        void process(@NonNull String packageName, @NonNull AccessibilityNodeInfo node);
+    }
+
+    private final ExecutorService mExecutor;
+    private final EventProcessor mProcessor;
+    private final int mWorkersCount;
+    private final int mMaxPendingEvents;
+
+    // Guarded by this
+    private final LinkedHashMap<String, PendingEvent> mPendingEvents = new LinkedHashMap<>();
+    private final HashSet<String> mInFlightKeys = new HashSet<>();
+    private int mActiveWorkers = 0;
+    private boolean mIsShutdown = false;
+
+    // Stats, guarded by this
+    private long mDispatchedCount = 0L;
+    private long mProcessedCount = 0L;
+    private long mCoalescedCount = 0L;
+    private long mOverflowCount = 0L;
+    private int mMaxQueueDepth = 0;
+
+    /**
+     * @param workersCount     The number of worker threads.
+     * @param maxPendingEvents The maximum number of pending events across all the packages and windows.
+     * @param processor        The processor invoked on the worker threads.
+     */
+    public CoalescingEventDispatcher(int workersCount, int maxPendingEvents, @NonNull EventProcessor processor) {
+        mExecutor = Executors.newFixedThreadPool(workersCount);
+        mProcessor = processor;
+        mWorkersCount = workersCount;
+        mMaxPendingEvents = maxPendingEvents;
+    }
+
+    /**
+     * Queues the event, replacing the pending event of the same package and window if any.
+     *
+     * @param packageName The package name of the event's app.
+     * @param windowId    The id of the event's window.
+     * @param node        The source node of the event. It is owned by the dispatcher from now on.
+     */
+    public void dispatch(@NonNull String packageName, int windowId, @NonNull AccessibilityNodeInfo node) {
+        String key = packageName + "#" + windowId;
+        AccessibilityNodeInfo droppedNode = null;
+        boolean shouldStartWorker = false;
+
+        synchronized (this) {
+            if (mIsShutdown) {
+                droppedNode = node;
+            } else {
+                mDispatchedCount++;
+                PendingEvent replacedEvent = mPendingEvents.remove(key);
+                if (replacedEvent != null) {
+                    droppedNode = replacedEvent.node;
+                    mCoalescedCount++;
+                } else if (mPendingEvents.size() >= mMaxPendingEvents) {
+                    // Mailbox is full, drop the oldest pending event
+                    Iterator<PendingEvent> iterator = mPendingEvents.values().iterator();
+                    droppedNode = iterator.next().node;
+                    iterator.remove();
+                    mOverflowCount++;
+                }
+
+                mPendingEvents.put(key, new PendingEvent(key, packageName, node));
+                mMaxQueueDepth = Math.max(mMaxQueueDepth, mPendingEvents.size());
+
+                if (mActiveWorkers < mWorkersCount) {
+                    mActiveWorkers++;
+                    shouldStartWorker = true;
+                }
+            }
+        }
+
+        if (droppedNode != null) recycleNode(droppedNode);
+        if (shouldStartWorker) {
+            try {
+                mExecutor.execute(this::drainEvents);
+            } catch (Exception e) {
+                synchronized (this) {
+                    mActiveWorkers--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the workers and recycles the pending events. Events dispatched afterwards are dropped.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            mIsShutdown = true;
+            for (PendingEvent event : mPendingEvents.values()) {
+                recycleNode(event.node);
+            }
+            mPendingEvents.clear();
+        }
+        mExecutor.shutdown();
+        Log.d(TAG, "shutdown: " + getStats());
+    }
+
+    /**
+     * @return The counts of dispatched, processed, coalesced and dropped events along with the queue depth.
+     */
+    @NonNull
+    public synchronized String getStats() {
+        return String.format(Locale.ENGLISH,
+                "%d dispatched, %d processed, %d coalesced, %d dropped on overflow, queue depth %d (max %d)",
+                mDispatchedCount, mProcessedCount, mCoalescedCount, mOverflowCount, mPendingEvents.size(), mMaxQueueDepth);
+    }
+
+    /**
+     * Runs on a worker and processes the pending events till there is none which can be taken.
+     * An event whose key is in flight is left for the worker processing that key.
+     */
+    private void drainEvents() {
+        while (true) {
+            PendingEvent event = null;
+            synchronized (this) {
+                if (!mIsShutdown) {
+                    for (Map.Entry<String, PendingEvent> entry : mPendingEvents.entrySet()) {
+                        if (!mInFlightKeys.contains(entry.getKey())) {
+                            event = entry.getValue();
+                            break;
+                        }
+                    }
+                }
+
+                if (event == null) {
+                    mActiveWorkers--;
+                    return;
+                }
+                mPendingEvents.remove(event.key);
+                mInFlightKeys.add(event.key);
+            }
+
+            try {
+                mProcessor.process(event.packageName, event.node);
+            } catch (Exception e) {
+                Log.e(TAG, "drainEvents: Failed to process event of " + event.packageName, e);
+            } finally {
+                recycleNode(event.node);
+            }
+
+            long processedCount;
+            synchronized (this) {
+                mInFlightKeys.remove(event.key);
+                processedCount = ++mProcessedCount;
+            }
+            if (processedCount % STATS_REPORT_INTERVAL == 0) {
+                Log.d(TAG, "drainEvents: " + getStats());
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void recycleNode(@NonNull AccessibilityNodeInfo node) {
+        try {
+            node.recycle();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private static class PendingEvent {
+        final String key;
+        final String packageName;
+        final AccessibilityNodeInfo node;
+
+        PendingEvent(@NonNull String key, @NonNull String packageName, @NonNull AccessibilityNodeInfo node) {
+            this.key = key;
+            this.packageName = packageName;
+            this.node = node;
+        }
+    }
+}
@@ -17,19 +17,20 @@ import android.app.usage.NetworkStats;
 import android.app.usage.NetworkStatsManager;
 import android.app.usage.UsageStatsManager;
 import android.content.Context;
-import android.content.pm.ApplicationInfo;
-import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.SparseArray;
 
 import androidx.annotation.NonNull;
 
 import com.mindful.android.generics.SuccessCallback;
 import com.mindful.android.models.AndroidApp;
-import com.mindful.android.utils.Utils;
+import com.mindful.android.models.DailyUsage;
+import com.mindful.android.models.InstalledApp;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -61,9 +62,9 @@ public class DeviceAppsHelper {
             MethodChannel.Result channelResult,
             HashMap<String, Integer> appsLaunchCountMap
     ) {
-        SuccessCallback<List<Map<String, Object>>> callback = new SuccessCallback<List<Map<String, Object>>>() {
+        SuccessCallback<Map<String, Object>> callback = new SuccessCallback<Map<String, Object>>() {
             @Override
-            public void onSuccess(List<Map<String, Object>> result) {
+            public void onSuccess(Map<String, Object> result) {
                 new Handler(Looper.getMainLooper()).post(() -> channelResult.success(result));
             }
         };
@@ -72,51 +73,160 @@ public class DeviceAppsHelper {
             @Override
             public void run() {
                 List<AndroidApp> apps = fetchAppsAndUsage(context, appsLaunchCountMap);
-                List<Map<String, Object>> resultMap = new ArrayList<>(apps.size());
+                callback.onSuccess(AndroidApp.toColumnarMap(apps));
+            }
+        }).start();
+    }
 
-                for (AndroidApp app : apps) {
-                    resultMap.add(app.toMap());
-                }
+    /**
+     * Retrieves the hour-of-day screen usage of every app for the day of the specified time and sends
+     * the result to the specified MethodChannel.Result.
+     *
+     * @param context       The context to use for fetching usage.
+     * @param dayTimeMs     Any time in milliseconds within the day whose usage is needed.
+     * @param channelResult The result channel to which the map of package names and their 24 hourly usages in seconds will be sent.
+     */
+    public static void getHourlyScreenUsage(
+            Context context,
+            long dayTimeMs,
+            MethodChannel.Result channelResult
+    ) {
+        new Thread(() -> {
+            Calendar dayCal = Calendar.getInstance();
+            dayCal.setTimeInMillis(dayTimeMs);
+            dayCal.set(Calendar.HOUR_OF_DAY, 0);
+            dayCal.set(Calendar.MINUTE, 0);
+            dayCal.set(Calendar.SECOND, 0);
+            dayCal.set(Calendar.MILLISECOND, 0);
 
-                callback.onSuccess(resultMap);
-            }
+            UsageStatsManager usageStatsManager = (UsageStatsManager) context.getSystemService(Context.USAGE_STATS_SERVICE);
+            HashMap<String, long[]> hourlyUsage = ScreenUsageHelper.fetchHourlyUsageForDay(usageStatsManager, dayCal.getTimeInMillis());
+            new Handler(Looper.getMainLooper()).post(() -> channelResult.success(hourlyUsage));
         }).start();
     }
 
     @NonNull
     private static List<AndroidApp> fetchAppsAndUsage(@NonNull Context context, @NonNull HashMap<String, Integer> appsLaunchCountMap) {
+        List<InstalledApp> launchableApps = fetchLaunchableApps(context);
+        List<AndroidApp> deviceApps = createApps(context, launchableApps, appsLaunchCountMap, true);
+        fetchWeekUsage(context, deviceApps);
+        return deviceApps;
+    }
+
+    /**
+     * Fetches the launchable apps from the app inventory. Also drops the cached icons of the apps which
+     * were uninstalled meanwhile.
+     *
+     * @param context The context to use for fetching app information.
+     * @return The list of launchable apps.
+     */
+    @NonNull
+    public static List<InstalledApp> fetchLaunchableApps(@NonNull Context context) {
+        List<InstalledApp> launchableApps = AppInventory.getInstance(context).getLaunchableApps();
+
+        HashSet<String> launchablePackages = new HashSet<>(launchableApps.size());
+        for (InstalledApp app : launchableApps) {
+            launchablePackages.add(app.packageName);
+        }
+        AppIconCache.getInstance(context).retainPackages(launchablePackages);
+
+        return launchableApps;
+    }
+
+    /**
+     * Creates the apps for the launchable apps, followed by the additional apps for network usage
+     * i.e. tethering and removed apps. The usage of the apps is left empty.
+     *
+     * @param context            The context to use for fetching app information.
+     * @param launchableApps     The launchable apps from the inventory.
+     * @param appsLaunchCountMap The map of package names and their launch count for today, counted by the running tracker service.
+     *                           The counts stored by its earlier runs today are added to them.
+     * @param withIcons          True to load the icons of the apps, otherwise they can be loaded later with {@link #loadAppIcons}.
+     * @return The list of apps in the same order as the launchable apps.
+     */
+    @NonNull
+    public static List<AndroidApp> createApps(
+            @NonNull Context context,
+            @NonNull List<InstalledApp> launchableApps,
+            @NonNull HashMap<String, Integer> appsLaunchCountMap,
+            boolean withIcons
+    ) {
         PackageManager packageManager = context.getPackageManager();
 
         // Fetch set of important apps like Dialer, Launcher etc.
         HashSet<String> impSystemApps = ImpSystemAppsHelper.fetchImpApps(packageManager);
         impSystemApps.add(context.getPackageName());
 
-        // Fetch package info of installed apps on device
-        List<PackageInfo> fetchedApps = packageManager.getInstalledPackages(PackageManager.GET_META_DATA);
-        List<AndroidApp> deviceApps = new ArrayList<>();
-
-        for (PackageInfo app : fetchedApps) {
-            // Only include apps which are launchable
-            if (packageManager.getLaunchIntentForPackage(app.packageName) != null) {
-                // Check if the app is important or default to system like dialer and launcher
-                boolean isSysDefault = impSystemApps.contains(app.packageName);
-                deviceApps.add(
-                        new AndroidApp(
-                                app.applicationInfo.loadLabel(packageManager).toString(), // name
-                                app.packageName, // package name
-                                Utils.getEncodedAppIcon(packageManager.getApplicationIcon(app.applicationInfo)), // icon
-                                isSysDefault, // is default app used by system like dialer or launcher
-                                appsLaunchCountMap.getOrDefault(app.packageName, 0), // launch count for today
-                                app.applicationInfo.uid // app uid
-                        )
-                );
-            }
+        // Launch counts saved today by the earlier runs of the tracker service
+        int todayKey = UsageRollupDbHelper.getDayKey(System.currentTimeMillis());
+        HashMap<String, Integer> storedLaunchCounts = UsageRollupDbHelper.getInstance(context).fetchLaunchCounts(todayKey);
+
+        List<AndroidApp> deviceApps = new ArrayList<>(launchableApps.size() + 2);
+        for (InstalledApp app : launchableApps) {
+            // Check if the app is important or default to system like dialer and launcher
+            boolean isSysDefault = impSystemApps.contains(app.packageName);
+            deviceApps.add(
+                    new AndroidApp(
+                            app.appName, // name
+                            app.packageName, // package name
+                            null, // icon
+                            isSysDefault, // is default app used by system like dialer or launcher
+                            appsLaunchCountMap.getOrDefault(app.packageName, 0)
+                                    + storedLaunchCounts.getOrDefault(app.packageName, 0), // launch count for today
+                            app.appUid // app uid
+                    )
+            );
         }
 
         // Add additional apps for network usage
-        deviceApps.add(new AndroidApp(TETHERING_APP_NAME, TETHERING_PACKAGE, Utils.getEncodedAppIcon(packageManager.getApplicationIcon(new ApplicationInfo())), true, -1, NetworkStats.Bucket.UID_TETHERING));
-        deviceApps.add(new AndroidApp(REMOVED_APP_NAME, REMOVED_PACKAGE, Utils.getEncodedAppIcon(packageManager.getApplicationIcon(new ApplicationInfo())), true, -1, NetworkStats.Bucket.UID_REMOVED));
+        deviceApps.add(new AndroidApp(TETHERING_APP_NAME, TETHERING_PACKAGE, null, true, -1, NetworkStats.Bucket.UID_TETHERING));
+        deviceApps.add(new AndroidApp(REMOVED_APP_NAME, REMOVED_PACKAGE, null, true, -1, NetworkStats.Bucket.UID_REMOVED));
+
+        if (withIcons) loadAppIcons(context, launchableApps, deviceApps, 0, deviceApps.size());
+        return deviceApps;
+    }
+
+    /**
+     * Loads the icons of a range of the apps from the icon cache. The additional apps after the
+     * launchable apps get the default icon.
+     *
+     * @param context        The context to use for loading icons.
+     * @param launchableApps The launchable apps used to create the apps.
+     * @param deviceApps     The list of apps returned by {@link #createApps}, whose icons will be set.
+     * @param from           The index of the first app, inclusive.
+     * @param to             The index of the last app, exclusive.
+     */
+    public static void loadAppIcons(
+            @NonNull Context context,
+            @NonNull List<InstalledApp> launchableApps,
+            @NonNull List<AndroidApp> deviceApps,
+            int from,
+            int to
+    ) {
+        PackageManager packageManager = context.getPackageManager();
+        AppIconCache appIconCache = AppIconCache.getInstance(context);
+
+        int launchableTo = Math.min(to, launchableApps.size());
+        if (from < launchableTo) {
+            byte[][] icons = appIconCache.getAppIcons(packageManager, launchableApps.subList(from, launchableTo));
+            for (int i = from; i < launchableTo; i++) {
+                deviceApps.get(i).appIcon = icons[i - from];
+            }
+        }
+
+        for (int i = Math.max(from, launchableApps.size()); i < to; i++) {
+            deviceApps.get(i).appIcon = appIconCache.getDefaultIcon(packageManager);
+        }
+    }
 
+    /**
+     * Fetches the daily screen, mobile and Wi-Fi usage of the apps from the first day of the current week till today.
+     * Finished days are read from the rollup store, the remaining days are queried at once and rolled up.
+     *
+     * @param context    The context to use for fetching usage.
+     * @param deviceApps The list of apps returned by {@link #createApps}, whose weekly usage will be filled.
+     */
+    public static void fetchWeekUsage(@NonNull Context context, @NonNull List<AndroidApp> deviceApps) {
         UsageStatsManager usageStatsManager = (UsageStatsManager) context.getSystemService(Context.USAGE_STATS_SERVICE);
         NetworkStatsManager networkStatsManager = (NetworkStatsManager) context.getSystemService(Context.NETWORK_STATS_SERVICE);
 
@@ -126,36 +236,112 @@ public class DeviceAppsHelper {
         screenUsageCal.set(Calendar.SECOND, 0);
         screenUsageCal.set(Calendar.MILLISECOND, 0);
 
+        // Read before the reset time, so the days split at an invalidated reset time are not rolled up
+        UsageRollupDbHelper rollupDb = UsageRollupDbHelper.getInstance(context);
+        int rollupGeneration = rollupDb.getInvalidationGeneration();
+
         // Users may have different timings for their data renewal or reset so keeping it in mind
         Calendar dataUsageCal = SharedPrefsHelper.getSetDataResetTimeMins(context, null);
+        long now = System.currentTimeMillis();
 
+        // Boundaries of the days from first day of week till today of current week
         int todayOfWeek = screenUsageCal.get(Calendar.DAY_OF_WEEK);
-        long ms24Hours = 24 * 60 * 60 * 1000; // 24 hours in milliseconds
+        long[] screenUsageDays = getDayBoundariesOfWeek(screenUsageCal, todayOfWeek);
+        long[] dataUsageDays = getDayBoundariesOfWeek(dataUsageCal, todayOfWeek);
+        int[] dayKeys = new int[todayOfWeek];
+        for (int day = 0; day < todayOfWeek; day++) {
+            dayKeys[day] = UsageRollupDbHelper.getDayKey(screenUsageDays[day]);
+        }
 
-        // Loop from first day of week till today of current week
-        for (int i = 1; i <= todayOfWeek; i++) {
-            screenUsageCal.set(Calendar.DAY_OF_WEEK, i);
-            dataUsageCal.set(Calendar.DAY_OF_WEEK, i);
+        // Finished days are rolled up only once, so find the first one which is not rolled up yet
+        HashSet<Integer> rolledUpDays = rollupDb.fetchRolledUpDays(dayKeys[0], dayKeys[todayOfWeek - 1]);
+        int firstLiveDay = 0;
+        while (firstLiveDay < todayOfWeek - 1 && rolledUpDays.contains(dayKeys[firstLiveDay])) {
+            firstLiveDay++;
+        }
+
+        // Read the rolled up days from store
+        HashMap<Integer, HashMap<String, DailyUsage>> weekUsage = firstLiveDay > 0
+                ? rollupDb.fetchDailyUsage(dayKeys[0], dayKeys[firstLiveDay - 1])
+                : new HashMap<>();
 
-            long screenUsageStart = screenUsageCal.getTimeInMillis();
-            long dataUsageStart = dataUsageCal.getTimeInMillis();
+        // Query the remaining days till today at once, sessions and buckets are split into days while reading
+        long[] openSessionsSince = new long[1];
+        HashMap<String, long[]> screenUsageLive = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, Arrays.copyOfRange(screenUsageDays, firstLiveDay, todayOfWeek + 1), openSessionsSince);
+        SparseArray<long[]> mobileUsageLive = NetworkUsageHelper.fetchMobileUsageForIntervals(networkStatsManager, Arrays.copyOfRange(dataUsageDays, firstLiveDay, todayOfWeek + 1));
+        SparseArray<long[]> wifiUsageLive = NetworkUsageHelper.fetchWifiUsageForIntervals(networkStatsManager, Arrays.copyOfRange(dataUsageDays, firstLiveDay, todayOfWeek + 1));
 
-            HashMap<String, Long> screenUsageOneDay = ScreenUsageHelper.fetchUsageForInterval(usageStatsManager, screenUsageStart, screenUsageStart + ms24Hours, null);
-            HashMap<Integer, Long> mobileUsageOneDay = NetworkUsageHelper.fetchMobileUsageForInterval(networkStatsManager, dataUsageStart, dataUsageStart + ms24Hours);
-            HashMap<Integer, Long> wifiUsageOneDay = NetworkUsageHelper.fetchWifiUsageForInterval(networkStatsManager, dataUsageStart, dataUsageStart + ms24Hours);
+        for (int day = firstLiveDay; day < todayOfWeek; day++) {
+            int liveDay = day - firstLiveDay;
+            HashMap<String, DailyUsage> dayUsage = new HashMap<>(deviceApps.size());
 
             for (AndroidApp app : deviceApps) {
-                app.screenTimeThisWeek.set((i - 1), screenUsageOneDay.getOrDefault(app.packageName, 0L));
+                DailyUsage usage = new DailyUsage();
+                long[] screenUsage = screenUsageLive.get(app.packageName);
+                long[] mobileUsage = mobileUsageLive.get(app.appUid);
+                long[] wifiUsage = wifiUsageLive.get(app.appUid);
 
-                if (mobileUsageOneDay.containsKey(app.appUid)) {
-                    app.mobileUsageThisWeek.set((i - 1), mobileUsageOneDay.getOrDefault(app.appUid, 0L));
-                }
-                if (wifiUsageOneDay.containsKey(app.appUid)) {
-                    app.wifiUsageThisWeek.set((i - 1), wifiUsageOneDay.getOrDefault(app.appUid, 0L));
+                if (screenUsage != null) usage.screenTimeSecs = screenUsage[liveDay];
+                if (mobileUsage != null) usage.mobileUsageKbs = mobileUsage[liveDay];
+                if (wifiUsage != null) usage.wifiUsageKbs = wifiUsage[liveDay];
+                dayUsage.put(app.packageName, usage);
+            }
+            weekUsage.put(dayKeys[day], dayUsage);
+
+            // Roll up the day only once it is final. The data usage day is shifted by the reset time, so it can end
+            // after midnight, and a session started during the day which is still active is not counted yet
+            long dayEnd = Math.max(screenUsageDays[day + 1], dataUsageDays[day + 1]);
+            boolean isDayFinal = dayEnd <= now && openSessionsSince[0] >= screenUsageDays[day + 1];
+            if (isDayFinal && !rolledUpDays.contains(dayKeys[day])) {
+                rollupDb.saveRolledUpDay(dayKeys[day], dayUsage, rollupGeneration);
+            }
+        }
+
+        // Assign the daily usage to apps
+        HashMap<String, AndroidApp> appsByPackage = new HashMap<>(deviceApps.size());
+        for (AndroidApp app : deviceApps) {
+            appsByPackage.put(app.packageName, app);
+        }
+        AndroidApp removedApp = appsByPackage.get(REMOVED_PACKAGE);
+
+        for (int day = 0; day < todayOfWeek; day++) {
+            HashMap<String, DailyUsage> dayUsage = weekUsage.get(dayKeys[day]);
+            if (dayUsage == null) continue;
+
+            for (Map.Entry<String, DailyUsage> entry : dayUsage.entrySet()) {
+                DailyUsage usage = entry.getValue();
+                AndroidApp app = appsByPackage.get(entry.getKey());
+
+                if (app != null) {
+                    app.screenTimeThisWeek[day] = usage.screenTimeSecs;
+                } else {
+                    // The app was uninstalled after its usage was rolled up, so add its data usage to removed apps
+                    app = removedApp;
                 }
+
+                app.mobileUsageThisWeek[day] += usage.mobileUsageKbs;
+                app.wifiUsageThisWeek[day] += usage.wifiUsageKbs;
             }
         }
+    }
 
-        return deviceApps;
+    /**
+     * Calculates the boundaries of the days from the first day of the week till today, both inclusive.
+     *
+     * @param dayCal    The calendar set to the start time of today.
+     * @param daysCount The number of days from the first day of the week till today i.e. today's day of week.
+     * @return An array of (daysCount + 1) timestamps where the day i starts at boundaries[i] and ends at boundaries[i + 1].
+     */
+    @NonNull
+    private static long[] getDayBoundariesOfWeek(@NonNull Calendar dayCal, int daysCount) {
+        Calendar cal = (Calendar) dayCal.clone();
+        cal.add(Calendar.DAY_OF_MONTH, 1 - daysCount);
+
+        long[] boundaries = new long[daysCount + 1];
+        for (int i = 0; i <= daysCount; i++) {
+            boundaries[i] = cal.getTimeInMillis();
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        return boundaries;
     }
 }
@@ -0,0 +1,174 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.AndroidApp;
+import com.mindful.android.models.InstalledApp;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * DeviceAppsStreamHandler streams the device apps to flutter through an EventChannel in stages, so the
+ * dashboard can show the apps before their icons and usage are ready. Every event is a columnar map
+ * (see {@link AndroidApp#toColumnarMap}) with a "type":
+ * <ol>
+ *     <li>"metadata" with the names, package names, flags and launch counts of all the apps.</li>
+ *     <li>"usage" with the weekly usage of all the apps.</li>
+ *     <li>"icons" with the icons of a batch of apps, repeated till all the icons are sent.</li>
+ * </ol>
+ * The stream ends after the last batch of icons.
+ * <p>
+ * Flutter acknowledges every event once it is processed by calling {@link #onEventAcknowledged(int)} through the
+ * method channel with the "generation" of the event. Every stream has a new generation, so a late acknowledgement
+ * of a cancelled stream can not release the permits of the new one. The producer waits when {@link #MAX_EVENTS_IN_FLIGHT} events are not acknowledged yet, so
+ * icons are not loaded faster than the UI consumes them and only a few batches are held at once.
+ */
+public class DeviceAppsStreamHandler implements EventChannel.StreamHandler {
+    private static final String TAG = "Mindful.DeviceAppsStreamHandler";
+    private static final int ICONS_BATCH_SIZE = 24;
+    private static final int MAX_EVENTS_IN_FLIGHT = 2;
+
+    private final Context mContext;
+    private final Supplier<HashMap<String, Integer>> mAppsLaunchCountSupplier;
+    private final Handler mMainThreadHandler = new Handler(Looper.getMainLooper());
+
+    private Semaphore mEventPermits = new Semaphore(MAX_EVENTS_IN_FLIGHT);
+    private int mStreamGeneration = 0;
+    private Thread mProducerThread = null;
+
+    /**
+     * @param context                 The context to use for fetching apps.
+     * @param appsLaunchCountSupplier Supplies the map of package names and their launch count for today when a stream starts.
+     */
+    public DeviceAppsStreamHandler(@NonNull Context context, @NonNull Supplier<HashMap<String, Integer>> appsLaunchCountSupplier) {
+        mContext = context.getApplicationContext();
+        mAppsLaunchCountSupplier = appsLaunchCountSupplier;
+    }
+
+    @Override
+    public void onListen(Object arguments, EventChannel.EventSink events) {
+        // Only one stream at a time, restart if flutter listens again
+        stopProducer();
+
+        HashMap<String, Integer> appsLaunchCountMap = mAppsLaunchCountSupplier.get();
+
+        Semaphore eventPermits = new Semaphore(MAX_EVENTS_IN_FLIGHT);
+        int generation = ++mStreamGeneration;
+        mEventPermits = eventPermits;
+        mProducerThread = new Thread(() -> produceEvents(events, eventPermits, generation, appsLaunchCountMap));
+        mProducerThread.start();
+    }
+
+    @Override
+    public void onCancel(Object arguments) {
+        stopProducer();
+    }
+
+    /**
+     * Called by flutter through the method channel when an event is processed, allowing the producer to send the next one.
+     * Acknowledgements of the events of an older stream are ignored.
+     *
+     * @param generation The generation of the acknowledged event.
+     */
+    public void onEventAcknowledged(int generation) {
+        if (generation == mStreamGeneration) mEventPermits.release();
+    }
+
+    private void stopProducer() {
+        if (mProducerThread != null) {
+            mProducerThread.interrupt();
+            mProducerThread = null;
+        }
+    }
+
+    private void produceEvents(
+            @NonNull EventChannel.EventSink events,
+            @NonNull Semaphore eventPermits,
+            int generation,
+            @NonNull HashMap<String, Integer> appsLaunchCountMap
+    ) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            // Metadata first, it only needs the app inventory
+            List<InstalledApp> launchableApps = DeviceAppsHelper.fetchLaunchableApps(mContext);
+            List<AndroidApp> deviceApps = DeviceAppsHelper.createApps(mContext, launchableApps, appsLaunchCountMap, false);
+            Map<String, Object> metadataEvent = createEvent("metadata", generation);
+            AndroidApp.putMetadataColumns(deviceApps, metadataEvent);
+            sendEvent(events, eventPermits, metadataEvent);
+            Log.d(TAG, "produceEvents: Sent metadata of " + deviceApps.size() + " apps in " + (System.currentTimeMillis() - startTime) + "ms");
+
+            // Then usage of all the apps
+            DeviceAppsHelper.fetchWeekUsage(mContext, deviceApps);
+            Map<String, Object> usageEvent = createEvent("usage", generation);
+            AndroidApp.putUsageColumns(deviceApps, usageEvent);
+            sendEvent(events, eventPermits, usageEvent);
+
+            // Then icons in batches, the icons are released once they are sent
+            for (int from = 0; from < deviceApps.size(); from += ICONS_BATCH_SIZE) {
+                int to = Math.min(from + ICONS_BATCH_SIZE, deviceApps.size());
+                DeviceAppsHelper.loadAppIcons(mContext, launchableApps, deviceApps, from, to);
+
+                Map<String, Object> iconsEvent = createEvent("icons", generation);
+                AndroidApp.putIconColumns(deviceApps, from, to, iconsEvent);
+                sendEvent(events, eventPermits, iconsEvent);
+
+                for (int i = from; i < to; i++) {
+                    deviceApps.get(i).appIcon = null;
+                }
+            }
+
+            mMainThreadHandler.post(events::endOfStream);
+            Log.d(TAG, "produceEvents: Streamed " + deviceApps.size() + " apps in " + (System.currentTimeMillis() - startTime) + "ms");
+        } catch (InterruptedException e) {
+            Log.d(TAG, "produceEvents: Streaming cancelled");
+        } catch (Exception e) {
+            Log.e(TAG, "produceEvents: Failed to stream device apps", e);
+            mMainThreadHandler.post(() -> events.error("STREAM_ERROR", e.getMessage(), null));
+        }
+    }
+
+    @NonNull
+    private static Map<String, Object> createEvent(@NonNull String type, int generation) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("type", type);
+        event.put("generation", generation);
+        return event;
+    }
+
+    /**
+     * Waits till an event permit is available and posts the event to the main thread.
+     */
+    private void sendEvent(
+            @NonNull EventChannel.EventSink events,
+            @NonNull Semaphore eventPermits,
+            @NonNull Map<String, Object> event
+    ) throws InterruptedException {
+        eventPermits.acquire();
+        if (Thread.currentThread().isInterrupted()) throw new InterruptedException();
+        mMainThreadHandler.post(() -> events.success(event));
+    }
+}
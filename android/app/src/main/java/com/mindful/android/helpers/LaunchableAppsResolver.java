@@ -0,0 +1,85 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Intent;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * LaunchableAppsResolver resolves the set of launchable packages with a single bulk query of the launcher
+ * activities, instead of resolving the launch intent of every package one by one. The set is cached and
+ * shared by all the callers till a package is installed, updated or uninstalled.
+ * <p>
+ * A package is launchable if it has a main activity in the {@link Intent#CATEGORY_INFO} or
+ * {@link Intent#CATEGORY_LAUNCHER} category, same as {@link PackageManager#getLaunchIntentForPackage(String)}.
+ */
+public class LaunchableAppsResolver {
+    private static final String TAG = "Mindful.LaunchableAppsResolver";
+
+    private static Set<String> sLaunchablePackages = null;
+
+    /**
+     * Returns the set of launchable packages, resolving it if it is not cached.
+     *
+     * @param packageManager The package manager used to query the launcher activities.
+     * @return An unmodifiable set of package names of the launchable apps.
+     */
+    @NonNull
+    public static synchronized Set<String> getLaunchablePackages(@NonNull PackageManager packageManager) {
+        if (sLaunchablePackages == null) {
+            HashSet<String> launchablePackages = new HashSet<>();
+            addMainActivitiesPackages(packageManager, Intent.CATEGORY_INFO, launchablePackages);
+            addMainActivitiesPackages(packageManager, Intent.CATEGORY_LAUNCHER, launchablePackages);
+            sLaunchablePackages = Collections.unmodifiableSet(launchablePackages);
+            Log.d(TAG, "getLaunchablePackages: Resolved " + launchablePackages.size() + " launchable packages");
+        }
+        return sLaunchablePackages;
+    }
+
+    /**
+     * Checks if the package is launchable using the cached set of launchable packages.
+     *
+     * @param packageManager The package manager used to query the launcher activities if needed.
+     * @param packageName    The package name of the app.
+     * @return True if the app has a launcher activity.
+     */
+    public static boolean isLaunchable(@NonNull PackageManager packageManager, @NonNull String packageName) {
+        return getLaunchablePackages(packageManager).contains(packageName);
+    }
+
+    /**
+     * Drops the cached set, so it is resolved again on the next call. Called when packages are changed.
+     */
+    public static synchronized void invalidate() {
+        sLaunchablePackages = null;
+    }
+
+    private static void addMainActivitiesPackages(@NonNull PackageManager packageManager, @NonNull String category, @NonNull HashSet<String> packages) {
+        Intent intent = new Intent(Intent.ACTION_MAIN);
+        intent.addCategory(category);
+        List<ResolveInfo> activities = packageManager.queryIntentActivities(intent, 0);
+
+        for (ResolveInfo resolveInfo : activities) {
+            if (resolveInfo.activityInfo != null) packages.add(resolveInfo.activityInfo.packageName);
+        }
+    }
+}
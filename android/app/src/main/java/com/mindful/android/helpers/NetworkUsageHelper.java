@@ -17,10 +17,15 @@ import android.app.usage.NetworkStatsManager;
 import android.net.ConnectivityManager;
 import android.os.RemoteException;
 import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseLongArray;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 
-import java.util.HashMap;
+import com.mindful.android.models.NetworkUsage;
+
+import java.util.Arrays;
 
 /**
  * NetworkUsageHelper is a utility class responsible for gathering network usage statistics for
@@ -30,75 +35,171 @@ import java.util.HashMap;
 public class NetworkUsageHelper {
     private static final String TAG = "Mindful.NetworkUsageHelper";
 
+    /**
+     * Fetches mobile data and Wi-Fi usage statistics for a specified time interval. Both networks are queried
+     * one after the other on the calling thread, so it must be called from a background thread.
+     *
+     * @param networkStatsManager The NetworkStatsManager used to query network usage.
+     * @param start               The start time of the interval in milliseconds.
+     * @param end                 The end time of the interval in milliseconds.
+     * @return NetworkUsage with the mobile data and Wi-Fi usage in KBs of every app UID.
+     */
+    @NonNull
+    public static NetworkUsage fetchNetworkUsage(@NonNull NetworkStatsManager networkStatsManager, long start, long end) {
+        SparseLongArray mobileUsage = fetchMobileUsageForInterval(networkStatsManager, start, end);
+        SparseLongArray wifiUsage = fetchWifiUsageForInterval(networkStatsManager, start, end);
+        return new NetworkUsage(mobileUsage, wifiUsage);
+    }
+
     /**
      * Fetches Wi-Fi usage statistics for a specified time interval.
      *
      * @param networkStatsManager The NetworkStatsManager used to query network usage.
      * @param start               The start time of the interval in milliseconds.
      * @param end                 The end time of the interval in milliseconds.
-     * @return A map where keys are app UIDs and values are the corresponding Wi-Fi usage in KBs.
+     * @return A sparse array where keys are app UIDs and values are the corresponding Wi-Fi usage in KBs.
      */
     @NonNull
-    public static HashMap<Integer, Long> fetchWifiUsageForInterval(@NonNull NetworkStatsManager networkStatsManager, long start, long end) {
-        HashMap<Integer, Long> wifiUsageMap = new HashMap<>();
+    public static SparseLongArray fetchWifiUsageForInterval(@NonNull NetworkStatsManager networkStatsManager, long start, long end) {
+        return fetchUsageForInterval(networkStatsManager, ConnectivityManager.TYPE_WIFI, start, end);
+    }
 
-        try {
-            // Fetch Wi-Fi usage
-            NetworkStats networkStatsWifi = networkStatsManager.querySummary(ConnectivityManager.TYPE_WIFI, null, start, end);
-            NetworkStats.Bucket bucketWifi = new NetworkStats.Bucket();
+    /**
+     * Fetches mobile data usage statistics for a specified time interval.
+     *
+     * @param networkStatsManager The NetworkStatsManager used to query network usage.
+     * @param start               The start time of the interval in milliseconds.
+     * @param end                 The end time of the interval in milliseconds.
+     * @return A sparse array where keys are app UIDs and values are the corresponding mobile data usage in KBs.
+     */
+    @NonNull
+    public static SparseLongArray fetchMobileUsageForInterval(@NonNull NetworkStatsManager networkStatsManager, long start, long end) {
+        return fetchUsageForInterval(networkStatsManager, ConnectivityManager.TYPE_MOBILE, start, end);
+    }
 
-            do {
-                networkStatsWifi.getNextBucket(bucketWifi);
-                int uid = bucketWifi.getUid();
-                Long usage = wifiUsageMap.getOrDefault(uid, 0L);
-                usage += bucketWifi.getRxBytes() + bucketWifi.getTxBytes();
-                wifiUsageMap.put(uid, usage);
-            } while (networkStatsWifi.hasNextBucket());
+    /**
+     * Fetches the summary of network usage for a specified time interval. The bytes are summed per UID
+     * directly into primitive values, so no boxing happens per bucket.
+     *
+     * @param networkStatsManager The NetworkStatsManager used to query network usage.
+     * @param networkType         The type of the network, either {@link ConnectivityManager#TYPE_WIFI} or {@link ConnectivityManager#TYPE_MOBILE}.
+     * @param start               The start time of the interval in milliseconds.
+     * @param end                 The end time of the interval in milliseconds.
+     * @return A sparse array where keys are app UIDs and values are the corresponding usage in KBs.
+     */
+    @NonNull
+    private static SparseLongArray fetchUsageForInterval(@NonNull NetworkStatsManager networkStatsManager, int networkType, long start, long end) {
+        SparseLongArray usageArray = new SparseLongArray();
 
-            networkStatsWifi.close();
+        try {
+            NetworkStats networkStats = networkStatsManager.querySummary(networkType, null, start, end);
+            NetworkStats.Bucket bucket = new NetworkStats.Bucket();
+
+            while (networkStats.hasNextBucket()) {
+                networkStats.getNextBucket(bucket);
+                addBytes(usageArray, bucket.getUid(), bucket.getRxBytes() + bucket.getTxBytes());
+            }
 
+            networkStats.close();
         } catch (RemoteException e) {
-            Log.e(TAG, "fetchWifiUsageForInterval: Error in fetching Wi-Fi usage for device apps", e);
+            Log.e(TAG, "fetchUsageForInterval: Error in fetching network usage of type " + networkType + " for device apps", e);
         }
 
         // Convert bytes to KBs
-        wifiUsageMap.replaceAll((k, v) -> (v / 1024));
-        return wifiUsageMap;
+        for (int i = 0; i < usageArray.size(); i++) {
+            usageArray.put(usageArray.keyAt(i), usageArray.valueAt(i) / 1024);
+        }
+        return usageArray;
     }
 
     /**
-     * Fetches mobile data usage statistics for a specified time interval.
+     * Adds the bytes to the usage of the UID in place, without boxing the key or the value.
+     *
+     * @param usageArray The usage of every UID.
+     * @param uid        The UID of the app.
+     * @param bytes      The bytes to add.
+     */
+    @VisibleForTesting
+    static void addBytes(@NonNull SparseLongArray usageArray, int uid, long bytes) {
+        usageArray.put(uid, usageArray.get(uid, 0L) + bytes);
+    }
+
+    /**
+     * Fetches Wi-Fi usage statistics of consecutive intervals (e.g. days of a week) with a single query.
      *
      * @param networkStatsManager The NetworkStatsManager used to query network usage.
-     * @param start               The start time of the interval in milliseconds.
-     * @param end                 The end time of the interval in milliseconds.
-     * @return A map where keys are app UIDs and values are the corresponding mobile data usage in KBs.
+     * @param boundaries          The boundaries of the intervals in ascending order. The interval i starts at
+     *                            boundaries[i] and ends at boundaries[i + 1].
+     * @return A sparse array where keys are app UIDs and values are the corresponding Wi-Fi usage in KBs of every interval.
      */
     @NonNull
-    public static HashMap<Integer, Long> fetchMobileUsageForInterval(@NonNull NetworkStatsManager networkStatsManager, long start, long end) {
-        HashMap<Integer, Long> mobileUsageMap = new HashMap<>();
-
-        try {
-            // Fetch mobile data usage
-            NetworkStats networkStatsMobile = networkStatsManager.querySummary(ConnectivityManager.TYPE_MOBILE, null, start, end);
-            NetworkStats.Bucket bucketMobile = new NetworkStats.Bucket();
+    public static SparseArray<long[]> fetchWifiUsageForIntervals(@NonNull NetworkStatsManager networkStatsManager, @NonNull long[] boundaries) {
+        return fetchUsageForIntervals(networkStatsManager, ConnectivityManager.TYPE_WIFI, boundaries);
+    }
 
-            do {
-                networkStatsMobile.getNextBucket(bucketMobile);
-                int uid = bucketMobile.getUid();
-                Long usage = mobileUsageMap.getOrDefault(uid, 0L);
-                usage += bucketMobile.getRxBytes() + bucketMobile.getTxBytes();
-                mobileUsageMap.put(uid, usage);
-            } while (networkStatsMobile.hasNextBucket());
+    /**
+     * Fetches mobile data usage statistics of consecutive intervals (e.g. days of a week) with a single query.
+     *
+     * @param networkStatsManager The NetworkStatsManager used to query network usage.
+     * @param boundaries          The boundaries of the intervals in ascending order. The interval i starts at
+     *                            boundaries[i] and ends at boundaries[i + 1].
+     * @return A sparse array where keys are app UIDs and values are the corresponding mobile data usage in KBs of every interval.
+     */
+    @NonNull
+    public static SparseArray<long[]> fetchMobileUsageForIntervals(@NonNull NetworkStatsManager networkStatsManager, @NonNull long[] boundaries) {
+        return fetchUsageForIntervals(networkStatsManager, ConnectivityManager.TYPE_MOBILE, boundaries);
+    }
 
-            networkStatsMobile.close();
+    /**
+     * Fetches the detailed network usage history for the whole range and sums the system's time buckets
+     * into the intervals they start in.
+     * <p>
+     * NOTE: The system records the history in buckets of a couple of hours, so the usage is attributed
+     * to the intervals with that granularity.
+     *
+     * @param networkStatsManager The NetworkStatsManager used to query network usage.
+     * @param networkType         The type of the network, either {@link ConnectivityManager#TYPE_WIFI} or {@link ConnectivityManager#TYPE_MOBILE}.
+     * @param boundaries          The boundaries of the intervals in ascending order.
+     * @return A sparse array where keys are app UIDs and values are the corresponding usage in KBs of every interval.
+     */
+    @NonNull
+    private static SparseArray<long[]> fetchUsageForIntervals(@NonNull NetworkStatsManager networkStatsManager, int networkType, @NonNull long[] boundaries) {
+        int intervalsCount = boundaries.length - 1;
+        SparseArray<long[]> usageArray = new SparseArray<>();
 
+        try {
+            NetworkStats networkStats = networkStatsManager.queryDetails(networkType, null, boundaries[0], boundaries[intervalsCount]);
+            NetworkStats.Bucket bucket = new NetworkStats.Bucket();
+
+            while (networkStats.hasNextBucket()) {
+                networkStats.getNextBucket(bucket);
+
+                // Buckets overlapping the start are attributed to the first interval
+                int interval = Arrays.binarySearch(boundaries, bucket.getStartTimeStamp());
+                if (interval < 0) interval = Math.max(0, -interval - 2);
+                if (interval >= intervalsCount) continue;
+
+                int uid = bucket.getUid();
+                long[] usage = usageArray.get(uid);
+                if (usage == null) {
+                    usage = new long[intervalsCount];
+                    usageArray.put(uid, usage);
+                }
+                usage[interval] += bucket.getRxBytes() + bucket.getTxBytes();
+            }
+
+            networkStats.close();
         } catch (RemoteException e) {
-            Log.e(TAG, "fetchMobileUsageForInterval: Error in fetching mobile usage for device apps", e);
+            Log.e(TAG, "fetchUsageForIntervals: Error in fetching network usage of type " + networkType + " for device apps", e);
         }
 
         // Convert bytes to KBs
-        mobileUsageMap.replaceAll((k, v) -> (v / 1024));
-        return mobileUsageMap;
+        for (int i = 0; i < usageArray.size(); i++) {
+            long[] usage = usageArray.valueAt(i);
+            for (int interval = 0; interval < intervalsCount; interval++) {
+                usage[interval] /= 1024;
+            }
+        }
+        return usageArray;
     }
 }
@@ -272,7 +272,7 @@ public class NewActivitiesLaunchHelper {
         }
 
         try {
-            if (context.getPackageManager().getLaunchIntentForPackage(appPackage) != null) {
+            if (LaunchableAppsResolver.isLaunchable(context.getPackageManager(), appPackage)) {
                 Intent intent = new Intent(android.provider.Settings.ACTION_APPLICATION_DETAILS_SETTINGS);
                 intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
                 intent.setData(Uri.parse("package:" + appPackage));
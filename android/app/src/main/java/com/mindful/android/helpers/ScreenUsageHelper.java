@@ -12,15 +12,17 @@
 
 package com.mindful.android.helpers;
 
-import android.app.usage.UsageEvents;
 import android.app.usage.UsageStatsManager;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.mindful.android.models.UsageSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -47,79 +49,180 @@ public class ScreenUsageHelper {
             long end,
             @Nullable String lastActiveAppPackage
     ) {
-        HashMap<String, Long> usageMap = new HashMap<>();
-        UsageEvents usageEvents = usageStatsManager.queryEvents(start, end);
-        Map<String, UsageEvents.Event> lastResumedEvents = new HashMap<>();
-        boolean isFirstEvent = true;
-
-        while (usageEvents.hasNextEvent()) {
-            UsageEvents.Event event = new UsageEvents.Event();
-            usageEvents.getNextEvent(event);
-
-            String packageName = event.getPackageName();
-            String eventKey = packageName + event.getClassName();
-            long timestamp = event.getTimeStamp();
-
-            switch (event.getEventType()) {
-                case UsageEvents.Event.ACTIVITY_RESUMED:
-                    lastResumedEvents.put(eventKey, event);
-                    break;
-
-                case UsageEvents.Event.ACTIVITY_PAUSED:
-                case UsageEvents.Event.ACTIVITY_STOPPED:
-                    Long usageTime = usageMap.getOrDefault(packageName, 0L);
-                    UsageEvents.Event lastResumedEvent = lastResumedEvents.get(eventKey);
-
-                    if (lastResumedEvent != null) {
-                        // Normal case: App was resumed within the interval
-                        usageTime += (timestamp - lastResumedEvent.getTimeStamp());
-                        lastResumedEvents.remove(eventKey);
-                    } else if (isFirstEvent) {
-                        // Edge case: App was opened before start but stopped after start
-                        usageTime += (timestamp - start);
-                        isFirstEvent = false;
-                    }
-                    usageMap.put(packageName, usageTime);
-                    break;
-
-                default:
-                    break;
-            }
+        HashMap<String, long[]> bucketsUsage = accumulateSessions(usageStatsManager, new long[]{start, end}, lastActiveAppPackage, null);
+        HashMap<String, Long> usageMap = new HashMap<>(bucketsUsage.size());
+        for (Map.Entry<String, long[]> entry : bucketsUsage.entrySet()) {
+            usageMap.put(entry.getKey(), entry.getValue()[0]);
         }
+        return usageMap;
+    }
+
+    /**
+     * Fetches screen usage statistics of consecutive intervals (e.g. days of a week) with a single query and
+     * a single pass over the usage events. Sessions crossing the boundary of two intervals are split between them.
+     * Sessions which are still active at the end of the last interval are not included.
+     *
+     * @param usageStatsManager The UsageStatsManager used to query screen usage data.
+     * @param boundaries        The boundaries of the intervals in ascending order. The interval i starts at
+     *                          boundaries[i] and ends at boundaries[i + 1], so there is one interval less than boundaries.
+     * @return A map with package names as keys and the screen usage time in seconds of every interval as values.
+     */
+    @NonNull
+    public static HashMap<String, long[]> fetchUsageForIntervals(@NonNull UsageStatsManager usageStatsManager, @NonNull long[] boundaries) {
+        return accumulateSessions(usageStatsManager, boundaries, null, null);
+    }
+
+    /**
+     * Same as {@link #fetchUsageForIntervals(UsageStatsManager, long[])} but also reports the start time of the
+     * earliest session which is still active at the end of the last interval. The usage of the intervals after
+     * that time is not final yet as the session will be added to them once it ends.
+     *
+     * @param usageStatsManager The UsageStatsManager used to query screen usage data.
+     * @param boundaries        The boundaries of the intervals in ascending order.
+     * @param openSessionsSince The array whose first element receives the start time of the earliest active session,
+     *                          or {@link Long#MAX_VALUE} if there is none.
+     * @return A map with package names as keys and the screen usage time in seconds of every interval as values.
+     */
+    @NonNull
+    public static HashMap<String, long[]> fetchUsageForIntervals(
+            @NonNull UsageStatsManager usageStatsManager,
+            @NonNull long[] boundaries,
+            @NonNull long[] openSessionsSince
+    ) {
+        return accumulateSessions(usageStatsManager, boundaries, null, openSessionsSince);
+    }
 
-        // Handle case where the app is still active
-        if (lastActiveAppPackage != null) {
-            lastResumedEvents.values().stream()
-                    .filter(event -> lastActiveAppPackage.equals(event.getPackageName()))
-                    .findFirst()
-                    .ifPresent(event -> {
-                        long usageTime = usageMap.getOrDefault(lastActiveAppPackage, 0L);
-                        usageTime += (end - event.getTimeStamp());
-                        usageMap.put(lastActiveAppPackage, usageTime);
-                    });
+    /**
+     * Fetches the hour-of-day screen usage of every app for a day with a single pass over the usage events.
+     * Sessions crossing an hour boundary are split between the hours.
+     *
+     * @param usageStatsManager The UsageStatsManager used to query screen usage data.
+     * @param dayStart          The start time of the day (midnight) in milliseconds.
+     * @return A map with package names as keys and an array of 24 screen usage times in seconds, one for every hour, as values.
+     */
+    @NonNull
+    public static HashMap<String, long[]> fetchHourlyUsageForDay(@NonNull UsageStatsManager usageStatsManager, long dayStart) {
+        Calendar hourCal = Calendar.getInstance();
+        hourCal.setTimeInMillis(dayStart);
+
+        // Set the hour of day instead of adding fixed intervals to respect the day light saving shifts
+        long[] boundaries = new long[25];
+        for (int hour = 0; hour < 24; hour++) {
+            hourCal.set(Calendar.HOUR_OF_DAY, hour);
+            boundaries[hour] = Math.max(hourCal.getTimeInMillis(), hour > 0 ? boundaries[hour - 1] : 0L);
         }
+        hourCal.set(Calendar.HOUR_OF_DAY, 0);
+        hourCal.add(Calendar.DAY_OF_MONTH, 1);
+        boundaries[24] = hourCal.getTimeInMillis();
 
-        // Convert milliseconds to seconds
-        usageMap.replaceAll((key, value) -> value / 1000);
-        return usageMap;
+        return fetchUsageForIntervals(usageStatsManager, boundaries);
     }
 
     /**
-     * Fetches the screen usage time of a all installed application for the current day until now using usage events.
+     * Streams the usage sessions from the first to the last boundary and accumulates them into the intervals
+     * between the boundaries. The running totals are kept in primitive arrays, the boxed map is only built for the result.
      *
      * @param usageStatsManager    The UsageStatsManager used to query screen usage data.
-     * @param lastActiveAppPackage The package name of the app which is active last time.
-     * @return The total screen usage time of the specified application in seconds.
+     * @param boundaries           The boundaries of the intervals in ascending order.
+     * @param lastActiveAppPackage The package name of the app whose open session should be included till the end, if any.
+     * @param openSessionsSince    The array receiving the start time of the earliest skipped open session, if any.
+     * @return A map with package names as keys and the screen usage time in seconds of every interval as values.
      */
     @NonNull
-    public static HashMap<String, Long> fetchAppUsageTodayTillNow(@NonNull UsageStatsManager usageStatsManager, @Nullable String lastActiveAppPackage) {
-        Calendar midNightCal = Calendar.getInstance();
-        midNightCal.set(Calendar.HOUR_OF_DAY, 0);
-        midNightCal.set(Calendar.MINUTE, 0);
-        midNightCal.set(Calendar.SECOND, 0);
-
-        long start = midNightCal.getTimeInMillis();
-        long end = System.currentTimeMillis();
-        return fetchUsageForInterval(usageStatsManager, start, end, lastActiveAppPackage);
+    private static HashMap<String, long[]> accumulateSessions(
+            @NonNull UsageStatsManager usageStatsManager,
+            @NonNull long[] boundaries,
+            @Nullable String lastActiveAppPackage,
+            @Nullable long[] openSessionsSince
+    ) {
+        UsageSessionIterator sessions = new UsageSessionIterator(
+                usageStatsManager,
+                boundaries[0],
+                boundaries[boundaries.length - 1],
+                lastActiveAppPackage != null
+        );
+        UsageAccumulator accumulator = new UsageAccumulator(boundaries);
+        if (openSessionsSince != null) openSessionsSince[0] = Long.MAX_VALUE;
+
+        while (sessions.hasNext()) {
+            UsageSession session = sessions.next();
+
+            // Only the open session of the active app is counted till the end
+            if (session.isOpen && !session.packageName.equals(lastActiveAppPackage)) {
+                if (openSessionsSince != null) openSessionsSince[0] = Math.min(openSessionsSince[0], session.startTime);
+                continue;
+            }
+            accumulator.addUsage(session.packageName, session.startTime, session.endTime);
+        }
+
+        return accumulator.toBucketsUsageInSeconds();
+    }
+
+    /**
+     * Accumulates screen usage per package and interval without allocating per session.
+     * Every package gets a dense int id which indexes the primitive arrays of running totals.
+     */
+    private static class UsageAccumulator {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final HashMap<String, Integer> mPackageIds = new HashMap<>(INITIAL_CAPACITY);
+        private final ArrayList<String> mPackages = new ArrayList<>(INITIAL_CAPACITY);
+        private final long[] mBoundaries;
+        private final int mBucketsCount;
+
+        // Indexed by (package id * buckets count + bucket)
+        private long[] mUsageMs;
+
+        UsageAccumulator(@NonNull long[] boundaries) {
+            mBoundaries = boundaries;
+            mBucketsCount = boundaries.length - 1;
+            mUsageMs = new long[INITIAL_CAPACITY * mBucketsCount];
+        }
+
+        /**
+         * Adds the session to the package, splitting it across the intervals it overlaps.
+         */
+        void addUsage(@NonNull String packageName, long from, long to) {
+            int packageId = packageIdOf(packageName);
+
+            from = Math.max(from, mBoundaries[0]);
+            int bucket = Arrays.binarySearch(mBoundaries, from);
+            if (bucket < 0) bucket = -bucket - 2;
+
+            int offset = packageId * mBucketsCount;
+            while (from < to && bucket < mBucketsCount) {
+                long sliceEnd = Math.min(to, mBoundaries[bucket + 1]);
+                mUsageMs[offset + bucket] += (sliceEnd - from);
+                from = sliceEnd;
+                bucket++;
+            }
+        }
+
+        @NonNull
+        HashMap<String, long[]> toBucketsUsageInSeconds() {
+            HashMap<String, long[]> usageMap = new HashMap<>(mPackages.size());
+            for (int packageId = 0; packageId < mPackages.size(); packageId++) {
+                long[] usageSecs = new long[mBucketsCount];
+                int offset = packageId * mBucketsCount;
+                for (int bucket = 0; bucket < mBucketsCount; bucket++) {
+                    usageSecs[bucket] = mUsageMs[offset + bucket] / 1000;
+                }
+                usageMap.put(mPackages.get(packageId), usageSecs);
+            }
+            return usageMap;
+        }
+
+        private int packageIdOf(@NonNull String packageName) {
+            Integer packageId = mPackageIds.get(packageName);
+            if (packageId != null) return packageId;
+
+            int newId = mPackages.size();
+            mPackageIds.put(packageName, newId);
+            mPackages.add(packageName);
+            if ((newId + 1) * mBucketsCount > mUsageMs.length) {
+                mUsageMs = Arrays.copyOf(mUsageMs, newId * 2 * mBucketsCount);
+            }
+            return newId;
+        }
     }
 }
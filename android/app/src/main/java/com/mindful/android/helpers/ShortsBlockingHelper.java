@@ -12,166 +12,322 @@
 
 package com.mindful.android.helpers;
 
+import android.content.Context;
+import android.content.Intent;
+import android.util.Log;
 import android.view.accessibility.AccessibilityNodeInfo;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
+import com.mindful.android.R;
+import com.mindful.android.models.ContentBlockingSnapshot;
+import com.mindful.android.models.ShortsRule;
 import com.mindful.android.models.WellBeingSettings;
+import com.mindful.android.services.MindfulAccessibilityService;
+import com.mindful.android.utils.Utils;
 
-import org.jetbrains.annotations.Contract;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class to handle blocking of short-form content platforms
  * and detect when such content is open based on accessibility node information.
+ * <p>
+ * The detection is driven by the {@link ShortsRule} table bundled in {@code res/raw/shorts_rules.json}, which can be
+ * replaced at runtime by {@link #updateRules(Context, String)} when an app changes its views. The rules are compiled
+ * into one {@link PackageMatcher} per package on its first event, with the view ids already resolved for the package.
+ * <p>
+ * NOTE: This class is thread safe as the accessibility events are processed on a pool of threads.
  */
 public class ShortsBlockingHelper {
-
-    // App package names
-    public static final String INSTAGRAM_PACKAGE = "com.instagram.android";
-    public static final String YOUTUBE_PACKAGE = "com.google.android.youtube";
-    public static final String YOUTUBE_CLIENT_PACKAGE_PREFIX = ".android.youtube";
-    public static final String SNAPCHAT_PACKAGE = "com.snapchat.android";
-    public static final String FACEBOOK_PACKAGE = "com.facebook.katana";
-    public static final String REDDIT_PACKAGE = "com.reddit.frontpage";
-
-    // Possible URLs of different short-form content platforms
-    private static final List<String> mInstaReelUrls = new ArrayList<>(Arrays.asList("instagram.com/reels/", "m.instagram.com/reels/"));
-    private static final List<String> mYtShortUrls = new ArrayList<>(Arrays.asList("youtube.com/shorts/", "m.youtube.com/shorts/"));
-    private static final List<String> mSnapSpotlightUrls = new ArrayList<>(Arrays.asList("snapchat.com/spotlight/", "m.snapchat.com/spotlight/", "web.snapchat.com/spotlight/"));
-    private static final List<String> mFbReelUrls = new ArrayList<>(Arrays.asList("facebook.com/reel/", "m.facebook.com/reel/"));
-
-    private static final HashSet<String> mFbNodeIds = new HashSet<>(Arrays.asList("Add a comment…", "कमेंट जोड़ें…"));
+    private static final String TAG = "Mindful.ShortsBlockingHelper";
+    private static final String RULES_FILE_NAME = "shorts_rules.json";
 
     /**
-     * Checks if Instagram Reels is currently open based on accessibility node information.
-     *
-     * @param node The root AccessibilityNodeInfo of the view hierarchy.
-     * @return True if Instagram Reels is open, false otherwise.
+     * Cached in place of a matcher for the packages without any rule.
      */
-    public static boolean isInstaReelsOpen(@NonNull AccessibilityNodeInfo node) {
-        CharSequence nodeId = node.getViewIdResourceName();
-        // Check root node
-        if (nodeId != null && nodeId.equals("com.instagram.android:id/clips_viewer_view_pager")) {
-            return true;
-        }
-        return doesNodeByIdExists(node, "com.instagram.android:id/clips_video_container");
-    }
+    private static final PackageMatcher NO_MATCHER = new PackageMatcher();
+
+    private static ShortsBlockingHelper sInstance;
+
+    private final List<ShortsRule> mRules;
+    private final ConcurrentHashMap<String, PackageMatcher> mPackageMatchers = new ConcurrentHashMap<>();
 
     /**
-     * Checks if YouTube Shorts is currently open based on accessibility node information.
+     * Creates a helper with the given rules instead of the bundled or updated ones.
      *
-     * @param node              The AccessibilityNodeInfo of the view.
-     * @param clientPackageName The package name of the youtube client which is open.
-     * @return True if YouTube Shorts is open, false otherwise.
+     * @param rules The rules in the order they are checked.
      */
-    public static boolean isYoutubeShortsOpen(@NonNull AccessibilityNodeInfo node, @NonNull String clientPackageName) {
-        CharSequence nodeId = node.getViewIdResourceName();
-        if (nodeId != null
-                && (nodeId.equals(clientPackageName + ":id/reel_progress_bar")
-                || nodeId.equals(clientPackageName + ":id/reel_player_page_container")
-                || nodeId.equals(clientPackageName + ":id/reel_recycler"))) {
-            return true;
-        }
-        return doesNodeByIdExists(node, clientPackageName + ":id/reel_player_underlay");
+    @VisibleForTesting
+    ShortsBlockingHelper(@NonNull List<ShortsRule> rules) {
+        mRules = rules;
     }
 
     /**
-     * Checks if Snapchat Spotlight is currently open based on accessibility node information.
+     * Returns the instance with the updated rules if any, otherwise with the bundled ones.
      *
-     * @param node The AccessibilityNodeInfo of the view.
-     * @return True if Snapchat Spotlight is open, false otherwise.
+     * @param context The application context.
+     * @return The instance of the helper.
      */
-    public static boolean isSnapchatSpotlightOpen(@NonNull AccessibilityNodeInfo node) {
-        return doesNodeByIdExists(node, "com.snapchat.android:id/spotlight_view_count");
+    @NonNull
+    public static synchronized ShortsBlockingHelper getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            long startTime = System.currentTimeMillis();
+            List<ShortsRule> rules = loadRules(context.getApplicationContext());
+            sInstance = new ShortsBlockingHelper(rules);
+            Log.d(TAG, "getInstance: Loaded " + rules.size() + " rules in " + (System.currentTimeMillis() - startTime) + "ms");
+        }
+        return sInstance;
     }
 
     /**
-     * Checks if Facebook Reels is currently open based on accessibility node information.
+     * Replaces the bundled rules with the provided rules table and lets the accessibility service reload them.
+     * <p>
+     * The update is all or nothing: a single invalid rule rejects the whole table and the current rules are kept,
+     * so a partially applied table never disables the detection of an app. The invalid rule is logged.
      *
-     * @param node The AccessibilityNodeInfo of the view.
-     * @return True if Facebook Reels is open, false otherwise.
+     * @param context   The application context.
+     * @param rulesJson The rules table in the same format as {@code res/raw/shorts_rules.json}, or an empty string
+     *                  to restore the bundled rules.
+     * @return True if every rule is valid and the rules are updated, false if the table is rejected.
      */
-    public static boolean isFacebookReelsOpen(@NonNull AccessibilityNodeInfo node) {
-        // TODO: Add more string translated from different languages for the node text
-        //  as user may have set different language for facebook app
+    public static boolean updateRules(@NonNull Context context, @NonNull String rulesJson) {
+        File rulesFile = getRulesFile(context);
 
-        if (doesNodeHaveFbCommentText(node)) return true;
+        if (rulesJson.isEmpty()) {
+            if (rulesFile.exists() && !rulesFile.delete()) return false;
+        } else {
+            try {
+                if (parseRules(rulesJson, true).isEmpty()) return false;
 
-        for (int i = 0; i < node.getChildCount(); i++) {
-            AccessibilityNodeInfo childNode = node.getChild(i);
-            if (childNode == null) continue;
-            if (doesNodeHaveFbCommentText(node)) return true;
+                File tempFile = new File(rulesFile.getPath() + ".tmp");
+                try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                    outputStream.write(rulesJson.getBytes(StandardCharsets.UTF_8));
+                }
+                if (!tempFile.renameTo(rulesFile)) {
+                    tempFile.delete();
+                    return false;
+                }
+            } catch (JSONException | IOException e) {
+                Log.e(TAG, "updateRules: Rejected the rules table, keeping the current rules", e);
+                return false;
+            }
         }
 
-        return false;
+        synchronized (ShortsBlockingHelper.class) {
+            sInstance = null;
+        }
+        notifyAccessibilityService(context);
+        return true;
     }
 
     /**
-     * Checks if Reddit Shorts is currently open based on accessibility node information.
+     * Returns the rules enabled by the settings.
      *
-     * @param node The AccessibilityNodeInfo of the view.
-     * @return True if Reddit Shorts is open, false otherwise.
+     * @param settings The well-being settings.
+     * @return The list of enabled rules.
      */
-    public static boolean isRedditShortsOpen(@NonNull AccessibilityNodeInfo node) {
-        CharSequence nodeId = node.getViewIdResourceName();
-        return nodeId != null && nodeId.equals("feed_vertical_pager");
+    @NonNull
+    public List<ShortsRule> getEnabledRules(@NonNull WellBeingSettings settings) {
+        List<ShortsRule> enabledRules = new ArrayList<>(mRules.size());
+        for (ShortsRule rule : mRules) {
+            if (rule.isEnabled(settings)) enabledRules.add(rule);
+        }
+        return enabledRules;
     }
 
     /**
-     * Checks if a short-form content website is open in the browser based on WellBeingSettings.
+     * Returns the compiled matcher of the native app. The first rule applying to the package is used.
      *
-     * @param settings The WellBeingSettings model indicating which platforms are blocked.
-     * @param url      The URL text from the browser.
-     * @return True if a blocked short-form content website is open, false otherwise.
+     * @param packageName The package name of the app.
+     * @return The matcher or null if no rule applies to the app.
      */
-    public static boolean isShortContentOpenOnBrowser(@NonNull WellBeingSettings settings, String url) {
-        return (settings.blockInstaReels && doesUrlContainsAnyElement(mInstaReelUrls, url))
-                || (settings.blockYtShorts && doesUrlContainsAnyElement(mYtShortUrls, url))
-                || (settings.blockSnapSpotlight && doesUrlContainsAnyElement(mSnapSpotlightUrls, url))
-                || (settings.blockFbReels && doesUrlContainsAnyElement(mFbReelUrls, url));
+    @Nullable
+    public PackageMatcher getMatcher(@NonNull String packageName) {
+        PackageMatcher matcher = mPackageMatchers.get(packageName);
+        if (matcher == null) {
+            matcher = NO_MATCHER;
+            for (ShortsRule rule : mRules) {
+                if (rule.appliesTo(packageName)) {
+                    matcher = new PackageMatcher(rule, packageName);
+                    break;
+                }
+            }
+            mPackageMatchers.put(packageName, matcher);
+        }
+        return matcher == NO_MATCHER ? null : matcher;
     }
 
-    /**
-     * Checks if the URL contains any of the elements from the provided list of URLs.
-     *
-     * @param urlList The list of URL substrings to check against.
-     * @param url     The URL to check.
-     * @return True if the URL contains any element from the list, false otherwise.
-     */
-    @Contract(pure = true)
-    private static boolean doesUrlContainsAnyElement(@NonNull List<String> urlList, String url) {
-        for (String element : urlList) {
-            if (url.contains(element)) return true;
+    @NonNull
+    private static List<ShortsRule> loadRules(@NonNull Context context) {
+        // Prefer the updated rules, fallback to the bundled ones if they are broken
+        File rulesFile = getRulesFile(context);
+        if (rulesFile.exists()) {
+            try (InputStream inputStream = new FileInputStream(rulesFile)) {
+                List<ShortsRule> rules = parseRules(readString(inputStream), false);
+                if (!rules.isEmpty()) return rules;
+            } catch (JSONException | IOException e) {
+                Log.e(TAG, "loadRules: Unable to load the updated rules, using bundled ones", e);
+            }
+        }
+
+        try (InputStream inputStream = context.getResources().openRawResource(R.raw.shorts_rules)) {
+            return parseRules(readString(inputStream), false);
+        } catch (JSONException | IOException e) {
+            Log.e(TAG, "loadRules: Unable to load the bundled rules", e);
+            return Collections.emptyList();
         }
-        return false;
     }
 
     /**
-     * Checks whether an AccessibilityNodeInfo with the specified view ID exists as a descendant
-     * of the given node.
+     * Parses the rules table. The rules with an unknown setting or without any view id, text or url are invalid.
      *
-     * @param node   The parent AccessibilityNodeInfo to search within. This parameter must not be null.
-     * @param viewId The ID of the view to look for.
-     * @return {@code true} if a node with the specified view ID exists, {@code false} otherwise.
+     * @param rulesJson The JSON of the rules table.
+     * @param isStrict  If true, an invalid rule rejects the whole table, otherwise it is skipped.
+     * @return The list of valid rules.
+     * @throws JSONException If the JSON is malformed or, in strict mode, a rule is invalid.
      */
-    private static boolean doesNodeByIdExists(@NonNull AccessibilityNodeInfo node, String viewId) {
-        List<AccessibilityNodeInfo> nodes = node.findAccessibilityNodeInfosByViewId(viewId);
-        return nodes != null && !nodes.isEmpty();
+    @NonNull
+    private static List<ShortsRule> parseRules(@NonNull String rulesJson, boolean isStrict) throws JSONException {
+        JSONArray rulesArray = new JSONObject(rulesJson).getJSONArray("rules");
+        List<ShortsRule> rules = new ArrayList<>(rulesArray.length());
+        for (int i = 0; i < rulesArray.length(); i++) {
+            ShortsRule rule = new ShortsRule(rulesArray.getJSONObject(i));
+            if (!rule.isValid()) {
+                String message = "Invalid rule '" + rule.name + "' at index " + i + " with setting '" + rule.setting + "'";
+                if (isStrict) throw new JSONException(message);
+                Log.w(TAG, "parseRules: Skipping " + message);
+                continue;
+            }
+            rules.add(rule);
+        }
+        return Collections.unmodifiableList(rules);
+    }
+
+    @NonNull
+    private static String readString(@NonNull InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8 * 1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @NonNull
+    private static File getRulesFile(@NonNull Context context) {
+        return new File(context.getFilesDir(), RULES_FILE_NAME);
+    }
+
+    private static void notifyAccessibilityService(@NonNull Context context) {
+        if (Utils.isServiceRunning(context, MindfulAccessibilityService.class.getName())) {
+            Intent serviceIntent = new Intent(context.getApplicationContext(), MindfulAccessibilityService.class)
+                    .setAction(MindfulAccessibilityService.ACTION_SHORTS_RULES_UPDATED);
+            context.startService(serviceIntent);
+        }
     }
 
     /**
-     * Checks whether the text of the given AccessibilityNodeInfo matches with one of the facebook comment nodes text.
-     *
-     * @param node The AccessibilityNodeInfo whose text is to be checked.
-     * @return {@code true} if the node's text matches, {@code false} otherwise.
+     * The rule compiled for a single package. The checks run from the cheapest to the costliest and stop at the
+     * first match: the root's view id and text are already fetched with the node, the children cost one query
+     * each and every descendant id is a search of the whole window.
      */
-    private static boolean doesNodeHaveFbCommentText(@NonNull AccessibilityNodeInfo node) {
-        CharSequence nodeText = node.getText();
-        return nodeText != null && mFbNodeIds.contains(nodeText.toString());
+    public static class PackageMatcher implements ContentBlockingSnapshot.ShortsCheck {
+        public final ShortsRule rule;
+        private final HashSet<String> mRootIds;
+        private final HashSet<String> mTexts;
+        private final String[] mDescendantIds;
+
+        private PackageMatcher() {
+            rule = null;
+            mRootIds = new HashSet<>(0);
+            mTexts = new HashSet<>(0);
+            mDescendantIds = new String[0];
+        }
+
+        private PackageMatcher(@NonNull ShortsRule rule, @NonNull String packageName) {
+            this.rule = rule;
+            mRootIds = new HashSet<>(rule.rootIds.size());
+            for (String id : rule.rootIds) mRootIds.add(resolveId(id, packageName));
+
+            mTexts = new HashSet<>(rule.texts);
+
+            mDescendantIds = new String[rule.descendantIds.size()];
+            for (int i = 0; i < mDescendantIds.length; i++) {
+                mDescendantIds[i] = resolveId(rule.descendantIds.get(i), packageName);
+            }
+        }
+
+        @Override
+        public boolean isShortsOpen(@NonNull AccessibilityNodeInfo node, @NonNull String packageName) {
+            // Check root node
+            if (!mRootIds.isEmpty()) {
+                CharSequence nodeId = node.getViewIdResourceName();
+                if (nodeId != null && mRootIds.contains(nodeId.toString())) return true;
+            }
+
+            // Check texts of the root and its direct children
+            if (!mTexts.isEmpty()) {
+                if (doesNodeHaveText(node)) return true;
+                for (int i = 0; i < node.getChildCount(); i++) {
+                    AccessibilityNodeInfo childNode = node.getChild(i);
+                    if (childNode == null) continue;
+
+                    try {
+                        if (doesNodeHaveText(childNode)) return true;
+                    } finally {
+                        recycleNode(childNode);
+                    }
+                }
+            }
+
+            // Search descendants at last
+            for (String viewId : mDescendantIds) {
+                List<AccessibilityNodeInfo> nodes = node.findAccessibilityNodeInfosByViewId(viewId);
+                if (nodes == null) continue;
+
+                try {
+                    if (!nodes.isEmpty()) return true;
+                } finally {
+                    for (AccessibilityNodeInfo foundNode : nodes) recycleNode(foundNode);
+                }
+            }
+            return false;
+        }
+
+        private boolean doesNodeHaveText(@NonNull AccessibilityNodeInfo node) {
+            CharSequence nodeText = node.getText();
+            return nodeText != null && mTexts.contains(nodeText.toString());
+        }
+
+        @SuppressWarnings("deprecation")
+        private static void recycleNode(@NonNull AccessibilityNodeInfo node) {
+            try {
+                node.recycle();
+            } catch (Exception ignored) {
+            }
+        }
+
+        @NonNull
+        private static String resolveId(@NonNull String id, @NonNull String packageName) {
+            return id.replace(ShortsRule.PACKAGE_PLACEHOLDER, packageName);
+        }
     }
 }
@@ -0,0 +1,118 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.models.UsageSession;
+
+import java.util.Calendar;
+import java.util.HashMap;
+
+/**
+ * TodayUsageLedger keeps the screen usage of every app for the current day. Instead of replaying every event
+ * since midnight, it advances from a watermark and only applies the usage events recorded after the last advance.
+ * <p>
+ * The watermark is kept across device lock/unlock, as the events recorded meanwhile are read on the next advance.
+ * The ledger starts over from midnight when the day changes or when it is invalidated by the midnight reset.
+ */
+public class TodayUsageLedger {
+    private static final String TAG = "Mindful.TodayUsageLedger";
+
+    private final UsageEventsCursor mUsageEventsCursor;
+    private final UsageSessionPairer mSessionPairer = new UsageSessionPairer(0L);
+    private final HashMap<String, Long> mPackagesUsageMs = new HashMap<>();
+
+    private long mDayStart = 0L;
+    private boolean mIsInvalidated = true;
+
+    public TodayUsageLedger(@NonNull UsageStatsManager usageStatsManager) {
+        mUsageEventsCursor = new UsageEventsCursor(usageStatsManager, Long.MAX_VALUE);
+    }
+
+    /**
+     * Marks the ledger for rebuilding. The ledger will be rebuilt from midnight on the next advance.
+     */
+    public synchronized void invalidate() {
+        mIsInvalidated = true;
+    }
+
+    /**
+     * Applies the usage events recorded after the last advance. If the ledger is invalidated or the day
+     * has changed since the last advance then it is rebuilt from midnight.
+     *
+     * @param now The current time in milliseconds.
+     */
+    public synchronized void advance(long now) {
+        long dayStart = getDayStart(now);
+        if (mIsInvalidated || dayStart != mDayStart) {
+            mDayStart = dayStart;
+            mIsInvalidated = false;
+            mPackagesUsageMs.clear();
+            mSessionPairer.reset(dayStart);
+            mUsageEventsCursor.seekTo(dayStart);
+            Log.d(TAG, "advance: Rebuilding ledger from midnight");
+        }
+
+        mUsageEventsCursor.readNewEvents(now, this::onNewUsageEvent);
+    }
+
+    /**
+     * Returns the screen time of the app for the current day till the last advance. If the app is the
+     * active app then its ongoing session is also included till now.
+     *
+     * @param packageName   The package name of the app.
+     * @param activePackage The package name of the app which is active right now, if any.
+     * @param now           The current time in milliseconds.
+     * @return The screen time in seconds.
+     */
+    public synchronized long getScreenTimeSecs(@NonNull String packageName, @Nullable String activePackage, long now) {
+        long usageMs = mPackagesUsageMs.getOrDefault(packageName, 0L);
+        if (packageName.equals(activePackage)) {
+            long openSessionStart = mSessionPairer.getLatestOpenSessionStart(packageName);
+            if (openSessionStart >= 0) usageMs += (now - openSessionStart);
+        }
+
+        return usageMs / 1000;
+    }
+
+    /**
+     * Applies a single usage event to the ledger.
+     *
+     * @param event The new usage event read by the cursor.
+     */
+    private void onNewUsageEvent(@NonNull UsageEvents.Event event) {
+        // The cursor may overlap the previous day a little
+        if (event.getTimeStamp() < mDayStart) return;
+
+        UsageSession session = mSessionPairer.onEvent(event);
+        if (session != null) {
+            mPackagesUsageMs.put(session.packageName, mPackagesUsageMs.getOrDefault(session.packageName, 0L) + session.getDurationMs());
+        }
+    }
+
+    private static long getDayStart(long now) {
+        Calendar midNightCal = Calendar.getInstance();
+        midNightCal.setTimeInMillis(now);
+        midNightCal.set(Calendar.HOUR_OF_DAY, 0);
+        midNightCal.set(Calendar.MINUTE, 0);
+        midNightCal.set(Calendar.SECOND, 0);
+        midNightCal.set(Calendar.MILLISECOND, 0);
+        return midNightCal.getTimeInMillis();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+
+/**
+ * UsageEventsCursor incrementally reads usage events from the UsageStatsManager.
+ * It remembers the timestamp of the last event it handled and only asks the system for newer events
+ * instead of re-reading a fixed window on every call.
+ * <p>
+ * The system may record an event a little after it actually happened, so every query still overlaps
+ * the end of the previous one by a small tolerance, no matter how recent the last handled event is.
+ * Events which were already handled inside this overlap are recognised by their timestamp, type, package
+ * and class and are skipped.
+ */
+public class UsageEventsCursor {
+
+    /**
+     * The maximum delay after which the system may still deliver an event which happened before the last query ended.
+     */
+    private static final long LATE_DELIVERY_TOLERANCE_MS = 500L;
+
+    /**
+     * The default maximum interval the cursor will look back, even if it was not advanced for a long time.
+     * This keeps the first read after a long pause (e.g. device was locked) cheap.
+     */
+    private static final long DEFAULT_MAX_LOOK_BACK_MS = 60 * 1000L;
+
+    /**
+     * The maximum number of handled events remembered for skipping duplicates. The overlap of two queries
+     * rarely holds more than a few events, so the oldest ones are dropped beyond this limit.
+     */
+    private static final int MAX_HANDLED_EVENTS = 256;
+
+    private final UsageStatsManager mUsageStatsManager;
+    private final long mMaxLookBackMs;
+    private final UsageEvents.Event mEvent;
+    private final LinkedHashSet<HandledEvent> mHandledEvents = new LinkedHashSet<>(16);
+
+    private long mLastQueryEnd = 0L;
+
+    /**
+     * Callback invoked for every usage event which was not handled by the cursor before.
+     */
+    public interface OnNewEventListener {
+        /**
+         * Called for a new usage event. The event instance is reused by the cursor,
+         * so it must not be stored by the listener.
+         *
+         * @param event The new usage event.
+         */
+        void onNewEvent(@NonNull UsageEvents.Event event);
+    }
+
+    public UsageEventsCursor(@NonNull UsageStatsManager usageStatsManager) {
+        this(usageStatsManager, DEFAULT_MAX_LOOK_BACK_MS);
+    }
+
+    /**
+     * @param usageStatsManager The UsageStatsManager used to query usage events.
+     * @param maxLookBackMs     The maximum interval in milliseconds the cursor will look back from the current time.
+     *                          Use {@link Long#MAX_VALUE} if no event may be skipped.
+     */
+    public UsageEventsCursor(@NonNull UsageStatsManager usageStatsManager, long maxLookBackMs) {
+        this(usageStatsManager, maxLookBackMs, new UsageEvents.Event());
+    }
+
+    @VisibleForTesting
+    UsageEventsCursor(@NonNull UsageStatsManager usageStatsManager, long maxLookBackMs, @NonNull UsageEvents.Event event) {
+        mUsageStatsManager = usageStatsManager;
+        mMaxLookBackMs = maxLookBackMs;
+        mEvent = event;
+    }
+
+    /**
+     * Moves the cursor to the specified time. The next read will return events from this time onwards.
+     *
+     * @param timestamp The time in milliseconds from where the cursor should start reading.
+     */
+    public void seekTo(long timestamp) {
+        mLastQueryEnd = timestamp;
+        mHandledEvents.clear();
+    }
+
+    /**
+     * Reads the events which were recorded after the last read and passes every event,
+     * which was not handled before, to the listener in chronological order.
+     *
+     * @param now      The current time in milliseconds. It is used as the end of the query.
+     * @param listener The listener which will receive the new events.
+     * @return The number of new events passed to the listener.
+     */
+    public int readNewEvents(long now, @NonNull OnNewEventListener listener) {
+        // Always overlap the previous query by the late delivery tolerance window, as an event recorded late
+        // may be older than the last handled one. The duplicates in the overlap are skipped below.
+        long lookBackLimit = now - Math.min(now, mMaxLookBackMs);
+        long start = mLastQueryEnd <= 0
+                ? lookBackLimit
+                : mLastQueryEnd - LATE_DELIVERY_TOLERANCE_MS;
+        start = Math.max(start, lookBackLimit);
+
+        // Forget handled events which can no longer be returned by the query
+        pruneHandledEvents(start);
+
+        int newEventsCount = 0;
+        UsageEvents usageEvents = mUsageStatsManager.queryEvents(start, now);
+        if (usageEvents != null) {
+            while (usageEvents.hasNextEvent()) {
+                usageEvents.getNextEvent(mEvent);
+                if (!markAsHandled(mEvent)) continue;
+
+                newEventsCount++;
+                listener.onNewEvent(mEvent);
+            }
+        }
+
+        mLastQueryEnd = now;
+        return newEventsCount;
+    }
+
+    /**
+     * Removes handled events older than the specified time as they will not be queried again.
+     *
+     * @param start The start time of the next query.
+     */
+    private void pruneHandledEvents(long start) {
+        Iterator<HandledEvent> iterator = mHandledEvents.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().timestamp < start) iterator.remove();
+        }
+    }
+
+    /**
+     * Marks the event as handled if it is not already.
+     *
+     * @param event The event to mark.
+     * @return True if the event is new, false if it was already handled.
+     */
+    private boolean markAsHandled(@NonNull UsageEvents.Event event) {
+        HandledEvent handled = new HandledEvent(
+                event.getTimeStamp(),
+                event.getEventType(),
+                event.getPackageName(),
+                event.getClassName()
+        );
+        if (!mHandledEvents.add(handled)) return false;
+
+        // Drop the oldest handled event once the limit is reached
+        if (mHandledEvents.size() > MAX_HANDLED_EVENTS) {
+            Iterator<HandledEvent> iterator = mHandledEvents.iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        return true;
+    }
+
+    /**
+     * Identity of an event which was already passed to the listener.
+     */
+    private static class HandledEvent {
+        final long timestamp;
+        final int eventType;
+        final String packageName;
+        final String className;
+
+        HandledEvent(long timestamp, int eventType, String packageName, String className) {
+            this.timestamp = timestamp;
+            this.eventType = eventType;
+            this.packageName = packageName;
+            this.className = className;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof HandledEvent)) return false;
+            HandledEvent that = (HandledEvent) o;
+            return timestamp == that.timestamp
+                    && eventType == that.eventType
+                    && Objects.equals(packageName, that.packageName)
+                    && Objects.equals(className, that.className);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timestamp, eventType, packageName, className);
+        }
+    }
+}
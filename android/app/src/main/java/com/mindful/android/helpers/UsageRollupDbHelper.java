@@ -0,0 +1,321 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.mindful.android.models.DailyUsage;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * UsageRollupDbHelper stores the usage of finished days, one record per day per package, so that past days
+ * are never recomputed from the raw usage events and network stats. It also keeps the history beyond the
+ * short retention of the usage events by the system.
+ * <p>
+ * Days are identified by their local date in the form of yyyyMMdd.
+ * <p>
+ * All the writes are queued on a single background thread owned by the helper, so they are serialized and
+ * never block the main thread of the services and the activity. Every invalidation of the rolled up days bumps
+ * a generation, so the days computed before it are not written back after it.
+ */
+public class UsageRollupDbHelper extends SQLiteOpenHelper {
+    private static final String TAG = "Mindful.UsageRollupDbHelper";
+    private static final String DATABASE_NAME = "usage_rollup.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE_DAILY_USAGE = "daily_usage";
+    private static final String TABLE_ROLLED_UP_DAYS = "rolled_up_days";
+
+    private static UsageRollupDbHelper sInstance;
+
+    private final ExecutorService mWriteExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicInteger mInvalidationGeneration = new AtomicInteger(0);
+
+    /**
+     * Returns the single instance of the helper so the database connection is shared across the app.
+     *
+     * @param context The context used to open the database.
+     * @return The shared instance.
+     */
+    @NonNull
+    public static synchronized UsageRollupDbHelper getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            sInstance = new UsageRollupDbHelper(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    private UsageRollupDbHelper(@NonNull Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(@NonNull SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_DAILY_USAGE + " (" +
+                "day INTEGER NOT NULL, " +
+                "package TEXT NOT NULL, " +
+                "screen_time_secs INTEGER NOT NULL DEFAULT 0, " +
+                "launch_count INTEGER NOT NULL DEFAULT 0, " +
+                "mobile_usage_kbs INTEGER NOT NULL DEFAULT 0, " +
+                "wifi_usage_kbs INTEGER NOT NULL DEFAULT 0, " +
+                "PRIMARY KEY (day, package)) WITHOUT ROWID"
+        );
+        db.execSQL("CREATE TABLE " + TABLE_ROLLED_UP_DAYS + " (day INTEGER PRIMARY KEY)");
+    }
+
+    @Override
+    public void onUpgrade(@NonNull SQLiteDatabase db, int oldVersion, int newVersion) {
+        // Only one version of the schema exists yet
+    }
+
+    /**
+     * Converts the time to the key of its local day.
+     *
+     * @param timeMs The time in milliseconds.
+     * @return The day in the form of yyyyMMdd.
+     */
+    public static int getDayKey(long timeMs) {
+        Calendar cal = Calendar.getInstance();
+        cal.setTimeInMillis(timeMs);
+        return cal.get(Calendar.YEAR) * 10000 + (cal.get(Calendar.MONTH) + 1) * 100 + cal.get(Calendar.DAY_OF_MONTH);
+    }
+
+    /**
+     * Fetches the days within the range whose usage is already rolled up.
+     *
+     * @param fromDay The first day of the range, inclusive.
+     * @param toDay   The last day of the range, inclusive.
+     * @return The set of rolled up days.
+     */
+    @NonNull
+    public HashSet<Integer> fetchRolledUpDays(int fromDay, int toDay) {
+        HashSet<Integer> days = new HashSet<>();
+        Cursor cursor = getReadableDatabase().rawQuery(
+                "SELECT day FROM " + TABLE_ROLLED_UP_DAYS + " WHERE day BETWEEN ? AND ?",
+                new String[]{String.valueOf(fromDay), String.valueOf(toDay)}
+        );
+        try {
+            while (cursor.moveToNext()) days.add(cursor.getInt(0));
+        } finally {
+            cursor.close();
+        }
+        return days;
+    }
+
+    /**
+     * Fetches the usage of every package for the days within the range.
+     *
+     * @param fromDay The first day of the range, inclusive.
+     * @param toDay   The last day of the range, inclusive.
+     * @return A map of days to the map of package names and their usage on that day.
+     */
+    @NonNull
+    public HashMap<Integer, HashMap<String, DailyUsage>> fetchDailyUsage(int fromDay, int toDay) {
+        HashMap<Integer, HashMap<String, DailyUsage>> daysUsage = new HashMap<>();
+        Cursor cursor = getReadableDatabase().rawQuery(
+                "SELECT day, package, screen_time_secs, launch_count, mobile_usage_kbs, wifi_usage_kbs FROM " +
+                        TABLE_DAILY_USAGE + " WHERE day BETWEEN ? AND ?",
+                new String[]{String.valueOf(fromDay), String.valueOf(toDay)}
+        );
+        try {
+            while (cursor.moveToNext()) {
+                int day = cursor.getInt(0);
+                HashMap<String, DailyUsage> dayUsage = daysUsage.get(day);
+                if (dayUsage == null) {
+                    dayUsage = new HashMap<>();
+                    daysUsage.put(day, dayUsage);
+                }
+
+                DailyUsage usage = new DailyUsage();
+                usage.screenTimeSecs = cursor.getLong(2);
+                usage.launchCount = cursor.getInt(3);
+                usage.mobileUsageKbs = cursor.getLong(4);
+                usage.wifiUsageKbs = cursor.getLong(5);
+                dayUsage.put(cursor.getString(1), usage);
+            }
+        } finally {
+            cursor.close();
+        }
+        return daysUsage;
+    }
+
+    /**
+     * Returns the current generation of the rolled up days. It must be read before the usage of the days to
+     * roll up is computed and passed along to {@link #saveRolledUpDay(int, Map, int)}.
+     *
+     * @return The generation, which changes on every {@link #invalidateRolledUpDays()}.
+     */
+    public int getInvalidationGeneration() {
+        return mInvalidationGeneration.get();
+    }
+
+    /**
+     * Stores the screen time and network usage of a finished day and marks the day as rolled up on the write thread.
+     * Launch counts, which are saved separately by the tracker service, are kept as they are. The stored screen time
+     * is never lowered, as a day rolled up again after an invalidation may have lost some of its usage events by
+     * the system. The day is skipped if the rolled up days were invalidated since the generation was read.
+     *
+     * @param day        The day in the form of yyyyMMdd.
+     * @param dayUsage   The map of package names and their usage on that day. Must not be modified from now on.
+     * @param generation The generation read before the usage of the day was computed.
+     */
+    public void saveRolledUpDay(int day, @NonNull Map<String, DailyUsage> dayUsage, int generation) {
+        mWriteExecutor.execute(() -> {
+            if (generation != mInvalidationGeneration.get()) {
+                Log.d(TAG, "saveRolledUpDay: Skipped day " + day + " as the rolled up days were invalidated meanwhile");
+                return;
+            }
+
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                SQLiteStatement insertStmt = db.compileStatement("INSERT OR IGNORE INTO " + TABLE_DAILY_USAGE + " (day, package) VALUES (?, ?)");
+                SQLiteStatement updateStmt = db.compileStatement("UPDATE " + TABLE_DAILY_USAGE +
+                        " SET screen_time_secs = MAX(screen_time_secs, ?), mobile_usage_kbs = ?, wifi_usage_kbs = ? WHERE day = ? AND package = ?");
+
+                for (Map.Entry<String, DailyUsage> entry : dayUsage.entrySet()) {
+                    DailyUsage usage = entry.getValue();
+                    if (usage.isEmpty()) continue;
+
+                    insertStmt.bindLong(1, day);
+                    insertStmt.bindString(2, entry.getKey());
+                    insertStmt.executeInsert();
+
+                    updateStmt.bindLong(1, usage.screenTimeSecs);
+                    updateStmt.bindLong(2, usage.mobileUsageKbs);
+                    updateStmt.bindLong(3, usage.wifiUsageKbs);
+                    updateStmt.bindLong(4, day);
+                    updateStmt.bindString(5, entry.getKey());
+                    updateStmt.executeUpdateDelete();
+                }
+
+                db.execSQL("INSERT OR IGNORE INTO " + TABLE_ROLLED_UP_DAYS + " (day) VALUES (?)", new Object[]{day});
+                db.setTransactionSuccessful();
+                Log.d(TAG, "saveRolledUpDay: Usage of " + dayUsage.size() + " apps rolled up for day " + day);
+            } finally {
+                db.endTransaction();
+            }
+        });
+    }
+
+    /**
+     * Fetches the launch counts of the apps stored for a day.
+     *
+     * @param day The day in the form of yyyyMMdd.
+     * @return The map of package names and their stored launch counts on that day.
+     */
+    @NonNull
+    public HashMap<String, Integer> fetchLaunchCounts(int day) {
+        HashMap<String, Integer> launchCounts = new HashMap<>();
+        Cursor cursor = getReadableDatabase().rawQuery(
+                "SELECT package, launch_count FROM " + TABLE_DAILY_USAGE + " WHERE day = ? AND launch_count > 0",
+                new String[]{String.valueOf(day)}
+        );
+        try {
+            while (cursor.moveToNext()) launchCounts.put(cursor.getString(0), cursor.getInt(1));
+        } finally {
+            cursor.close();
+        }
+        return launchCounts;
+    }
+
+    /**
+     * Adds the launch counts of the apps to their stored launch counts for a day on the write thread.
+     * Counts are added instead of replaced because the tracker service may be restarted during a day.
+     *
+     * @param day          The day in the form of yyyyMMdd.
+     * @param launchCounts The map of package names and their launch counts on that day. Owned by the helper from now on.
+     */
+    public void addLaunchCounts(int day, @NonNull Map<String, Integer> launchCounts) {
+        mWriteExecutor.execute(() -> {
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                SQLiteStatement insertStmt = db.compileStatement("INSERT OR IGNORE INTO " + TABLE_DAILY_USAGE + " (day, package) VALUES (?, ?)");
+                SQLiteStatement updateStmt = db.compileStatement("UPDATE " + TABLE_DAILY_USAGE + " SET launch_count = launch_count + ? WHERE day = ? AND package = ?");
+
+                for (Map.Entry<String, Integer> entry : launchCounts.entrySet()) {
+                    insertStmt.bindLong(1, day);
+                    insertStmt.bindString(2, entry.getKey());
+                    insertStmt.executeInsert();
+
+                    updateStmt.bindLong(1, entry.getValue());
+                    updateStmt.bindLong(2, day);
+                    updateStmt.bindString(3, entry.getKey());
+                    updateStmt.executeUpdateDelete();
+                }
+
+                db.setTransactionSuccessful();
+                Log.d(TAG, "addLaunchCounts: Launch counts of " + launchCounts.size() + " apps saved for day " + day);
+            } finally {
+                db.endTransaction();
+            }
+        });
+    }
+
+    /**
+     * Clears the network usage of the rolled up days of the current week on the write thread, so it is computed
+     * again on the next fetch. Called when the data reset time changes as the data usage of the stored days was
+     * split at the old time. Only the days of the current week are fetched again, the older days keep their usage
+     * as it was. The screen time and launch counts do not depend on the reset time, so they are kept. The
+     * generation is bumped right away, so the days computed at the old time and not saved yet are dropped.
+     */
+    public void invalidateRolledUpDays() {
+        mInvalidationGeneration.incrementAndGet();
+
+        // Same week as the one fetched by DeviceAppsHelper, from the first day of the week till today
+        Calendar cal = Calendar.getInstance();
+        int toDay = getDayKey(cal.getTimeInMillis());
+        cal.add(Calendar.DAY_OF_MONTH, 1 - cal.get(Calendar.DAY_OF_WEEK));
+        int fromDay = getDayKey(cal.getTimeInMillis());
+
+        mWriteExecutor.execute(() -> {
+            SQLiteDatabase db = getWritableDatabase();
+            db.beginTransaction();
+            try {
+                db.execSQL("UPDATE " + TABLE_DAILY_USAGE + " SET mobile_usage_kbs = 0, wifi_usage_kbs = 0 WHERE day BETWEEN ? AND ?",
+                        new Object[]{fromDay, toDay});
+                db.execSQL("DELETE FROM " + TABLE_ROLLED_UP_DAYS + " WHERE day BETWEEN ? AND ?", new Object[]{fromDay, toDay});
+                db.setTransactionSuccessful();
+                Log.d(TAG, "invalidateRolledUpDays: Network usage dropped for days " + fromDay + " to " + toDay);
+            } finally {
+                db.endTransaction();
+            }
+        });
+    }
+
+    /**
+     * Waits till the writes queued so far are done.
+     */
+    @VisibleForTesting
+    void awaitWrites() throws ExecutionException, InterruptedException {
+        mWriteExecutor.submit(() -> {
+        }).get();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.UsageSession;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UsageSessionIterator lazily streams the {@link UsageSession}s of an interval. It reads the usage events
+ * one by one with a single reused event instance and pairs them with a {@link UsageSessionPairer}, so no
+ * intermediate collection of events or sessions is built.
+ * <p>
+ * Closed sessions are returned in the order of their end. If requested, the sessions which are still open at
+ * the end of the interval are returned at last with the end of the interval as their end time.
+ * <p>
+ * NOTE: The same {@link UsageSession} instance is returned by every call to {@link #next()}.
+ */
+public class UsageSessionIterator implements Iterator<UsageSession> {
+    private final UsageEvents mUsageEvents;
+    private final UsageEvents.Event mEvent = new UsageEvents.Event();
+    private final UsageSessionPairer mPairer;
+    private final long mEnd;
+    private final boolean mIncludeOpenSessions;
+
+    private UsageSession mNextSession = null;
+    private int mNextOpenComponent = 0;
+
+    /**
+     * Queries the usage events of the interval. Events are read only when sessions are asked for.
+     *
+     * @param usageStatsManager   The UsageStatsManager used to query usage events.
+     * @param start               The start time of the interval in milliseconds.
+     * @param end                 The end time of the interval in milliseconds.
+     * @param includeOpenSessions True to also return the sessions which are still open at the end of the interval.
+     */
+    public UsageSessionIterator(@NonNull UsageStatsManager usageStatsManager, long start, long end, boolean includeOpenSessions) {
+        mUsageEvents = usageStatsManager.queryEvents(start, end);
+        mPairer = new UsageSessionPairer(start);
+        mEnd = end;
+        mIncludeOpenSessions = includeOpenSessions;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (mNextSession != null) return true;
+
+        // Pair the events till a session is closed
+        while (mUsageEvents != null && mUsageEvents.hasNextEvent()) {
+            mUsageEvents.getNextEvent(mEvent);
+            mNextSession = mPairer.onEvent(mEvent);
+            if (mNextSession != null) return true;
+        }
+
+        // Then return the sessions which are still open
+        while (mIncludeOpenSessions && mNextOpenComponent < mPairer.getComponentsCount()) {
+            mNextSession = mPairer.getOpenSession(mNextOpenComponent++, mEnd);
+            if (mNextSession != null) return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public UsageSession next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        UsageSession session = mNextSession;
+        mNextSession = null;
+        return session;
+    }
+}
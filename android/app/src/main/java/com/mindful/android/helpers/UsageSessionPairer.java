@@ -0,0 +1,205 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.app.usage.UsageEvents;
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.models.UsageSession;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * UsageSessionPairer pairs the resume and pause events of activities into {@link UsageSession}s.
+ * Events are fed one by one in chronological order, either from a single query or incrementally,
+ * and a session is produced as soon as it is closed. This is the only place where usage events are
+ * interpreted, so every consumer handles the edge cases in the same way:
+ * <ul>
+ *     <li>Every activity (package and class pair) is paired on its own, so overlapping activities of an app
+ *     and apps in split screen each have their own sessions.</li>
+ *     <li>A pause of an activity which was not seen since the start is a session clipped to the start,
+ *     as the activity was already resumed before it.</li>
+ *     <li>A repeated resume without pause restarts the session of the activity.</li>
+ *     <li>A pause or stop of an activity which is already closed is ignored.</li>
+ *     <li>A stop of an activity which is still open closes its session, in case the pause was missed.</li>
+ * </ul>
+ * <p>
+ * Package and class names are mapped to int ids, so pairing does not allocate per event.
+ */
+public class UsageSessionPairer {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long NOT_SEEN = -1L;
+    private static final long CLOSED = -2L;
+
+    private final HashMap<String, Integer> mPackageIds = new HashMap<>(INITIAL_CAPACITY);
+    private final HashMap<String, Integer> mClassIds = new HashMap<>(INITIAL_CAPACITY);
+    private final LongSparseArray<Integer> mComponentIds = new LongSparseArray<>(INITIAL_CAPACITY);
+    private final UsageSession mSession = new UsageSession();
+
+    // Indexed by component id
+    private String[] mComponentPackages = new String[INITIAL_CAPACITY];
+    private String[] mComponentClasses = new String[INITIAL_CAPACITY];
+    private long[] mResumedAt = new long[INITIAL_CAPACITY];
+
+    private long mStart;
+
+    /**
+     * @param start The start time in milliseconds of the events which will be fed. Clipped sessions start from here.
+     */
+    public UsageSessionPairer(long start) {
+        mStart = start;
+    }
+
+    /**
+     * Forgets the state of all the activities and starts pairing again.
+     *
+     * @param start The start time in milliseconds of the events which will be fed.
+     */
+    public void reset(long start) {
+        mStart = start;
+        Arrays.fill(mResumedAt, 0, mComponentIds.size(), NOT_SEEN);
+    }
+
+    /**
+     * Feeds the next usage event.
+     *
+     * @param event The usage event. It is not stored, so it can be reused by the caller.
+     * @return The session closed by the event, or null if the event did not close any session.
+     * The returned instance is reused on the next call.
+     */
+    @Nullable
+    public UsageSession onEvent(@NonNull UsageEvents.Event event) {
+        int eventType = event.getEventType();
+        if (eventType != UsageEvents.Event.ACTIVITY_RESUMED
+                && eventType != UsageEvents.Event.ACTIVITY_PAUSED
+                && eventType != UsageEvents.Event.ACTIVITY_STOPPED
+        ) {
+            return null;
+        }
+
+        int componentId = componentIdOf(event.getPackageName(), event.getClassName());
+        long timestamp = event.getTimeStamp();
+        long resumedAt = mResumedAt[componentId];
+
+        if (eventType == UsageEvents.Event.ACTIVITY_RESUMED) {
+            // A repeated resume without pause restarts the session as the pause in between was missed
+            mResumedAt[componentId] = timestamp;
+            return null;
+        }
+
+        mResumedAt[componentId] = CLOSED;
+        if (resumedAt >= 0) {
+            // Normal case: Activity was resumed after the start
+            return produce(componentId, resumedAt, timestamp, false, false);
+        } else if (resumedAt == NOT_SEEN && eventType == UsageEvents.Event.ACTIVITY_PAUSED) {
+            // Edge case: Activity was resumed before the start but paused after it
+            return produce(componentId, mStart, timestamp, false, true);
+        }
+        return null;
+    }
+
+    /**
+     * @return The number of activities seen so far. Component ids range from zero till this count.
+     */
+    public int getComponentsCount() {
+        return mComponentIds.size();
+    }
+
+    /**
+     * Returns the session of the activity if it is still open.
+     *
+     * @param componentId The id of the activity.
+     * @param end         The time in milliseconds used as the end of the open session.
+     * @return The open session or null if the activity is not resumed. The returned instance is reused.
+     */
+    @Nullable
+    public UsageSession getOpenSession(int componentId, long end) {
+        long resumedAt = mResumedAt[componentId];
+        return resumedAt >= 0 ? produce(componentId, resumedAt, end, true, false) : null;
+    }
+
+    /**
+     * Returns the open session which started last, i.e. the activity which came to the foreground last.
+     *
+     * @param end The time in milliseconds used as the end of the open session.
+     * @return The latest open session or null if no activity is resumed. The returned instance is reused.
+     */
+    @Nullable
+    public UsageSession getLatestOpenSession(long end) {
+        int latestComponent = -1;
+        for (int id = 0; id < mComponentIds.size(); id++) {
+            if (mResumedAt[id] >= 0 && (latestComponent < 0 || mResumedAt[id] >= mResumedAt[latestComponent])) {
+                latestComponent = id;
+            }
+        }
+        return latestComponent >= 0 ? getOpenSession(latestComponent, end) : null;
+    }
+
+    /**
+     * Returns the start time of the latest open session of the package.
+     *
+     * @param packageName The package name of the app.
+     * @return The start time in milliseconds or -1 if none of the app's activities is resumed.
+     */
+    public long getLatestOpenSessionStart(@NonNull String packageName) {
+        long latestStart = -1L;
+        for (int id = 0; id < mComponentIds.size(); id++) {
+            if (mResumedAt[id] > latestStart && packageName.equals(mComponentPackages[id])) {
+                latestStart = mResumedAt[id];
+            }
+        }
+        return latestStart;
+    }
+
+    @NonNull
+    private UsageSession produce(int componentId, long start, long end, boolean isOpen, boolean isClipped) {
+        mSession.set(mComponentPackages[componentId], mComponentClasses[componentId], start, end, isOpen, isClipped);
+        return mSession;
+    }
+
+    /**
+     * Returns the component id of the (package, class) pair, assigning a new one if needed.
+     * The usage events returned by the system share the string instances from a pool, so the
+     * lookups mostly hit the cached hash and the identity check of the strings.
+     */
+    private int componentIdOf(String packageName, String className) {
+        long componentKey = ((long) idOf(mPackageIds, packageName) << 32) | idOf(mClassIds, className);
+        Integer componentId = mComponentIds.get(componentKey);
+        if (componentId != null) return componentId;
+
+        int newId = mComponentIds.size();
+        mComponentIds.put(componentKey, newId);
+        if (newId == mResumedAt.length) {
+            mComponentPackages = Arrays.copyOf(mComponentPackages, newId * 2);
+            mComponentClasses = Arrays.copyOf(mComponentClasses, newId * 2);
+            mResumedAt = Arrays.copyOf(mResumedAt, newId * 2);
+        }
+        mComponentPackages[newId] = packageName;
+        mComponentClasses[newId] = className;
+        mResumedAt[newId] = NOT_SEEN;
+        return newId;
+    }
+
+    private static int idOf(@NonNull HashMap<String, Integer> ids, String value) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = ids.size();
+            ids.put(value, id);
+        }
+        return id;
+    }
+}
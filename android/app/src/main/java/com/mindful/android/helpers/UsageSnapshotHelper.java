@@ -0,0 +1,308 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import android.app.usage.NetworkStats;
+import android.app.usage.NetworkStatsManager;
+import android.app.usage.UsageStatsManager;
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.generics.SuccessCallback;
+import com.mindful.android.models.AggregatedUsage;
+import com.mindful.android.models.InstalledApp;
+import com.mindful.android.models.NetworkUsage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * UsageSnapshotHelper keeps a small snapshot of today's aggregated usage (screen time, mobile and Wi-Fi data)
+ * in a file, so the usage widget can be updated with a single file read instead of querying the usage events,
+ * the network summaries and the app inventory on every update.
+ * <p>
+ * The tracker service keeps the snapshot current by updating it from its {@link TodayUsageLedger} on every device
+ * lock, so the usage events since midnight are not read again. Otherwise the snapshot is recomputed only when the
+ * day has changed, when it is invalidated or when a refresh is requested explicitly (manual refresh).
+ * All the work runs on a single background thread and the refresh requests which arrive before a queued
+ * refresh starts are coalesced into it, so several widgets or rapid taps never compute the usage twice.
+ */
+public class UsageSnapshotHelper {
+    private static final String TAG = "Mindful.UsageSnapshotHelper";
+    private static final String SNAPSHOT_FILE_NAME = "usage_snapshot";
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final long MS_24_HOURS = 24 * 60 * 60 * 1000;
+
+    private static UsageSnapshotHelper sInstance;
+
+    private final Context mContext;
+    private final File mSnapshotFile;
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+    private final List<SuccessCallback<AggregatedUsage>> mPendingCallbacks = new ArrayList<>();
+
+    private boolean mIsRefreshQueued = false;
+
+    // Accessed only on the executor thread
+    private Snapshot mSnapshot = null;
+    private boolean mIsSnapshotLoaded = false;
+
+    private UsageSnapshotHelper(@NonNull Context context) {
+        mContext = context;
+        mSnapshotFile = new File(context.getFilesDir(), SNAPSHOT_FILE_NAME);
+    }
+
+    public static synchronized UsageSnapshotHelper getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            sInstance = new UsageSnapshotHelper(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    /**
+     * Delivers today's aggregated usage to the callback on the background thread. The persisted snapshot is
+     * delivered as is if it is of today, otherwise it is recomputed first.
+     *
+     * @param callback The callback to receive the usage.
+     */
+    public void getSnapshot(@NonNull SuccessCallback<AggregatedUsage> callback) {
+        mExecutor.execute(() -> {
+            Snapshot snapshot = loadSnapshot();
+            long now = System.currentTimeMillis();
+            if (snapshot != null && snapshot.isFresh(now)) {
+                callback.onSuccess(snapshot.usage);
+            } else {
+                refreshSnapshot(callback);
+            }
+        });
+    }
+
+    /**
+     * Recomputes today's aggregated usage and persists it. The requests made before a queued refresh
+     * starts share its result.
+     *
+     * @param callback The callback to receive the recomputed usage on the background thread, if any.
+     */
+    public void refreshSnapshot(@Nullable SuccessCallback<AggregatedUsage> callback) {
+        synchronized (this) {
+            if (callback != null) mPendingCallbacks.add(callback);
+            if (mIsRefreshQueued) return;
+            mIsRefreshQueued = true;
+        }
+        mExecutor.execute(this::computeAndStoreSnapshot);
+    }
+
+    /**
+     * Updates the snapshot on the background thread, taking the screen time from today's usage ledger instead
+     * of the usage events since midnight. Called by the tracker service when the device is locked.
+     *
+     * @param todayUsageLedger The ledger of today's screen usage kept by the tracker service.
+     */
+    public void updateSnapshot(@NonNull TodayUsageLedger todayUsageLedger) {
+        mExecutor.execute(() -> {
+            long now = System.currentTimeMillis();
+            todayUsageLedger.advance(now);
+            mSnapshot = new Snapshot(getDayStart(now), now, fetchAggregatedUsage(getDayStart(now), todayUsageLedger, now));
+            mIsSnapshotLoaded = true;
+            writeSnapshotFile(mSnapshot);
+            Log.d(TAG, "updateSnapshot: Snapshot updated from ledger in " + (System.currentTimeMillis() - now) + "ms");
+        });
+    }
+
+    /**
+     * Discards the snapshot, so it is recomputed on the next request. Called when the settings affecting
+     * the usage are changed like excluded apps or data reset time.
+     */
+    public void invalidate() {
+        mExecutor.execute(() -> {
+            mSnapshot = null;
+            mIsSnapshotLoaded = true;
+            if (mSnapshotFile.exists() && !mSnapshotFile.delete()) {
+                Log.w(TAG, "invalidate: Unable to delete snapshot file");
+            }
+        });
+    }
+
+    private void computeAndStoreSnapshot() {
+        List<SuccessCallback<AggregatedUsage>> callbacks;
+        synchronized (this) {
+            mIsRefreshQueued = false;
+            callbacks = new ArrayList<>(mPendingCallbacks);
+            mPendingCallbacks.clear();
+        }
+
+        long now = System.currentTimeMillis();
+        long dayStart = getDayStart(now);
+        AggregatedUsage usage = fetchAggregatedUsage(dayStart, null, now);
+        mSnapshot = new Snapshot(dayStart, now, usage);
+        mIsSnapshotLoaded = true;
+        writeSnapshotFile(mSnapshot);
+        Log.d(TAG, "computeAndStoreSnapshot: Snapshot refreshed in " + (System.currentTimeMillis() - now) + "ms for " + callbacks.size() + " requests");
+
+        for (SuccessCallback<AggregatedUsage> callback : callbacks) {
+            callback.onSuccess(usage);
+        }
+    }
+
+    /**
+     * Fetches device usage data for the current day only from launchable apps, including screen usage, mobile data usage, and wifi data usage.
+     * Calculates total usage for each category and stores them in AggregatedUsage model and returns it.
+     *
+     * @param screenUsageStart The start of the current day in milliseconds.
+     * @param todayUsageLedger The ledger to take the screen time from, already advanced till now. If null then
+     *                         the screen time is computed from the usage events.
+     * @param now              The current time in milliseconds.
+     * @return AggregatedUsage model with latest usage.
+     */
+    @NonNull
+    private AggregatedUsage fetchAggregatedUsage(long screenUsageStart, @Nullable TodayUsageLedger todayUsageLedger, long now) {
+        // Users may have different timings for their data renewal or reset so keeping it in mind
+        Calendar dataUsageCal = SharedPrefsHelper.getSetDataResetTimeMins(mContext, null);
+        long dataUsageStart = dataUsageCal.getTimeInMillis();
+
+        UsageStatsManager usageStatsManager = (UsageStatsManager) mContext.getSystemService(Context.USAGE_STATS_SERVICE);
+        NetworkStatsManager networkStatsManager = (NetworkStatsManager) mContext.getSystemService(Context.NETWORK_STATS_SERVICE);
+
+        HashMap<String, Long> screenUsageOneDay = todayUsageLedger == null
+                ? ScreenUsageHelper.fetchUsageForInterval(usageStatsManager, screenUsageStart, screenUsageStart + MS_24_HOURS, null)
+                : new HashMap<>(0);
+        NetworkUsage networkUsageOneDay = NetworkUsageHelper.fetchNetworkUsage(networkStatsManager, dataUsageStart, dataUsageStart + MS_24_HOURS);
+
+        // Fetch launchable apps from the inventory
+        List<InstalledApp> launchableApps = AppInventory.getInstance(mContext).getLaunchableApps();
+
+        // Fetch excluded apps
+        HashSet<String> excludedApps = SharedPrefsHelper.getSetExcludedApps(mContext, null);
+
+        long wifiUsageKbs = 0L;
+        long mobileUsageKbs = 0L;
+        long screenTimeSec = 0L;
+
+        for (InstalledApp app : launchableApps) {
+            mobileUsageKbs += networkUsageOneDay.getMobileUsageKbs(app.appUid);
+            wifiUsageKbs += networkUsageOneDay.getWifiUsageKbs(app.appUid);
+
+            // skip excluded apps
+            if (excludedApps.contains(app.packageName)) continue;
+            screenTimeSec += todayUsageLedger == null
+                    ? screenUsageOneDay.getOrDefault(app.packageName, 0L)
+                    : todayUsageLedger.getScreenTimeSecs(app.packageName, null, now);
+        }
+
+        // Also include tethering hotspot and removed app's data usage
+        wifiUsageKbs += networkUsageOneDay.getWifiUsageKbs(NetworkStats.Bucket.UID_TETHERING);
+        mobileUsageKbs += networkUsageOneDay.getMobileUsageKbs(NetworkStats.Bucket.UID_TETHERING);
+
+        wifiUsageKbs += networkUsageOneDay.getWifiUsageKbs(NetworkStats.Bucket.UID_REMOVED);
+        mobileUsageKbs += networkUsageOneDay.getMobileUsageKbs(NetworkStats.Bucket.UID_REMOVED);
+
+        return new AggregatedUsage(
+                Math.toIntExact(screenTimeSec / 60),
+                Math.toIntExact(mobileUsageKbs / 1024),
+                Math.toIntExact(wifiUsageKbs / 1024)
+        );
+    }
+
+    /**
+     * Returns the snapshot from memory, reading the file only once per process.
+     */
+    @Nullable
+    private Snapshot loadSnapshot() {
+        if (!mIsSnapshotLoaded) {
+            mSnapshot = readSnapshotFile();
+            mIsSnapshotLoaded = true;
+        }
+        return mSnapshot;
+    }
+
+    @Nullable
+    private Snapshot readSnapshotFile() {
+        if (!mSnapshotFile.exists()) return null;
+
+        try (DataInputStream inputStream = new DataInputStream(new FileInputStream(mSnapshotFile))) {
+            if (inputStream.readInt() != SNAPSHOT_VERSION) return null;
+
+            long dayStart = inputStream.readLong();
+            long computedAt = inputStream.readLong();
+            AggregatedUsage usage = new AggregatedUsage(
+                    inputStream.readInt(),
+                    inputStream.readInt(),
+                    inputStream.readInt()
+            );
+            return new Snapshot(dayStart, computedAt, usage);
+        } catch (IOException e) {
+            Log.e(TAG, "readSnapshotFile: Unable to read snapshot file", e);
+            return null;
+        }
+    }
+
+    private void writeSnapshotFile(@NonNull Snapshot snapshot) {
+        // Write to a temporary file first, so the widget never reads a partially written snapshot
+        File tempFile = new File(mSnapshotFile.getPath() + ".tmp");
+        try (DataOutputStream outputStream = new DataOutputStream(new FileOutputStream(tempFile))) {
+            outputStream.writeInt(SNAPSHOT_VERSION);
+            outputStream.writeLong(snapshot.dayStart);
+            outputStream.writeLong(snapshot.computedAt);
+            outputStream.writeInt(snapshot.usage.totalScreenUsageMins);
+            outputStream.writeInt(snapshot.usage.totalMobileUsageMBs);
+            outputStream.writeInt(snapshot.usage.totalWifiUsageMBs);
+        } catch (IOException e) {
+            Log.e(TAG, "writeSnapshotFile: Unable to write snapshot file", e);
+            return;
+        }
+
+        if (!tempFile.renameTo(mSnapshotFile)) {
+            Log.w(TAG, "writeSnapshotFile: Unable to replace snapshot file");
+            tempFile.delete();
+        }
+    }
+
+    private static long getDayStart(long now) {
+        Calendar midNightCal = Calendar.getInstance();
+        midNightCal.setTimeInMillis(now);
+        midNightCal.set(Calendar.HOUR_OF_DAY, 0);
+        midNightCal.set(Calendar.MINUTE, 0);
+        midNightCal.set(Calendar.SECOND, 0);
+        midNightCal.set(Calendar.MILLISECOND, 0);
+        return midNightCal.getTimeInMillis();
+    }
+
+    private static class Snapshot {
+        final long dayStart;
+        final long computedAt;
+        final AggregatedUsage usage;
+
+        Snapshot(long dayStart, long computedAt, @NonNull AggregatedUsage usage) {
+            this.dayStart = dayStart;
+            this.computedAt = computedAt;
+            this.usage = usage;
+        }
+
+        boolean isFresh(long now) {
+            return dayStart == getDayStart(now) && now >= computedAt;
+        }
+    }
+}
@@ -15,82 +15,154 @@ package com.mindful.android.models;
 import androidx.annotation.NonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Represents an Android application with its usage statistics and metadata.
  */
 public class AndroidApp {
+    public static final int DAYS_IN_WEEK = 7;
 
     // App info
     public String appName;
     public String packageName;
     public int appUid;
-    public String appIcon;
+    public byte[] appIcon;
     public int launchCount;
     public boolean isImpSysApp;
 
     // Usage info
-    public ArrayList<Long> screenTimeThisWeek;
-    public ArrayList<Long> mobileUsageThisWeek;
-    public ArrayList<Long> wifiUsageThisWeek;
-    public ArrayList<Long> dataUsageThisWeek;
+    public final long[] screenTimeThisWeek = new long[DAYS_IN_WEEK];
+    public final long[] mobileUsageThisWeek = new long[DAYS_IN_WEEK];
+    public final long[] wifiUsageThisWeek = new long[DAYS_IN_WEEK];
 
     /**
      * Constructs an AndroidApp instance with specified parameters.
      *
      * @param appName     The name of the application.
      * @param packageName The package name of the application.
-     * @param appIcon     The icon of the application.
+     * @param appIcon     The compressed icon of the application, lossless WebP on Android R and above, PNG below.
      * @param isImpSysApp Indicates if the application is an important system app.
      * @param launchCount The launch count of the application.
      * @param appUid      The UID of the application.
      */
-    public AndroidApp(String appName, String packageName, String appIcon, boolean isImpSysApp, int launchCount, int appUid) {
+    public AndroidApp(String appName, String packageName, byte[] appIcon, boolean isImpSysApp, int launchCount, int appUid) {
         this.appName = appName;
         this.packageName = packageName;
         this.appIcon = appIcon;
         this.isImpSysApp = isImpSysApp;
         this.launchCount = launchCount;
         this.appUid = appUid;
-        // Initialize usage arrays with 7 days worth of data, defaulting to 0
-        this.screenTimeThisWeek = new ArrayList<>(Collections.nCopies(7, 0L));
-        this.mobileUsageThisWeek = new ArrayList<>(Collections.nCopies(7, 0L));
-        this.wifiUsageThisWeek = new ArrayList<>(Collections.nCopies(7, 0L));
-        this.dataUsageThisWeek = new ArrayList<>(Collections.nCopies(7, 0L));
     }
 
     /**
-     * Updates the dataUsageThisWeek as the sum of mobile and wifi usage.
+     * Converts the list of apps to a single columnar map, which is transferred to flutter without any
+     * per app object. Every field is a column indexed by the app's position in the list:
+     * <ul>
+     *     <li>Strings are sent as lists and the keys of the map are sent only once instead of per app.</li>
+     *     <li>Icons are sent as raw image bytes (Uint8List) instead of Base64 strings, lossless WebP on Android R
+     *     and above and PNG below. Identical icon instances, like
+     *     the shared default icon, are sent only once and referenced by their index in the icons column.</li>
+     *     <li>Numbers are sent as primitive arrays (Int32List and Int64List). The weekly usages of all the apps are
+     *     flattened into one array, where the usage of the app i on the day d is at index (i * 7 + d).</li>
+     * </ul>
+     *
+     * @param apps The list of apps to convert.
+     * @return A map of column names to the column values.
+     */
+    @NonNull
+    public static Map<String, Object> toColumnarMap(@NonNull List<AndroidApp> apps) {
+        Map<String, Object> columnsMap = new HashMap<>();
+        putMetadataColumns(apps, columnsMap);
+        putUsageColumns(apps, columnsMap);
+        putIconColumns(apps, 0, apps.size(), columnsMap);
+        return columnsMap;
+    }
+
+    /**
+     * Puts the count, names, package names, important system app flags and launch counts columns of the apps.
+     *
+     * @param apps       The list of apps.
+     * @param columnsMap The map to put the columns into.
+     */
+    public static void putMetadataColumns(@NonNull List<AndroidApp> apps, @NonNull Map<String, Object> columnsMap) {
+        int count = apps.size();
+        ArrayList<String> appNames = new ArrayList<>(count);
+        ArrayList<String> packageNames = new ArrayList<>(count);
+        byte[] isImpSysApps = new byte[count];
+        int[] launchCounts = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            AndroidApp app = apps.get(i);
+            appNames.add(app.appName);
+            packageNames.add(app.packageName);
+            isImpSysApps[i] = (byte) (app.isImpSysApp ? 1 : 0);
+            launchCounts[i] = app.launchCount;
+        }
+
+        columnsMap.put("count", count);
+        columnsMap.put("appNames", appNames);
+        columnsMap.put("packageNames", packageNames);
+        columnsMap.put("isImpSysApps", isImpSysApps);
+        columnsMap.put("launchCounts", launchCounts);
+    }
+
+    /**
+     * Puts the flattened weekly screen time, mobile usage and Wi-Fi usage columns of the apps.
+     *
+     * @param apps       The list of apps.
+     * @param columnsMap The map to put the columns into.
      */
-    private void calculateTotalDataUsage() {
-        for (int i = 0; i < 7; i++) {
-            // Calculate total data usage as the sum of mobile and wifi usage
-            dataUsageThisWeek.set(i, mobileUsageThisWeek.get(i) + wifiUsageThisWeek.get(i));
+    public static void putUsageColumns(@NonNull List<AndroidApp> apps, @NonNull Map<String, Object> columnsMap) {
+        int count = apps.size();
+        long[] screenTimes = new long[count * DAYS_IN_WEEK];
+        long[] mobileUsages = new long[count * DAYS_IN_WEEK];
+        long[] wifiUsages = new long[count * DAYS_IN_WEEK];
+
+        for (int i = 0; i < count; i++) {
+            AndroidApp app = apps.get(i);
+            System.arraycopy(app.screenTimeThisWeek, 0, screenTimes, i * DAYS_IN_WEEK, DAYS_IN_WEEK);
+            System.arraycopy(app.mobileUsageThisWeek, 0, mobileUsages, i * DAYS_IN_WEEK, DAYS_IN_WEEK);
+            System.arraycopy(app.wifiUsageThisWeek, 0, wifiUsages, i * DAYS_IN_WEEK, DAYS_IN_WEEK);
         }
+
+        columnsMap.put("screenTimeThisWeek", screenTimes);
+        columnsMap.put("mobileUsageThisWeek", mobileUsages);
+        columnsMap.put("wifiUsageThisWeek", wifiUsages);
     }
 
     /**
-     * Converts the AndroidApp object to a map of string keys to object values.
-     * The map can be used for serialization or other purposes.
+     * Puts the icon columns of the apps in the range. The index of the first app is sent as "iconsStart"
+     * and the "iconIndices" column maps every app of the range to its icon in the "icons" column.
      *
-     * @return A map representing the AndroidApp object.
+     * @param apps       The list of apps.
+     * @param from       The index of the first app, inclusive.
+     * @param to         The index of the last app, exclusive.
+     * @param columnsMap The map to put the columns into.
      */
-    public Map<String, Object> toMap() {
-        calculateTotalDataUsage();
-        Map<String, Object> appMap = new HashMap<>();
-        appMap.put("appName", appName);
-        appMap.put("packageName", packageName);
-        appMap.put("appIcon", appIcon);
-        appMap.put("isImpSysApp", isImpSysApp);
-        appMap.put("launchCount", launchCount);
-        appMap.put("screenTimeThisWeek", screenTimeThisWeek);
-        appMap.put("mobileUsageThisWeek", mobileUsageThisWeek);
-        appMap.put("wifiUsageThisWeek", wifiUsageThisWeek);
-        appMap.put("dataUsageThisWeek", dataUsageThisWeek);
-        return appMap;
+    public static void putIconColumns(@NonNull List<AndroidApp> apps, int from, int to, @NonNull Map<String, Object> columnsMap) {
+        int[] iconIndices = new int[to - from];
+        ArrayList<byte[]> icons = new ArrayList<>(to - from);
+        IdentityHashMap<byte[], Integer> iconIds = new IdentityHashMap<>(to - from);
+
+        for (int i = from; i < to; i++) {
+            byte[] appIcon = apps.get(i).appIcon;
+            Integer iconId = iconIds.get(appIcon);
+            if (iconId == null) {
+                iconId = icons.size();
+                iconIds.put(appIcon, iconId);
+                icons.add(appIcon);
+            }
+            iconIndices[i - from] = iconId;
+        }
+
+        columnsMap.put("iconsStart", from);
+        columnsMap.put("iconIndices", iconIndices);
+        columnsMap.put("icons", icons);
     }
 
     /**
@@ -107,10 +179,9 @@ public class AndroidApp {
                 ", appUid=" + appUid +
                 ", isImpSysApp=" + isImpSysApp +
                 ", launchCount=" + launchCount +
-                ", screenTimeThisWeek=" + screenTimeThisWeek +
-                ", mobileUsageThisWeek=" + mobileUsageThisWeek +
-                ", wifiUsageThisWeek=" + wifiUsageThisWeek +
-                ", dataUsageThisWeek=" + dataUsageThisWeek +
+                ", screenTimeThisWeek=" + Arrays.toString(screenTimeThisWeek) +
+                ", mobileUsageThisWeek=" + Arrays.toString(mobileUsageThisWeek) +
+                ", wifiUsageThisWeek=" + Arrays.toString(wifiUsageThisWeek) +
                 '}';
     }
 }
@@ -0,0 +1,204 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import android.util.Log;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.helpers.ShortsBlockingHelper;
+import com.mindful.android.utils.DomainBlocklist;
+import com.mindful.android.utils.DomainMatcher;
+import com.mindful.android.utils.MultiPatternMatcher;
+import com.mindful.android.utils.NsfwDomains;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of everything the accessibility service needs to check an event, compiled once from
+ * the {@link WellBeingSettings} whenever they change. The snapshot is published through a single volatile
+ * reference, so the event processing threads always see a consistent set of settings without copying them.
+ * <p>
+ * NOTE: The settings and the matchers held by the snapshot must not be modified after it is created.
+ */
+public class ContentBlockingSnapshot {
+    private static final String TAG = "Mindful.ContentBlockingSnapshot";
+
+    // Classes of the browser urls returned by classifyUrl(), the rest of the bits are the short-form content rules
+    public static final int URL_GOOGLE_SEARCH = 1;
+    public static final int URL_BING_SEARCH = 1 << 1;
+    public static final int URL_BRAVE_SEARCH = 1 << 2;
+    public static final int URL_DUCKDUCKGO_SEARCH = 1 << 3;
+    public static final int URL_SAFE_SEARCH_ACTIVE = 1 << 4;
+    private static final int FIRST_SHORTS_RULE_BIT = 8;
+    private static final int MAX_SHORTS_URL_RULES = Integer.SIZE - FIRST_SHORTS_RULE_BIT;
+
+    /**
+     * Checks if short-form content is open in the app's window.
+     */
+    public interface ShortsCheck {
+        boolean isShortsOpen(@NonNull AccessibilityNodeInfo node, @NonNull String packageName);
+    }
+
+    /**
+     * The settings the snapshot was compiled from.
+     */
+    public final WellBeingSettings settings;
+
+    /**
+     * True if any kind of content is blocked, otherwise events need not be processed at all.
+     */
+    public final boolean shouldBlockContent;
+
+    /**
+     * The packages whose events are processed i.e. browsers and the apps with blocked short-form content.
+     */
+    public final Set<String> monitoredPackages;
+
+    /**
+     * The websites blocked by the user.
+     */
+    public final DomainMatcher blockedWebsites;
+
+    /**
+     * The NSFW domains if NSFW websites are blocked.
+     */
+    @Nullable
+    public final NsfwDomains nsfwDomains;
+
+    /**
+     * The imported blocklist, if any.
+     */
+    @Nullable
+    public final DomainBlocklist importedBlocklist;
+
+    @Nullable
+    private final ShortsBlockingHelper mShortsRules;
+    private final List<ShortsRule> mShortsUrlRules;
+    private final MultiPatternMatcher mUrlClassifier;
+
+    public ContentBlockingSnapshot() {
+        this(new WellBeingSettings(), new HashSet<>(0), null, null, null);
+    }
+
+    /**
+     * @param settings          The well-being settings. Owned by the snapshot from now on.
+     * @param monitoredPackages The packages whose events are processed.
+     * @param shortsRules       The short-form content rules.
+     * @param nsfwDomains       The NSFW domains if NSFW websites are blocked.
+     * @param importedBlocklist The imported blocklist, if any.
+     */
+    public ContentBlockingSnapshot(
+            @NonNull WellBeingSettings settings,
+            @NonNull Set<String> monitoredPackages,
+            @Nullable ShortsBlockingHelper shortsRules,
+            @Nullable NsfwDomains nsfwDomains,
+            @Nullable DomainBlocklist importedBlocklist
+    ) {
+        this.settings = settings;
+        this.mShortsRules = shortsRules;
+        this.monitoredPackages = Collections.unmodifiableSet(new HashSet<>(monitoredPackages));
+        this.blockedWebsites = DomainMatcher.fromRules(settings.blockedWebsites);
+        this.nsfwDomains = nsfwDomains;
+        this.importedBlocklist = importedBlocklist;
+
+        this.shouldBlockContent = !settings.blockedWebsites.isEmpty() ||
+                importedBlocklist != null ||
+                settings.blockInstaReels ||
+                settings.blockYtShorts ||
+                settings.blockSnapSpotlight ||
+                settings.blockFbReels ||
+                settings.blockRedditShorts ||
+                settings.blockNsfwSites;
+
+        // Compile the url patterns of the enabled short-form content rules and the search engines
+        LinkedHashMap<String, Integer> urlPatterns = new LinkedHashMap<>();
+        urlPatterns.put("google.com/search?", URL_GOOGLE_SEARCH);
+        urlPatterns.put("bing.com/search?", URL_BING_SEARCH);
+        urlPatterns.put("search.brave.com/search?", URL_BRAVE_SEARCH);
+        urlPatterns.put("duckduckgo.com/?", URL_DUCKDUCKGO_SEARCH);
+        urlPatterns.put("safe=active", URL_SAFE_SEARCH_ACTIVE);
+
+        List<ShortsRule> shortsUrlRules = new ArrayList<>();
+        if (shortsRules != null) {
+            for (ShortsRule rule : shortsRules.getEnabledRules(settings)) {
+                if (rule.urls.isEmpty()) continue;
+                if (shortsUrlRules.size() == MAX_SHORTS_URL_RULES) {
+                    Log.w(TAG, "ContentBlockingSnapshot: Too many url rules, ignoring " + rule.name);
+                    continue;
+                }
+
+                int ruleBit = 1 << (FIRST_SHORTS_RULE_BIT + shortsUrlRules.size());
+                for (String url : rule.urls) urlPatterns.merge(url, ruleBit, (a, b) -> a | b);
+                shortsUrlRules.add(rule);
+            }
+        }
+        mShortsUrlRules = Collections.unmodifiableList(shortsUrlRules);
+        mUrlClassifier = new MultiPatternMatcher(urlPatterns);
+    }
+
+    /**
+     * Returns the check for the short-form content of the native app.
+     *
+     * @param packageName The package name of the app.
+     * @return The check or null if the app is not a native short-form content app with blocking enabled.
+     */
+    @Nullable
+    public ShortsCheck getShortsCheck(@NonNull String packageName) {
+        if (mShortsRules == null) return null;
+
+        ShortsBlockingHelper.PackageMatcher matcher = mShortsRules.getMatcher(packageName);
+        return matcher != null && matcher.rule.isEnabled(settings) ? matcher : null;
+    }
+
+    /**
+     * Classifies the browser's url in a single pass over it.
+     *
+     * @param url The URL text from the browser.
+     * @return The bitmask of the url classes like {@link #URL_GOOGLE_SEARCH} and the matched short-form content rules.
+     */
+    public int classifyUrl(@NonNull String url) {
+        return mUrlClassifier.match(url);
+    }
+
+    /**
+     * Returns the blocked short-form content rule matched by the url.
+     *
+     * @param urlClass The url classes returned by {@link #classifyUrl(String)}.
+     * @return The first matched rule or null if the url is not of a blocked short-form content platform.
+     */
+    @Nullable
+    public ShortsRule getShortContentRule(int urlClass) {
+        int ruleBits = urlClass >>> FIRST_SHORTS_RULE_BIT;
+        return ruleBits == 0 ? null : mShortsUrlRules.get(Integer.numberOfTrailingZeros(ruleBits));
+    }
+
+    /**
+     * Checks if the host is blocked by the user's websites, the NSFW domains or the imported blocklist.
+     *
+     * @param host The lowercase host.
+     * @return True if the host is blocked.
+     */
+    public boolean isWebsiteBlocked(@NonNull String host) {
+        return blockedWebsites.matches(host)
+                || (nsfwDomains != null && nsfwDomains.matches(host))
+                || (importedBlocklist != null && importedBlocklist.matches(host));
+    }
+}
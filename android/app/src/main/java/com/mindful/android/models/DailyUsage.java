@@ -0,0 +1,30 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+/**
+ * Usage of a single app for a single day.
+ */
+public class DailyUsage {
+    public long screenTimeSecs = 0L;
+    public int launchCount = 0;
+    public long mobileUsageKbs = 0L;
+    public long wifiUsageKbs = 0L;
+
+    /**
+     * @return True if the app was not used at all during the day.
+     */
+    public boolean isEmpty() {
+        return screenTimeSecs == 0 && launchCount == 0 && mobileUsageKbs == 0 && wifiUsageKbs == 0;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Represents a launchable app in the persisted app inventory.
+ */
+public class InstalledApp {
+    public final String packageName;
+    public final String appName;
+    public final int appUid;
+    public final long versionCode;
+    public final long lastUpdateTime;
+
+    public InstalledApp(String packageName, String appName, int appUid, long versionCode, long lastUpdateTime) {
+        this.packageName = packageName;
+        this.appName = appName;
+        this.appUid = appUid;
+        this.versionCode = versionCode;
+        this.lastUpdateTime = lastUpdateTime;
+    }
+
+    @NonNull
+    public JSONObject toJson() throws JSONException {
+        JSONObject jsonObject = new JSONObject();
+        jsonObject.put("packageName", packageName);
+        jsonObject.put("appName", appName);
+        jsonObject.put("appUid", appUid);
+        jsonObject.put("versionCode", versionCode);
+        jsonObject.put("lastUpdateTime", lastUpdateTime);
+        return jsonObject;
+    }
+
+    /**
+     * @param jsonObject The JSON object created by {@link #toJson()}.
+     * @return The InstalledApp or null if the JSON object is malformed.
+     */
+    @Nullable
+    public static InstalledApp fromJson(@Nullable JSONObject jsonObject) {
+        if (jsonObject == null) return null;
+        String packageName = jsonObject.optString("packageName", "");
+        if (packageName.isEmpty()) return null;
+
+        return new InstalledApp(
+                packageName,
+                jsonObject.optString("appName", packageName),
+                jsonObject.optInt("appUid", -1),
+                jsonObject.optLong("versionCode", 0L),
+                jsonObject.optLong("lastUpdateTime", 0L)
+        );
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "InstalledApp{" +
+                "packageName='" + packageName + '\'' +
+                ", appName='" + appName + '\'' +
+                ", appUid=" + appUid +
+                ", versionCode=" + versionCode +
+                ", lastUpdateTime=" + lastUpdateTime +
+                '}';
+    }
+}
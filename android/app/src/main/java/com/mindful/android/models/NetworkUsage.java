@@ -0,0 +1,85 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import android.util.SparseLongArray;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Mobile and Wi-Fi data usage of every app UID for an interval, kept in parallel primitive arrays.
+ * The UIDs are sorted in ascending order, so the usage of an UID is looked up with a binary search.
+ */
+public class NetworkUsage {
+    public final int[] uids;
+    public final long[] mobileUsageKbs;
+    public final long[] wifiUsageKbs;
+
+    /**
+     * Merges the mobile and Wi-Fi usage of the UIDs. The keys of a SparseLongArray are already sorted,
+     * so both are merged in a single pass.
+     *
+     * @param mobileUsage Sparse array where keys are app UIDs and values are the mobile data usage in KBs.
+     * @param wifiUsage   Sparse array where keys are app UIDs and values are the Wi-Fi usage in KBs.
+     */
+    public NetworkUsage(@NonNull SparseLongArray mobileUsage, @NonNull SparseLongArray wifiUsage) {
+        int mobileCount = mobileUsage.size();
+        int wifiCount = wifiUsage.size();
+        int[] mergedUids = new int[mobileCount + wifiCount];
+        long[] mergedMobile = new long[mergedUids.length];
+        long[] mergedWifi = new long[mergedUids.length];
+
+        int m = 0, w = 0, count = 0;
+        while (m < mobileCount || w < wifiCount) {
+            if (w >= wifiCount || (m < mobileCount && mobileUsage.keyAt(m) < wifiUsage.keyAt(w))) {
+                // Only mobile usage
+                mergedUids[count] = mobileUsage.keyAt(m);
+                mergedMobile[count] = mobileUsage.valueAt(m++);
+            } else if (m >= mobileCount || wifiUsage.keyAt(w) < mobileUsage.keyAt(m)) {
+                // Only Wi-Fi usage
+                mergedUids[count] = wifiUsage.keyAt(w);
+                mergedWifi[count] = wifiUsage.valueAt(w++);
+            } else {
+                // Both mobile and Wi-Fi usage
+                mergedUids[count] = mobileUsage.keyAt(m);
+                mergedMobile[count] = mobileUsage.valueAt(m++);
+                mergedWifi[count] = wifiUsage.valueAt(w++);
+            }
+            count++;
+        }
+
+        uids = Arrays.copyOf(mergedUids, count);
+        mobileUsageKbs = Arrays.copyOf(mergedMobile, count);
+        wifiUsageKbs = Arrays.copyOf(mergedWifi, count);
+    }
+
+    /**
+     * @param uid The UID of the app.
+     * @return The mobile data usage of the UID in KBs or zero if it has no usage.
+     */
+    public long getMobileUsageKbs(int uid) {
+        int index = Arrays.binarySearch(uids, uid);
+        return index >= 0 ? mobileUsageKbs[index] : 0L;
+    }
+
+    /**
+     * @param uid The UID of the app.
+     * @return The Wi-Fi usage of the UID in KBs or zero if it has no usage.
+     */
+    public long getWifiUsageKbs(int uid) {
+        int index = Arrays.binarySearch(uids, uid);
+        return index >= 0 ? wifiUsageKbs[index] : 0L;
+    }
+}
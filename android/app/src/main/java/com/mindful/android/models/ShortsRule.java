@@ -0,0 +1,177 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A rule of the short-form content detection table bundled in {@code res/raw/shorts_rules.json}.
+ * It describes how the short-form content of a platform is detected in its native apps and browsers.
+ * <p>
+ * The view ids may contain the {@link #PACKAGE_PLACEHOLDER} which is replaced with the package name of the
+ * app being checked, so the same rule works for the modded clients of an app. The other fields of a rule, like
+ * its {@code note}, are ignored.
+ */
+public class ShortsRule {
+
+    /**
+     * Placeholder in the view ids replaced with the package name of the app being checked.
+     */
+    public static final String PACKAGE_PLACEHOLDER = "{package}";
+
+    /**
+     * Readable name of the rule, used for logging only.
+     */
+    public final String name;
+
+    /**
+     * Name of the flag in {@link WellBeingSettings} which enables the rule.
+     */
+    public final String setting;
+
+    /**
+     * Packages of the native apps.
+     */
+    public final List<String> packages;
+
+    /**
+     * Substrings matching the packages of the other clients of the app.
+     */
+    public final List<String> packagePatterns;
+
+    /**
+     * Url whose handlers are the other clients of the app, if any.
+     */
+    @Nullable
+    public final String clientsOfUrl;
+
+    /**
+     * View ids of the window's root node when the content is open.
+     * <p>
+     * NOTE: The bare {@code feed_vertical_pager} id of Reddit, without the package, is carried over as is
+     * from the former hardcoded check as the app reports it that way.
+     */
+    public final List<String> rootIds;
+
+    /**
+     * View ids searched among the descendants of the window's root node.
+     */
+    public final List<String> descendantIds;
+
+    /**
+     * Texts of the window's root node or its direct children when the content is open.
+     */
+    public final List<String> texts;
+
+    /**
+     * Substrings of the content's urls, checked on browsers.
+     */
+    public final List<String> urls;
+
+    /**
+     * Constructor to initialize from JSON.
+     *
+     * @param jsonObject the JSON object containing the rule.
+     */
+    public ShortsRule(@NonNull JSONObject jsonObject) {
+        this.name = jsonObject.optString("name", "");
+        this.setting = jsonObject.optString("setting", "");
+        this.packages = stringList(jsonObject.optJSONArray("packages"));
+        this.packagePatterns = stringList(jsonObject.optJSONArray("packagePatterns"));
+        this.clientsOfUrl = jsonObject.isNull("clientsOfUrl") ? null : jsonObject.optString("clientsOfUrl");
+        this.rootIds = stringList(jsonObject.optJSONArray("rootIds"));
+        this.descendantIds = stringList(jsonObject.optJSONArray("descendantIds"));
+        this.texts = stringList(jsonObject.optJSONArray("texts"));
+        this.urls = stringList(jsonObject.optJSONArray("urls"));
+    }
+
+    /**
+     * Checks if the rule can be used, that is its flag is known and it has at least one way to detect the content.
+     *
+     * @return True if the rule is valid.
+     */
+    public boolean isValid() {
+        if (!isKnownSetting(setting)) return false;
+        return !rootIds.isEmpty() || !descendantIds.isEmpty() || !texts.isEmpty() || !urls.isEmpty();
+    }
+
+    /**
+     * Checks if the rule is enabled by its flag in the settings. Unknown flags are never enabled.
+     *
+     * @param settings The well-being settings.
+     * @return True if the rule is enabled.
+     */
+    public boolean isEnabled(@NonNull WellBeingSettings settings) {
+        switch (setting) {
+            case "blockInstaReels":
+                return settings.blockInstaReels;
+            case "blockYtShorts":
+                return settings.blockYtShorts;
+            case "blockSnapSpotlight":
+                return settings.blockSnapSpotlight;
+            case "blockFbReels":
+                return settings.blockFbReels;
+            case "blockRedditShorts":
+                return settings.blockRedditShorts;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks if the rule applies to the app.
+     *
+     * @param packageName The package name of the app.
+     * @return True if the package is one of the rule's packages or matches one of its patterns.
+     */
+    public boolean appliesTo(@NonNull String packageName) {
+        if (packages.contains(packageName)) return true;
+        for (String pattern : packagePatterns) {
+            if (packageName.contains(pattern)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isKnownSetting(@NonNull String setting) {
+        switch (setting) {
+            case "blockInstaReels":
+            case "blockYtShorts":
+            case "blockSnapSpotlight":
+            case "blockFbReels":
+            case "blockRedditShorts":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @NonNull
+    private static List<String> stringList(@Nullable JSONArray jsonArray) {
+        if (jsonArray == null || jsonArray.length() == 0) return Collections.emptyList();
+
+        List<String> list = new ArrayList<>(jsonArray.length());
+        for (int i = 0; i < jsonArray.length(); i++) {
+            String element = jsonArray.optString(i);
+            if (!element.isEmpty()) list.add(element);
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
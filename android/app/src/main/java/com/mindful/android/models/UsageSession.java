@@ -0,0 +1,69 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Represents a single foreground session of an app's activity, from its resume till its pause.
+ * <p>
+ * NOTE: Instances are reused by the producers while streaming sessions, so a session must be
+ * consumed (or copied) before asking for the next one.
+ */
+public class UsageSession {
+    public String packageName = "";
+    public String className = "";
+    public long startTime = 0L;
+    public long endTime = 0L;
+
+    /**
+     * True if the activity was still resumed when the session was produced. The end time is then the
+     * time at which the session was produced (e.g. end of the query) rather than the pause time.
+     */
+    public boolean isOpen = false;
+
+    /**
+     * True if the activity was resumed before the start of the query. The start time is then clipped
+     * to the start of the query.
+     */
+    public boolean isClipped = false;
+
+    public void set(String packageName, String className, long startTime, long endTime, boolean isOpen, boolean isClipped) {
+        this.packageName = packageName;
+        this.className = className;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.isOpen = isOpen;
+        this.isClipped = isClipped;
+    }
+
+    /**
+     * @return The duration of the session in milliseconds.
+     */
+    public long getDurationMs() {
+        return Math.max(0L, endTime - startTime);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "UsageSession{" +
+                "packageName='" + packageName + '\'' +
+                ", className='" + className + '\'' +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", isOpen=" + isOpen +
+                ", isClipped=" + isClipped +
+                '}';
+    }
+}
@@ -12,7 +12,6 @@
 
 package com.mindful.android.receivers;
 
-import android.app.usage.UsageEvents;
 import android.app.usage.UsageStatsManager;
 import android.content.BroadcastReceiver;
 import android.content.Context;
@@ -22,32 +21,51 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 
 import com.mindful.android.generics.SuccessCallback;
+import com.mindful.android.helpers.AdaptivePollingScheduler;
+import com.mindful.android.helpers.UsageEventsCursor;
+import com.mindful.android.helpers.UsageSessionPairer;
+import com.mindful.android.models.UsageSession;
+import com.mindful.android.utils.LatencyStats;
 import com.mindful.android.utils.Utils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
-
 /**
  * BroadcastReceiver that monitors device lock/unlock events and tracks app launches while the device is unlocked.
+ * <p>
+ * App launches are pushed by the accessibility service as soon as a new activity window appears. Usage events
+ * are still polled as a consistency check, which also covers the case when the accessibility service is not running.
  */
 public class DeviceLockUnlockReceiver extends BroadcastReceiver {
     private final String TAG = "Mindful.DeviceLockUnlockReceiver";
-    private static final long TIMER_RATE = 500; // Interval for tracking app launches in milliseconds
-    private final UsageStatsManager mUsageStatsManager;
+    private static final long FAST_POLLING_INTERVAL = 500; // Interval for tracking app launches right after a switch in milliseconds
+    private static final long SLOW_POLLING_INTERVAL = 4000; // Interval for tracking app launches while the same app stays in front and the accessibility service is hinting changes in milliseconds
+    private static final long PUSH_GRACE_PERIOD = 3000; // Time in milliseconds for which polling will not override a pushed app launch
+    private static final long LAUNCH_LATENCY_TARGET = 100; // Targeted launch to decision latency in milliseconds
+    private static final long LAUNCH_LATENCY_REPORT_INTERVAL = 50; // Number of launches after which the latency stats are logged
+    private final UsageEventsCursor mUsageEventsCursor;
+    private final AdaptivePollingScheduler mAppLaunchTrackingScheduler;
     private final SuccessCallback<Boolean> mOnChangeCallback;
     private final SuccessCallback<String> mOnAppLaunchCallback;
-    private final List<String> mActiveAppsList = new ArrayList<>(3);
-    private Timer mAppLaunchTrackingTimer;
-    private String mLastLaunchedAppPackage = "";
-    private boolean mIsTrackingPaused = false;
+    private final UsageSessionPairer mSessionPairer = new UsageSessionPairer(0L);
+    private final LatencyStats mPushLatencyStats = new LatencyStats("Push", LAUNCH_LATENCY_TARGET);
+    private final LatencyStats mPollLatencyStats = new LatencyStats("Poll", LAUNCH_LATENCY_TARGET);
+    // Written on the polling thread, read on the main and binder threads
+    private volatile String mLastLaunchedAppPackage = "";
+    private long mLastPushedLaunchTime = 0L;
+    private volatile boolean mIsDeviceUnlocked = false;
+    private volatile boolean mIsTrackingPaused = false;
 
 
     public DeviceLockUnlockReceiver(UsageStatsManager usageStatsManager, SuccessCallback<Boolean> onChangeCallback, SuccessCallback<String> onAppLaunchCallback) {
         mOnChangeCallback = onChangeCallback;
         mOnAppLaunchCallback = onAppLaunchCallback;
-        mUsageStatsManager = usageStatsManager;
+        mUsageEventsCursor = new UsageEventsCursor(usageStatsManager);
+        mUsageEventsCursor.seekTo(System.currentTimeMillis() - (FAST_POLLING_INTERVAL * 2));
+        mAppLaunchTrackingScheduler = new AdaptivePollingScheduler(
+                "Mindful.AppLaunchTracking",
+                FAST_POLLING_INTERVAL,
+                SLOW_POLLING_INTERVAL,
+                this::onAppLaunchTrackingPoll
+        );
         onDeviceUnlocked();
     }
 
@@ -69,17 +87,9 @@ public class DeviceLockUnlockReceiver extends BroadcastReceiver {
      * Initializes app launch tracking when the device is unlocked.
      */
     private void onDeviceUnlocked() {
-        if (mAppLaunchTrackingTimer == null) {
-            mAppLaunchTrackingTimer = new Timer();
-            mAppLaunchTrackingTimer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    onAppLaunchTrackingTimerRun();
-                }
-            }, 0, TIMER_RATE);
-        }
-
-        Log.d(TAG, "onDeviceUnlocked: Repeated task scheduled for tracking new app launches.");
+        mIsDeviceUnlocked = true;
+        mAppLaunchTrackingScheduler.start();
+        Log.d(TAG, "onDeviceUnlocked: Adaptive polling started for tracking new app launches.");
         broadcastLastAppLaunchEvent();
     }
 
@@ -87,49 +97,85 @@ public class DeviceLockUnlockReceiver extends BroadcastReceiver {
      * Stops app launch tracking when the device is locked.
      */
     private void onDeviceLocked() {
-        if (mAppLaunchTrackingTimer != null) {
-            mAppLaunchTrackingTimer.purge();
-            mAppLaunchTrackingTimer.cancel();
-            mAppLaunchTrackingTimer = null;
-        }
-        Log.d(TAG, "onDeviceLocked: App launch tracking task cancelled.");
+        mIsDeviceUnlocked = false;
+        mAppLaunchTrackingScheduler.stop();
+
+        // Consume the events till the lock and forget the open sessions, a pause missed while locked would
+        // otherwise report a stale foreground app after the unlock
+        mAppLaunchTrackingScheduler.post(() -> {
+            long now = System.currentTimeMillis();
+            mUsageEventsCursor.readNewEvents(now, mSessionPairer::onEvent);
+            mSessionPairer.reset(now);
+        });
+        Log.d(TAG, "onDeviceLocked: App launch tracking polling stopped.");
     }
 
     /**
      * Periodically checks for new app launches and broadcasts an event if a new app is detected.
+     *
+     * @return True if a new app is detected, false otherwise.
      */
-    private void onAppLaunchTrackingTimerRun() {
-        if (mIsTrackingPaused) return;
+    private boolean onAppLaunchTrackingPoll() {
+        if (mIsTrackingPaused) return false;
 
+        // Only read the events recorded since the last run
         long now = System.currentTimeMillis();
-        UsageEvents usageEvents = mUsageStatsManager.queryEvents(now - (TIMER_RATE * 2), now);
-        UsageEvents.Event currentEvent = new UsageEvents.Event();
-
-        while (usageEvents.hasNextEvent()) {
-            usageEvents.getNextEvent(currentEvent);
+        mUsageEventsCursor.readNewEvents(now, mSessionPairer::onEvent);
 
-            int eventType = currentEvent.getEventType();
-            String packageName = currentEvent.getPackageName();
+        // Usage events lag behind the pushed launches, so do not override a recent push with stale state
+        if (now - mLastPushedLaunchTime < PUSH_GRACE_PERIOD) return false;
 
-            if (eventType == UsageEvents.Event.ACTIVITY_RESUMED && !mActiveAppsList.contains(packageName)) {
-                mActiveAppsList.add(packageName);
-            } else if (eventType == UsageEvents.Event.ACTIVITY_PAUSED || eventType == UsageEvents.Event.ACTIVITY_STOPPED) {
-                mActiveAppsList.remove(packageName);
-            }
+        // The activity which came to the foreground last is the foreground app
+        UsageSession foregroundSession = mSessionPairer.getLatestOpenSession(now);
+        if (foregroundSession != null && !mLastLaunchedAppPackage.equals(foregroundSession.packageName)) {
+            mLastLaunchedAppPackage = foregroundSession.packageName;
+            broadcastAndMeasureLaunch(foregroundSession.startTime, mPollLatencyStats);
+            return true;
         }
+        return false;
+    }
 
-        if (!mActiveAppsList.isEmpty() && !mLastLaunchedAppPackage.equals(mActiveAppsList.get(0))) {
-            mLastLaunchedAppPackage = mActiveAppsList.get(0);
-            broadcastLastAppLaunchEvent();
-        }
+    /**
+     * Handles an app launch pushed by the accessibility service. The launch is applied on the tracking thread,
+     * serialized with the polls, and the polling is switched back to fast interval to verify it.
+     *
+     * @param packageName  The package name of the app whose activity came to the foreground.
+     * @param launchTimeMs The wall clock time in milliseconds at which the activity came to the foreground.
+     */
+    public void onForegroundAppChanged(@NonNull String packageName, long launchTimeMs) {
+        mAppLaunchTrackingScheduler.post(() -> {
+            if (!mIsDeviceUnlocked || mIsTrackingPaused) return;
+
+            mLastPushedLaunchTime = System.currentTimeMillis();
+            if (mLastLaunchedAppPackage.equals(packageName)) return;
+
+            mLastLaunchedAppPackage = packageName;
+            broadcastAndMeasureLaunch(launchTimeMs, mPushLatencyStats);
+        });
+        mAppLaunchTrackingScheduler.requestFastPolling();
     }
 
     /**
      * Broadcasts an event indicating the last launched app package name.
      */
     public void broadcastLastAppLaunchEvent() {
-        if (mLastLaunchedAppPackage.isEmpty()) return;
-        mOnAppLaunchCallback.onSuccess(mLastLaunchedAppPackage);
+        String lastLaunchedAppPackage = mLastLaunchedAppPackage;
+        if (lastLaunchedAppPackage.isEmpty()) return;
+        mOnAppLaunchCallback.onSuccess(lastLaunchedAppPackage);
+    }
+
+    /**
+     * Broadcasts the last launched app and records the time taken from the launch until the callback made its decision.
+     *
+     * @param launchTimeMs The wall clock time in milliseconds at which the app was launched.
+     * @param latencyStats The stats of the source which detected the launch.
+     */
+    private void broadcastAndMeasureLaunch(long launchTimeMs, @NonNull LatencyStats latencyStats) {
+        broadcastLastAppLaunchEvent();
+        long samples = latencyStats.record(System.currentTimeMillis() - launchTimeMs);
+        if (samples % LAUNCH_LATENCY_REPORT_INTERVAL == 0) {
+            Log.d(TAG, "broadcastAndMeasureLaunch: Launch to decision latency " + latencyStats);
+        }
     }
 
     /**
@@ -142,10 +188,29 @@ public class DeviceLockUnlockReceiver extends BroadcastReceiver {
         if (!shouldPause) broadcastLastAppLaunchEvent();
     }
 
+    /**
+     * Hints that the foreground app may have changed, for example when a new window appeared.
+     * The tracking switches back to fast polling so the switch is detected without waiting for the backed off interval.
+     */
+    public void onForegroundChangeHint() {
+        mAppLaunchTrackingScheduler.requestFastPolling();
+    }
+
+    /**
+     * Updates whether the accessibility service is bound and hinting foreground changes. Polling only backs off
+     * to the slow interval while it is, otherwise it keeps polling at the fast interval.
+     *
+     * @param isConnected True if the hint source is connected, false otherwise.
+     */
+    public void setForegroundHintSourceConnected(boolean isConnected) {
+        mAppLaunchTrackingScheduler.setBackOffEnabled(isConnected);
+    }
+
     /**
      * Cleans up resources and stops tracking when no longer needed.
      */
     public void dispose() {
-        onDeviceLocked();
+        Log.d(TAG, "dispose: Launch to decision latency " + mPushLatencyStats + " | " + mPollLatencyStats);
+        mAppLaunchTrackingScheduler.dispose();
     }
 }
@@ -12,17 +12,17 @@
 
 package com.mindful.android.services;
 
-import static com.mindful.android.helpers.ShortsBlockingHelper.FACEBOOK_PACKAGE;
-import static com.mindful.android.helpers.ShortsBlockingHelper.INSTAGRAM_PACKAGE;
-import static com.mindful.android.helpers.ShortsBlockingHelper.REDDIT_PACKAGE;
-import static com.mindful.android.helpers.ShortsBlockingHelper.SNAPCHAT_PACKAGE;
-import static com.mindful.android.helpers.ShortsBlockingHelper.YOUTUBE_CLIENT_PACKAGE_PREFIX;
-import static com.mindful.android.helpers.ShortsBlockingHelper.YOUTUBE_PACKAGE;
+import static com.mindful.android.models.ContentBlockingSnapshot.URL_BING_SEARCH;
+import static com.mindful.android.models.ContentBlockingSnapshot.URL_BRAVE_SEARCH;
+import static com.mindful.android.models.ContentBlockingSnapshot.URL_DUCKDUCKGO_SEARCH;
+import static com.mindful.android.models.ContentBlockingSnapshot.URL_GOOGLE_SEARCH;
+import static com.mindful.android.models.ContentBlockingSnapshot.URL_SAFE_SEARCH_ACTIVE;
 import static com.mindful.android.receivers.alarm.MidnightResetReceiver.ACTION_MIDNIGHT_SERVICE_RESET;
 
 import android.accessibilityservice.AccessibilityService;
 import android.accessibilityservice.AccessibilityServiceInfo;
 import android.content.BroadcastReceiver;
+import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
@@ -32,6 +32,7 @@ import android.content.pm.ResolveInfo;
 import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.provider.Browser;
 import android.util.Log;
 import android.view.accessibility.AccessibilityEvent;
@@ -42,17 +43,26 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.mindful.android.R;
+import com.mindful.android.generics.SafeServiceConnection;
+import com.mindful.android.helpers.AppIconCache;
+import com.mindful.android.helpers.AppInventory;
+import com.mindful.android.helpers.BlocklistImportHelper;
+import com.mindful.android.helpers.BrowserUrlBarResolver;
+import com.mindful.android.helpers.CoalescingEventDispatcher;
+import com.mindful.android.helpers.LaunchableAppsResolver;
 import com.mindful.android.helpers.SharedPrefsHelper;
 import com.mindful.android.helpers.ShortsBlockingHelper;
+import com.mindful.android.models.ContentBlockingSnapshot;
+import com.mindful.android.models.ShortsRule;
 import com.mindful.android.models.WellBeingSettings;
+import com.mindful.android.utils.DomainBlocklist;
 import com.mindful.android.utils.NsfwDomains;
 import com.mindful.android.utils.Utils;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -61,6 +71,11 @@ import java.util.concurrent.Executors;
  */
 public class MindfulAccessibilityService extends AccessibilityService implements SharedPreferences.OnSharedPreferenceChangeListener {
     private static final String TAG = "Mindful.MindfulAccessibilityService";
+    public static final String ACTION_TRACKER_SERVICE_STARTED = "com.mindful.android.MindfulAccessibilityService.TRACKER_SERVICE_STARTED";
+    public static final String ACTION_TRACKER_SERVICE_STOPPED = "com.mindful.android.MindfulAccessibilityService.TRACKER_SERVICE_STOPPED";
+    public static final String ACTION_TRACKED_APPS_UPDATED = "com.mindful.android.MindfulAccessibilityService.TRACKED_APPS_UPDATED";
+    public static final String ACTION_BLOCKLIST_UPDATED = "com.mindful.android.MindfulAccessibilityService.BLOCKLIST_UPDATED";
+    public static final String ACTION_SHORTS_RULES_UPDATED = "com.mindful.android.MindfulAccessibilityService.SHORTS_RULES_UPDATED";
 
     /**
      * The minimum interval between every Back Action [BACK PRESS] call from service
@@ -79,27 +94,38 @@ public class MindfulAccessibilityService extends AccessibilityService implements
      */
     private static final long SHORT_CONTENT_ACTIVITY_APPROX = 30 * 1000;
 
+    /**
+     * The delay used for dispatching events. It throttles the content changed events, so it is kept the same
+     * while window changes are forwarded to the tracker service. The window changes only hint the tracker, whose
+     * fast polling of the usage events detects the launch without waiting for this delay.
+     */
+    private static final long NOTIFICATION_TIMEOUT_MS = 500L;
+
+    /**
+     * The number of threads processing the content changed events.
+     */
+    private static final int EVENT_PROCESSING_WORKERS = 4;
 
     /**
-     * List of Ids of URL Bars used by different browsers.
-     * These are used to retrieve/extract url from the browsers.
+     * The maximum number of pending content changed events across all the windows.
      */
-    private final HashSet<String> mUrlBarNodeIds = new HashSet<>(Set.of(
-            ":id/url_bar",
-            ":id/mozac_browser_toolbar_url_view",
-            ":id/url",
-            ":id/search",
-            ":id/url_field",
-            ":id/location_bar_edit_text",
-            ":id/addressbarEdit",
-            ":id/bro_omnibar_address_title_text"
-    ));
-
-    // Fixed thread pool for parallel event processing
-    private final ExecutorService mExecutorService = Executors.newFixedThreadPool(4);
+    private static final int MAX_PENDING_EVENTS = 16;
+
+    // Latest-wins dispatcher for parallel event processing
+    private final CoalescingEventDispatcher mEventDispatcher = new CoalescingEventDispatcher(
+            EVENT_PROCESSING_WORKERS,
+            MAX_PENDING_EVENTS,
+            this::processEventInBackground
+    );
+    private final BrowserUrlBarResolver mUrlBarResolver = new BrowserUrlBarResolver();
     private AppInstallUninstallReceiver mAppInstallUninstallReceiver;
+    private SafeServiceConnection<MindfulTrackerService> mTrackerServiceConn;
+    // Package manager lookups of the window classes, kept off the main thread
+    private final ExecutorService mComponentLookupExecutor = Executors.newSingleThreadExecutor();
+    private final ConcurrentHashMap<String, Boolean> mActivityComponentsCache = new ConcurrentHashMap<>();
     private WellBeingSettings mWellBeingSettings = new WellBeingSettings();
-    private Map<String, Boolean> mNsfwWebsites = new HashMap<>();
+    private DomainBlocklist mImportedBlocklist = null;
+    private volatile ContentBlockingSnapshot mBlockingSnapshot = new ContentBlockingSnapshot();
     private String mLastRedirectedUrl = "";
 
     private long mLastTimeShortsCheck = 0L;
@@ -111,10 +137,36 @@ public class MindfulAccessibilityService extends AccessibilityService implements
     public int onStartCommand(Intent intent, int flags, int startId) {
         String action = Utils.getActionFromIntent(intent);
 
-        if (ACTION_MIDNIGHT_SERVICE_RESET.equals(action)) {
-            mTotalShortsScreenTimeMs = 0;
-            SharedPrefsHelper.getSetShortsScreenTimeMs(this, 0L);
-            Log.d(TAG, "onStartCommand: Midnight reset completed");
+        switch (action) {
+            case ACTION_MIDNIGHT_SERVICE_RESET: {
+                mTotalShortsScreenTimeMs = 0;
+                SharedPrefsHelper.getSetShortsScreenTimeMs(this, 0L);
+                Log.d(TAG, "onStartCommand: Midnight reset completed");
+                break;
+            }
+            case ACTION_TRACKER_SERVICE_STARTED: {
+                // Service info is refreshed by the connection callback once bound
+                if (mTrackerServiceConn != null) mTrackerServiceConn.bindService();
+                break;
+            }
+            case ACTION_TRACKER_SERVICE_STOPPED: {
+                if (mTrackerServiceConn != null) mTrackerServiceConn.unBindService();
+                refreshServiceInfo();
+                break;
+            }
+            case ACTION_TRACKED_APPS_UPDATED: {
+                refreshServiceInfo();
+                break;
+            }
+            case ACTION_BLOCKLIST_UPDATED: {
+                mImportedBlocklist = BlocklistImportHelper.openBlocklist(this);
+                refreshServiceInfo();
+                break;
+            }
+            case ACTION_SHORTS_RULES_UPDATED: {
+                refreshServiceInfo();
+                break;
+            }
         }
         return super.onStartCommand(intent, flags, startId);
     }
@@ -127,6 +179,7 @@ public class MindfulAccessibilityService extends AccessibilityService implements
         SharedPrefsHelper.registerUnregisterListener(this, true, this);
         mWellBeingSettings = SharedPrefsHelper.getSetWellBeingSettings(this, null);
         mTotalShortsScreenTimeMs = SharedPrefsHelper.getSetShortsScreenTimeMs(this, null);
+        mImportedBlocklist = BlocklistImportHelper.openBlocklist(this);
 
         // Register listener for install and uninstall events
         if (mAppInstallUninstallReceiver == null) {
@@ -138,29 +191,110 @@ public class MindfulAccessibilityService extends AccessibilityService implements
             registerReceiver(mAppInstallUninstallReceiver, filter);
         }
 
+        // Bind to the tracker service, if it is running, for forwarding window changes
+        if (mTrackerServiceConn == null) {
+            mTrackerServiceConn = new SafeServiceConnection<>(MindfulTrackerService.class, this);
+            mTrackerServiceConn.setOnConnectedCallback(service -> {
+                service.onForegroundHintSourceChanged(true);
+                refreshServiceInfo();
+            });
+        }
+        mTrackerServiceConn.bindService();
+
         refreshServiceInfo();
         Log.d(TAG, "onCreate: Accessibility service started successfully");
     }
 
     @Override
     public void onAccessibilityEvent(@NonNull AccessibilityEvent event) {
+        // Let the tracker know about the possible app switch
+        if (event.getEventType() == AccessibilityEvent.TYPE_WINDOW_STATE_CHANGED) {
+            onWindowStateChanged(event);
+            return;
+        }
+
         // Minimal checks on the main thread
-        if (!shouldBlockContent() || event.getEventType() != AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED || event.getPackageName() == null) {
+        ContentBlockingSnapshot snapshot = mBlockingSnapshot;
+        if (!snapshot.shouldBlockContent || event.getEventType() != AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED || event.getPackageName() == null) {
             return;
         }
 
         // Capture event data for background processing
         String packageName = event.getPackageName().toString();
+
+        // Events are also received from the restricted apps and launchers while tracking window changes, so skip the apps which are not blocked
+        if (!snapshot.monitoredPackages.contains(packageName)) return;
         AccessibilityNodeInfo node = event.getSource();
 
         // Return early if node data is insufficient
         if (node == null || node.getClassName() == null) return;
 
-        // Offload the main processing to a background thread
-        try {
-            mExecutorService.submit(() -> processEventInBackground(packageName, node));
-        } catch (Exception ignored) {
+        // Offload the main processing to a background thread, replacing the pending event of the same window
+        mEventDispatcher.dispatch(packageName, event.getWindowId(), node);
+    }
+
+    /**
+     * Forwards the window state change to the tracker service. If the window belongs to an activity then
+     * the app is pushed as the new foreground app, otherwise (dialogs, popups, notification shade etc.)
+     * the tracker is only hinted to verify the foreground app by polling.
+     *
+     * @param event The window state changed event.
+     */
+    private void onWindowStateChanged(@NonNull AccessibilityEvent event) {
+        if (mTrackerServiceConn == null || !mTrackerServiceConn.isConnected()) return;
+        MindfulTrackerService trackerService = mTrackerServiceConn.getService();
+
+        CharSequence className = event.getClassName();
+        if (event.getPackageName() == null || className == null) {
+            trackerService.onForegroundChangeHint();
+            return;
+        }
+
+        // Event time is in uptime millis, convert it to wall clock time. The event time is taken when the window
+        // changed, so the push latency also includes the time the event was held back by the notification timeout.
+        String packageName = event.getPackageName().toString();
+        long launchTimeMs = System.currentTimeMillis() - (SystemClock.uptimeMillis() - event.getEventTime());
+
+        Boolean isActivity = mActivityComponentsCache.get(packageName + "/" + className);
+        if (isActivity == null) {
+            // First time seen window, hint right away and push once the package manager is asked in background
+            trackerService.onForegroundChangeHint();
+            String windowClassName = className.toString();
+            mComponentLookupExecutor.execute(() -> {
+                if (isActivityComponent(packageName, windowClassName)) {
+                    trackerService.onForegroundAppChanged(packageName, launchTimeMs);
+                }
+            });
+        } else if (isActivity) {
+            trackerService.onForegroundAppChanged(packageName, launchTimeMs);
+        } else {
+            trackerService.onForegroundChangeHint();
+        }
+    }
+
+    /**
+     * Checks if the class name belongs to an activity of the package. The results are cached as
+     * the same windows keep appearing again and again.
+     * <p>
+     * NOTE: Asks the package manager on a cache miss, so it must not be called on the main thread.
+     *
+     * @param packageName The package name of the window's app.
+     * @param className   The class name of the window.
+     * @return True if the class is an activity of the package, false otherwise.
+     */
+    private boolean isActivityComponent(@NonNull String packageName, @NonNull String className) {
+        String component = packageName + "/" + className;
+        Boolean isActivity = mActivityComponentsCache.get(component);
+        if (isActivity == null) {
+            try {
+                getPackageManager().getActivityInfo(new ComponentName(packageName, className), 0);
+                isActivity = true;
+            } catch (PackageManager.NameNotFoundException e) {
+                isActivity = false;
+            }
+            mActivityComponentsCache.put(component, isActivity);
         }
+        return isActivity;
     }
 
     /**
@@ -171,63 +305,28 @@ public class MindfulAccessibilityService extends AccessibilityService implements
      */
     private void processEventInBackground(@NonNull String packageName, AccessibilityNodeInfo node) {
         try {
-            // Copy settings for this thread
-            WellBeingSettings settings = mWellBeingSettings.makeCopy();
-
-            boolean shouldBlock = false;
-            switch (packageName) {
-                case INSTAGRAM_PACKAGE:
-                    shouldBlock = settings.blockInstaReels && ShortsBlockingHelper.isInstaReelsOpen(node);
-                    break;
-                case SNAPCHAT_PACKAGE:
-                    shouldBlock = settings.blockSnapSpotlight && ShortsBlockingHelper.isSnapchatSpotlightOpen(node);
-                    break;
-                case FACEBOOK_PACKAGE:
-                    shouldBlock = settings.blockFbReels && ShortsBlockingHelper.isFacebookReelsOpen(node);
-                    break;
-                case REDDIT_PACKAGE:
-                    shouldBlock = settings.blockRedditShorts && ShortsBlockingHelper.isRedditShortsOpen(node);
-                    break;
-                default:
-                    if (settings.blockYtShorts && packageName.contains(YOUTUBE_CLIENT_PACKAGE_PREFIX)) {
-                        shouldBlock = ShortsBlockingHelper.isYoutubeShortsOpen(node, packageName);
-                    } else {
-                        blockDistractionOnBrowsers(node, packageName);
-                    }
-                    break;
-            }
-
-            if (shouldBlock) {
-                checkTimerAndBlockShortContent();
+            // Read the published snapshot once, so the whole event sees consistent settings
+            ContentBlockingSnapshot snapshot = mBlockingSnapshot;
+
+            ContentBlockingSnapshot.ShortsCheck shortsCheck = snapshot.getShortsCheck(packageName);
+            if (shortsCheck == null) {
+                blockDistractionOnBrowsers(node, packageName, snapshot);
+            } else if (shortsCheck.isShortsOpen(node, packageName)) {
+                checkTimerAndBlockShortContent(snapshot.settings);
             }
         } catch (Exception ignored) {
         }
     }
 
-
-    /**
-     * Determines whether content should be blocked based on the current settings.
-     *
-     * @return {@code true} if content should be blocked based on the current settings,
-     * {@code false} otherwise.
-     */
-    private boolean shouldBlockContent() {
-        return !mWellBeingSettings.blockedWebsites.isEmpty() ||
-                mWellBeingSettings.blockInstaReels ||
-                mWellBeingSettings.blockYtShorts ||
-                mWellBeingSettings.blockSnapSpotlight ||
-                mWellBeingSettings.blockFbReels ||
-                mWellBeingSettings.blockNsfwSites;
-    }
-
     /**
      * Blocks access to websites and short-form content based on current settings.
      *
      * @param node        The AccessibilityNodeInfo of the current view.
      * @param packageName The package name of the app.
+     * @param snapshot    The snapshot of the settings to check against.
      */
-    private void blockDistractionOnBrowsers(@NonNull AccessibilityNodeInfo node, String packageName) {
-        String url = extractBrowserUrl(node, packageName);
+    private void blockDistractionOnBrowsers(@NonNull AccessibilityNodeInfo node, String packageName, @NonNull ContentBlockingSnapshot snapshot) {
+        String url = mUrlBarResolver.extractUrl(node, packageName);
 
         // Return if url is empty or does not contain dot or have space this basically means its not url
         if (url.contains(" ") || !url.contains(".")) return;
@@ -235,60 +334,29 @@ public class MindfulAccessibilityService extends AccessibilityService implements
         // Clean google AMP from the url if found (some site can appear in the AMP container with google's amp domain)
         url = url.replace("google.com/amp/s/amp.", "");
 
-        // Block websites
-        String host = Utils.parseHostNameFromUrl(url);
-        if (mWellBeingSettings.blockedWebsites.contains(host) || mNsfwWebsites.get(host) != null) {
+        // Block websites, the domain indexes are lowercase
+        String host = Utils.parseHostNameFromUrl(url).toLowerCase(Locale.ROOT);
+        if (snapshot.isWebsiteBlocked(host)) {
             Log.d(TAG, "blockDistractionOnBrowsers: Blocked website " + host + " opened in " + packageName);
             goBackWithToast();
             return;
         }
 
         // Block short form content
-        if (ShortsBlockingHelper.isShortContentOpenOnBrowser(mWellBeingSettings, url)) {
-            Log.d(TAG, "blockDistractionOnBrowsers: Blocked short content " + url + " opened in " + packageName);
-            checkTimerAndBlockShortContent();
+        int urlClass = snapshot.classifyUrl(url);
+        ShortsRule shortsRule = snapshot.getShortContentRule(urlClass);
+        if (shortsRule != null) {
+            Log.d(TAG, "blockDistractionOnBrowsers: Blocked " + shortsRule.name + " " + url + " opened in " + packageName);
+            checkTimerAndBlockShortContent(snapshot.settings);
             return;
         }
 
         // Activate safe search if NSFW is blocked
-        if (mWellBeingSettings.blockNsfwSites) {
-            applySafeSearch(packageName, url, host);
+        if (snapshot.settings.blockNsfwSites) {
+            applySafeSearch(packageName, url, host, urlClass);
         }
     }
 
-    /**
-     * Extracts the URL from the given AccessibilityNodeInfo based on the app package name.
-     *
-     * @param node        The AccessibilityNodeInfo of the current view.
-     * @param packageName The package name of the app.
-     * @return The extracted URL as a string.
-     */
-    @NonNull
-    private String extractBrowserUrl(@NonNull AccessibilityNodeInfo node, String packageName) {
-        try {
-            for (String id : mUrlBarNodeIds) {
-                List<AccessibilityNodeInfo> urlBarNodes = node.findAccessibilityNodeInfosByViewId(packageName + id);
-                if (!urlBarNodes.isEmpty()) {
-                    CharSequence txtSequence = urlBarNodes.get(0).getText();
-                    if (txtSequence != null && txtSequence.length() > 1) {
-                        return txtSequence.toString();
-                    }
-                }
-            }
-
-            // Find by input field class
-            if (node.getClassName().equals("android.widget.EditText")) {
-                CharSequence txtSequence = node.getText();
-                if (txtSequence != null && txtSequence.length() > 1) {
-                    return txtSequence.toString();
-                }
-            }
-        } catch (Exception ignored) {
-        }
-
-        return "";
-    }
-
     /**
      * Redirects the user to safe search results by using different techniques on different search engines.
      * Supported search engines are GOOGLE, BRAVE, BING, DUCKDUCKGO
@@ -296,20 +364,21 @@ public class MindfulAccessibilityService extends AccessibilityService implements
      * @param browserPackage The package name of the browser app.
      * @param url            The url from the browser's search bar.
      * @param hostDomain     The resolved host name for the provided url.
+     * @param urlClass       The classes of the url returned by {@link ContentBlockingSnapshot#classifyUrl(String)}.
      */
-    private void applySafeSearch(String browserPackage, @NonNull String url, String hostDomain) {
+    private void applySafeSearch(String browserPackage, @NonNull String url, String hostDomain, int urlClass) {
         // For bing, google use &safe=active flag
         // For brave, duckduckgo switch domain to safe.[SEARCH_ENGINE_DOMAIN]
 
         // For GOOGLE and BING search engines
-        if (!url.contains("safe=active") && (url.contains("google.com/search?") || url.contains("bing.com/search?"))) {
+        if ((urlClass & URL_SAFE_SEARCH_ACTIVE) == 0 && (urlClass & (URL_GOOGLE_SEARCH | URL_BING_SEARCH)) != 0) {
             String safeUrl = url.replace("/search?", "/search?safe=active&");
             redirectUserToUrl(safeUrl, browserPackage);
         }
         // For DUCKDUCKGO and BRAVE search engines
-        else if (!hostDomain.contains("safe.") && (url.contains("search.brave.com/search?") || url.contains("duckduckgo.com/?"))) {
+        else if (!hostDomain.contains("safe.") && (urlClass & (URL_BRAVE_SEARCH | URL_DUCKDUCKGO_SEARCH)) != 0) {
             String safeUrl =
-                    hostDomain.contains("search.brave.com") ?
+                    (urlClass & URL_BRAVE_SEARCH) != 0 ?
                             url.replace("search.brave.com", "safe.search.brave.com") :
                             url.replace("duckduckgo.com", "safe.duckduckgo.com");
 
@@ -350,9 +419,11 @@ public class MindfulAccessibilityService extends AccessibilityService implements
 
     /**
      * Checks the total screen time for short-form content and blocks access if the allowed time has been exceeded.
+     *
+     * @param settings The settings from the snapshot the event is checked against.
      */
-    private void checkTimerAndBlockShortContent() {
-        if (mWellBeingSettings.allowedShortContentTimeMs < 0 || mTotalShortsScreenTimeMs > (mWellBeingSettings.allowedShortContentTimeMs + SHARED_PREF_INVOKE_INTERVAL_MS)) {
+    private void checkTimerAndBlockShortContent(@NonNull WellBeingSettings settings) {
+        if (settings.allowedShortContentTimeMs < 0 || mTotalShortsScreenTimeMs > (settings.allowedShortContentTimeMs + SHARED_PREF_INVOKE_INTERVAL_MS)) {
             goBackWithToast();
             return;
         }
@@ -409,37 +480,57 @@ public class MindfulAccessibilityService extends AccessibilityService implements
         }
 
         // For short form content blocking on their native apps
-        if (mWellBeingSettings.blockInstaReels) allowedAppPackages.add(INSTAGRAM_PACKAGE);
-        if (mWellBeingSettings.blockSnapSpotlight) allowedAppPackages.add(SNAPCHAT_PACKAGE);
-        if (mWellBeingSettings.blockFbReels) allowedAppPackages.add(FACEBOOK_PACKAGE);
-        if (mWellBeingSettings.blockRedditShorts) allowedAppPackages.add(REDDIT_PACKAGE);
+        ShortsBlockingHelper shortsRules = ShortsBlockingHelper.getInstance(this);
+        for (ShortsRule rule : shortsRules.getEnabledRules(mWellBeingSettings)) {
+            allowedAppPackages.addAll(rule.packages);
+            if (rule.clientsOfUrl == null) continue;
 
-        if (mWellBeingSettings.blockYtShorts) {
-            // Fetch all the clients available for youtube. It can also include browsers too.
-            Intent ytIntent = new Intent(Intent.ACTION_VIEW, Uri.parse("https://www.youtube.com"));
-            List<ResolveInfo> ytClients = pm.queryIntentActivities(ytIntent, PackageManager.MATCH_ALL);
+            // Fetch all the other clients available for the app. It can also include browsers too.
+            Intent clientsIntent = new Intent(Intent.ACTION_VIEW, Uri.parse(rule.clientsOfUrl));
+            List<ResolveInfo> clients = pm.queryIntentActivities(clientsIntent, PackageManager.MATCH_ALL);
 
-            for (ResolveInfo client : ytClients) {
+            for (ResolveInfo client : clients) {
                 allowedAppPackages.add(client.activityInfo.packageName);
-                Log.d(TAG, "refreshServiceInfo: Youtube clients found: " + client.activityInfo.packageName);
+                Log.d(TAG, "refreshServiceInfo: " + rule.name + " clients found: " + client.activityInfo.packageName);
             }
+        }
 
-            // Regardless of the results add original youtube package.
-            allowedAppPackages.add(YOUTUBE_PACKAGE);
+        // Load nsfw website domains if needed, otherwise release them
+        NsfwDomains nsfwDomains = null;
+        if (mWellBeingSettings.blockNsfwSites) {
+            nsfwDomains = NsfwDomains.getInstance(this);
+        } else {
+            NsfwDomains.release();
         }
 
-        // Load nsfw website domains if needed
-        mNsfwWebsites = mWellBeingSettings.blockNsfwSites ? NsfwDomains.init() : new HashMap<>(0);
+        // Publish the compiled settings for the event processing threads
+        mBlockingSnapshot = new ContentBlockingSnapshot(mWellBeingSettings, allowedAppPackages, shortsRules, nsfwDomains, mImportedBlocklist);
+
+        // Window changes are forwarded for the restricted apps and the launchers, as most of the times the user
+        // leaves an app for the home screen. The package filter and the timeout of the service info apply to all
+        // the event types, so the content changed events are still received only from the few packages in the filter.
+        HashSet<String> filteredPackages = new HashSet<>(allowedAppPackages);
+        boolean isTrackingWindowChanges = mTrackerServiceConn != null && mTrackerServiceConn.isConnected();
+        if (isTrackingWindowChanges) {
+            filteredPackages.addAll(mTrackerServiceConn.getService().getTrackedPackages());
+
+            Intent homeIntent = new Intent(Intent.ACTION_MAIN).addCategory(Intent.CATEGORY_HOME);
+            for (ResolveInfo launcher : pm.queryIntentActivities(homeIntent, PackageManager.MATCH_ALL)) {
+                filteredPackages.add(launcher.activityInfo.packageName);
+            }
+        }
 
         AccessibilityServiceInfo info = new AccessibilityServiceInfo();
-        info.eventTypes = AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED;
+        info.eventTypes = isTrackingWindowChanges
+                ? AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED | AccessibilityEvent.TYPE_WINDOW_STATE_CHANGED
+                : AccessibilityEvent.TYPE_WINDOW_CONTENT_CHANGED;
         info.feedbackType = AccessibilityServiceInfo.FEEDBACK_ALL_MASK;
         info.flags = AccessibilityServiceInfo.DEFAULT |
                 AccessibilityServiceInfo.FLAG_INCLUDE_NOT_IMPORTANT_VIEWS |
                 AccessibilityServiceInfo.FLAG_REPORT_VIEW_IDS |
                 AccessibilityServiceInfo.FLAG_RETRIEVE_INTERACTIVE_WINDOWS;
-        info.notificationTimeout = 500;
-        info.packageNames = allowedAppPackages.toArray(new String[0]);
+        info.notificationTimeout = NOTIFICATION_TIMEOUT_MS;
+        info.packageNames = filteredPackages.toArray(new String[0]);
         setServiceInfo(info);
 
         Log.d(TAG, "refreshServiceInfo: Accessibility service updated successfully");
@@ -456,19 +547,26 @@ public class MindfulAccessibilityService extends AccessibilityService implements
 
     @Override
     public void onInterrupt() {
-        mExecutorService.shutdown();
+        // Interruption of feedback does not stop the service, so the dispatcher is only shut down on destroy
+        Log.d(TAG, "onInterrupt: Accessibility service interrupted");
     }
 
     @Override
     public void onDestroy() {
         super.onDestroy();
-        mExecutorService.shutdown();
+        mEventDispatcher.shutdown();
+        mComponentLookupExecutor.shutdownNow();
         // Unregister prefs listener and receiver
         if (mAppInstallUninstallReceiver != null) {
             unregisterReceiver(mAppInstallUninstallReceiver);
             mAppInstallUninstallReceiver = null;
         }
+        if (mTrackerServiceConn != null) {
+            if (mTrackerServiceConn.isConnected()) mTrackerServiceConn.getService().onForegroundHintSourceChanged(false);
+            mTrackerServiceConn.unBindService();
+        }
         SharedPrefsHelper.registerUnregisterListener(this, false, this);
+        mUrlBarResolver.logStats();
         Log.d(TAG, "onDestroy: Accessibility service destroyed");
     }
 
@@ -482,7 +580,13 @@ public class MindfulAccessibilityService extends AccessibilityService implements
             String action = intent.getAction();
 
             if (Intent.ACTION_PACKAGE_ADDED.equals(action) || Intent.ACTION_PACKAGE_REMOVED.equals(action)) {
-                Log.d(TAG, "onReceive: App install/uninstall event received with action : " + action + " for package: " + getPackageName(intent));
+                String packageName = getPackageName(intent);
+                Log.d(TAG, "onReceive: App install/uninstall event received with action : " + action + " for package: " + packageName);
+                mActivityComponentsCache.clear();
+                AppIconCache.getInstance(context).invalidate(packageName);
+                AppInventory.getInstance(context).onPackageChanged(packageName);
+                LaunchableAppsResolver.invalidate();
+                mUrlBarResolver.invalidate(packageName);
                 refreshServiceInfo();
             }
         }
@@ -14,6 +14,9 @@ package com.mindful.android.services;
 
 import static com.mindful.android.helpers.NotificationHelper.NOTIFICATION_CRITICAL_CHANNEL_ID;
 import static com.mindful.android.receivers.alarm.MidnightResetReceiver.ACTION_MIDNIGHT_SERVICE_RESET;
+import static com.mindful.android.services.MindfulAccessibilityService.ACTION_TRACKED_APPS_UPDATED;
+import static com.mindful.android.services.MindfulAccessibilityService.ACTION_TRACKER_SERVICE_STARTED;
+import static com.mindful.android.services.MindfulAccessibilityService.ACTION_TRACKER_SERVICE_STOPPED;
 import static com.mindful.android.services.OverlayDialogService.INTENT_EXTRA_MAX_PROGRESS;
 import static com.mindful.android.services.OverlayDialogService.INTENT_EXTRA_DIALOG_INFO;
 import static com.mindful.android.services.OverlayDialogService.INTENT_EXTRA_PACKAGE_NAME;
@@ -41,7 +44,8 @@ import androidx.core.app.NotificationCompat;
 import com.mindful.android.R;
 import com.mindful.android.generics.ServiceBinder;
 import com.mindful.android.helpers.NotificationHelper;
-import com.mindful.android.helpers.ScreenUsageHelper;
+import com.mindful.android.helpers.TodayUsageLedger;
+import com.mindful.android.helpers.UsageRollupDbHelper;
 import com.mindful.android.models.AppRestrictions;
 import com.mindful.android.models.PurgedReason;
 import com.mindful.android.models.RestrictionGroup;
@@ -49,6 +53,7 @@ import com.mindful.android.receivers.DeviceLockUnlockReceiver;
 import com.mindful.android.utils.AppConstants;
 import com.mindful.android.utils.JsonDeserializer;
 import com.mindful.android.utils.Utils;
+import com.mindful.android.widgets.DeviceUsageWidget;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -75,9 +80,11 @@ public class MindfulTrackerService extends Service {
     private CountDownTimer mOngoingAppTimer;
     private UsageStatsManager mUsageStatsManager;
     private DeviceLockUnlockReceiver mLockUnlockReceiver;
+    private TodayUsageLedger mTodayUsageLedger;
 
     private final HashMap<String, PurgedReason> mPurgedApps = new HashMap<>();
     private final HashMap<String, Integer> mAppsLaunchCount = new HashMap<>();
+    private int mAppsLaunchCountDay = UsageRollupDbHelper.getDayKey(System.currentTimeMillis());
 
 
     private HashMap<String, AppRestrictions> mAppsRestrictions = new HashMap<>(0);
@@ -91,6 +98,7 @@ public class MindfulTrackerService extends Service {
     public void onCreate() {
         super.onCreate();
         mUsageStatsManager = (UsageStatsManager) getSystemService(Context.USAGE_STATS_SERVICE);
+        mTodayUsageLedger = new TodayUsageLedger(mUsageStatsManager);
 
         // Register lock/unlock receiver
         IntentFilter lockUnlockFilter = new IntentFilter();
@@ -114,19 +122,22 @@ public class MindfulTrackerService extends Service {
             case ACTION_START_BEDTIME_MODE: {
                 startForegroundService();
                 mBedtimeDistractingApps = JsonDeserializer.getStringHashSetFromIntent(intent, INTENT_EXTRA_DISTRACTING_APPS);
+                notifyAccessibilityService(ACTION_TRACKED_APPS_UPDATED);
                 if (mLockUnlockReceiver != null) mLockUnlockReceiver.broadcastLastAppLaunchEvent();
                 Log.d(TAG, "onStartCommand: Bedtime routine STARTED successfully");
                 return START_STICKY;
             }
             case ACTION_STOP_BEDTIME_MODE: {
                 mBedtimeDistractingApps.clear();
+                notifyAccessibilityService(ACTION_TRACKED_APPS_UPDATED);
                 Log.d(TAG, "onStartCommand: Bedtime routine STOPPED successfully");
                 stopIfNoUsage();
                 return START_STICKY;
             }
             case ACTION_MIDNIGHT_SERVICE_RESET: {
                 mPurgedApps.clear();
-                mAppsLaunchCount.clear();
+                saveAppsLaunchCount();
+                mTodayUsageLedger.invalidate();
                 Log.d(TAG, "onStartCommand: Midnight reset completed");
                 return START_STICKY;
             }
@@ -152,6 +163,7 @@ public class MindfulTrackerService extends Service {
                     )
             );
             mIsServiceRunning = true;
+            notifyAccessibilityService(ACTION_TRACKER_SERVICE_STARTED);
             Log.d(TAG, "startForegroundService: Foreground service started successfully");
         } catch (Exception e) {
             Log.e(TAG, "startForegroundService: Failed to start foreground service", e);
@@ -173,6 +185,7 @@ public class MindfulTrackerService extends Service {
         if (appsRestrictionsMap != null) mAppsRestrictions = appsRestrictionsMap;
         if (restrictionGroups != null) mRestrictionGroups = restrictionGroups;
         mPurgedApps.clear();
+        notifyAccessibilityService(ACTION_TRACKED_APPS_UPDATED);
         Log.d(TAG, "updateRestrictionData: Restriction data updated");
         stopIfNoUsage();
     }
@@ -186,9 +199,11 @@ public class MindfulTrackerService extends Service {
     public void startStopUpdateFocusSession(@Nullable HashSet<String> distractingApps) {
         if (distractingApps != null) {
             mFocusSessionDistractingApps = distractingApps;
+            notifyAccessibilityService(ACTION_TRACKED_APPS_UPDATED);
             Log.d(TAG, "startStopUpdateFocusSession: Focus Session STARTED or UPDATED successfully");
         } else {
             mFocusSessionDistractingApps.clear();
+            notifyAccessibilityService(ACTION_TRACKED_APPS_UPDATED);
             Log.d(TAG, "startStopUpdateFocusSession: Focus Session STOPPED successfully");
             stopIfNoUsage();
         }
@@ -203,6 +218,47 @@ public class MindfulTrackerService extends Service {
         if (mLockUnlockReceiver != null) mLockUnlockReceiver.pauseResumeTracking(shouldPause);
     }
 
+    /**
+     * Hints that the foreground app may have changed. Called by the accessibility service when a new window appears.
+     */
+    public void onForegroundChangeHint() {
+        if (mLockUnlockReceiver != null) mLockUnlockReceiver.onForegroundChangeHint();
+    }
+
+    /**
+     * Called by the accessibility service when it binds to or unbinds from this service. The app launch polling
+     * only backs off while the accessibility service is pushing the window changes.
+     *
+     * @param isConnected True if the accessibility service is bound, false otherwise.
+     */
+    public void onForegroundHintSourceChanged(boolean isConnected) {
+        if (mLockUnlockReceiver != null) mLockUnlockReceiver.setForegroundHintSourceConnected(isConnected);
+    }
+
+    /**
+     * Called by the accessibility service when an activity of an app comes to the foreground.
+     *
+     * @param packageName  The package name of the app.
+     * @param launchTimeMs The wall clock time in milliseconds at which the activity came to the foreground.
+     */
+    public void onForegroundAppChanged(@NonNull String packageName, long launchTimeMs) {
+        if (mLockUnlockReceiver != null) mLockUnlockReceiver.onForegroundAppChanged(packageName, launchTimeMs);
+    }
+
+    /**
+     * Returns the packages of the apps which are restricted, either by their own restrictions, by a restriction
+     * group, by the bedtime routine or by the focus session.
+     *
+     * @return The set of restricted packages.
+     */
+    @NonNull
+    public HashSet<String> getTrackedPackages() {
+        HashSet<String> trackedPackages = new HashSet<>(mAppsRestrictions.keySet());
+        trackedPackages.addAll(mBedtimeDistractingApps);
+        trackedPackages.addAll(mFocusSessionDistractingApps);
+        return trackedPackages;
+    }
+
     /**
      * Retrieves a map of app package names and their respective launch counts for the current day.
      *
@@ -213,6 +269,20 @@ public class MindfulTrackerService extends Service {
         return mAppsLaunchCount;
     }
 
+    /**
+     * Saves the launch counts of the day to the usage rollup store in background and starts counting from zero.
+     * The writes are serialized on the store's write thread.
+     */
+    private void saveAppsLaunchCount() {
+        HashMap<String, Integer> launchCounts = new HashMap<>(mAppsLaunchCount);
+        int day = mAppsLaunchCountDay;
+        mAppsLaunchCount.clear();
+        mAppsLaunchCountDay = UsageRollupDbHelper.getDayKey(System.currentTimeMillis());
+        if (launchCounts.isEmpty()) return;
+
+        UsageRollupDbHelper.getInstance(this).addLaunchCounts(day, launchCounts);
+    }
+
     /**
      * Stops the service if no timers or app restrictions are active, indicating the service is no longer needed.
      */
@@ -283,12 +353,13 @@ public class MindfulTrackerService extends Service {
             }
         }
 
-        /// Fetch usage for all apps
-        HashMap<String, Long> allAppsScreenUsage = ScreenUsageHelper.fetchAppUsageTodayTillNow(mUsageStatsManager, packageName);
+        /// Apply only the new usage events to today's usage
+        long now = System.currentTimeMillis();
+        mTodayUsageLedger.advance(now);
 
         /// Check for app timer
         if (appRestrictions.timerSec > 0) {
-            long appScreenTimeSec = allAppsScreenUsage.getOrDefault(packageName, 0L);
+            long appScreenTimeSec = mTodayUsageLedger.getScreenTimeSecs(packageName, packageName, now);
 
             /// App timer ran out
             if (appScreenTimeSec >= appRestrictions.timerSec) {
@@ -335,7 +406,7 @@ public class MindfulTrackerService extends Service {
 
             /// Check for associated group's timer
             if (associatedGroup.timerSec > 0) {
-                long groupScreenTimeSec = associatedGroup.distractingApps.stream().mapToLong(app -> allAppsScreenUsage.getOrDefault(app, 0L)).sum();
+                long groupScreenTimeSec = associatedGroup.distractingApps.stream().mapToLong(app -> mTodayUsageLedger.getScreenTimeSecs(app, packageName, now)).sum();
 
                 /// Group timer ran out
                 if (groupScreenTimeSec >= associatedGroup.timerSec) {
@@ -532,8 +603,25 @@ public class MindfulTrackerService extends Service {
      * @param isDeviceActive Boolean indicating if the device is currently active (unlocked).
      */
     private void onDeviceLockUnlock(boolean isDeviceActive) {
+        // Today's usage keeps advancing from where it was, the events recorded while locked are read on the next launch
         if (!isDeviceActive) {
             cancelTimers();
+
+            // Update the usage snapshot of the widget from today's usage, then the widget from the snapshot
+            DeviceUsageWidget.refreshPlacedWidgets(this, mTodayUsageLedger);
+        }
+    }
+
+    /**
+     * Lets the accessibility service know about the tracker's state, if it is running,
+     * so it can bind to or unbind from this service.
+     *
+     * @param action The action describing the tracker's state.
+     */
+    private void notifyAccessibilityService(String action) {
+        if (Utils.isServiceRunning(this, MindfulAccessibilityService.class.getName())) {
+            Intent serviceIntent = new Intent(getApplicationContext(), MindfulAccessibilityService.class).setAction(action);
+            startService(serviceIntent);
         }
     }
 
@@ -561,6 +649,8 @@ public class MindfulTrackerService extends Service {
             mLockUnlockReceiver.dispose();
             unregisterReceiver(mLockUnlockReceiver);
         }
+        if (mIsServiceRunning) notifyAccessibilityService(ACTION_TRACKER_SERVICE_STOPPED);
+        saveAppsLaunchCount();
 
         Log.d(TAG, "onDestroy: Tracking service destroyed");
     }
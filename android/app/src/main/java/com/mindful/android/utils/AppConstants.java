@@ -14,6 +14,7 @@ package com.mindful.android.utils;
 
 public class AppConstants {
     public static final String FLUTTER_METHOD_CHANNEL = "com.mindful.android.methodchannel";
+    public static final String FLUTTER_DEVICE_APPS_EVENT_CHANNEL = "com.mindful.android.deviceappseventchannel";
 
     /// Notification IDs
     public static final int TRACKER_SERVICE_NOTIFICATION_ID = 101;
@@ -0,0 +1,187 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * DomainBlocklist is a compiled, read only index of blocked domains stored in a file and memory-mapped for
+ * lookups, so even lists with hundreds of thousands of domains are paged in by the system on demand
+ * instead of being loaded onto the heap.
+ * <p>
+ * File format, all integers are big endian:
+ * <pre>
+ *     int    magic   "MBLK"
+ *     int    version
+ *     int    count   number of domains
+ *     int[]  offsets count + 1 offsets of the domains, relative to the start of the data
+ *     byte[] data    ASCII domains sorted in byte order, without separators
+ * </pre>
+ * Lookups match the subdomains of the listed domains as well, same as {@link NsfwDomains}.
+ */
+public class DomainBlocklist {
+    private static final String TAG = "Mindful.DomainBlocklist";
+    private static final int MAGIC = 0x4D424C4B; // "MBLK"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE_BYTES = 3 * Integer.BYTES;
+
+    private final MappedByteBuffer mBuffer;
+    private final int mDomainsCount;
+    private final int mDataStart;
+
+    private DomainBlocklist(@NonNull MappedByteBuffer buffer, int domainsCount) {
+        mBuffer = buffer;
+        mDomainsCount = domainsCount;
+        mDataStart = HEADER_SIZE_BYTES + (domainsCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Memory-maps a compiled blocklist file.
+     *
+     * @param file The file written by {@link #write(List, File)}.
+     * @return The blocklist or null if the file does not exist or is malformed.
+     */
+    @Nullable
+    public static DomainBlocklist open(@NonNull File file) {
+        if (!file.exists()) return null;
+
+        // The mapping stays valid after the channel is closed
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.limit() < HEADER_SIZE_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+                Log.w(TAG, "open: Unknown blocklist format, ignoring " + file.getName());
+                return null;
+            }
+
+            int domainsCount = buffer.getInt(2 * Integer.BYTES);
+            DomainBlocklist blocklist = new DomainBlocklist(buffer, domainsCount);
+            if (domainsCount < 0 || blocklist.mDataStart + blocklist.getOffset(domainsCount) != buffer.limit()) {
+                Log.w(TAG, "open: Truncated blocklist, ignoring " + file.getName());
+                return null;
+            }
+            return blocklist;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            Log.e(TAG, "open: Unable to map blocklist " + file.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the domains into a blocklist file.
+     *
+     * @param sortedDomains The distinct ASCII domains sorted in byte order.
+     * @param file          The file to write.
+     * @throws IOException If the file can not be written.
+     */
+    public static void write(@NonNull List<String> sortedDomains, @NonNull File file) throws IOException {
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+            outputStream.writeInt(sortedDomains.size());
+
+            int offset = 0;
+            outputStream.writeInt(offset);
+            for (String domain : sortedDomains) {
+                offset += domain.length();
+                outputStream.writeInt(offset);
+            }
+
+            for (String domain : sortedDomains) {
+                outputStream.write(domain.getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    /**
+     * @return The number of domains in the blocklist.
+     */
+    public int size() {
+        return mDomainsCount;
+    }
+
+    /**
+     * Checks if the host or any of its parent domains is in the blocklist.
+     *
+     * @param host The lowercase host to look up.
+     * @return True if the host or a parent domain is blocked.
+     */
+    public boolean matches(@NonNull String host) {
+        int from = 0;
+        int lastDot = host.lastIndexOf('.');
+
+        // Stop before the top level domain, it is never listed on its own
+        while (from <= lastDot) {
+            if (containsFrom(host, from)) return true;
+            from = host.indexOf('.', from) + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Binary searches the suffix of the host starting at the index.
+     */
+    private boolean containsFrom(@NonNull String host, int from) {
+        int low = 0;
+        int high = mDomainsCount - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareDomain(mid, host, from);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares the domain at the index with the suffix of the host, in the byte order the file is sorted in.
+     */
+    private int compareDomain(int index, @NonNull String host, int from) {
+        int start = getOffset(index);
+        int length = getOffset(index + 1) - start;
+        int hostLength = host.length() - from;
+        int minLength = Math.min(length, hostLength);
+
+        // Absolute reads do not move the position, so the buffer can be shared by threads
+        for (int i = 0; i < minLength; i++) {
+            int cmp = (mBuffer.get(mDataStart + start + i) & 0xFF) - host.charAt(from + i);
+            if (cmp != 0) return cmp;
+        }
+        return length - hostLength;
+    }
+
+    private int getOffset(int index) {
+        return mBuffer.getInt(HEADER_SIZE_BYTES + index * Integer.BYTES);
+    }
+}
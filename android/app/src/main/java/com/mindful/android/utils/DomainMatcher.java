@@ -0,0 +1,249 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * DomainMatcher matches hosts against a set of domain rules stored in a trie of reversed labels, so
+ * {@code m.example.com} is looked up as {@code com -> example -> m}. A lookup walks at most one node per
+ * label of the host, no matter how many rules there are. The labels of the host are compared in place by their
+ * index ranges, so a lookup does not allocate.
+ * <p>
+ * Supported rules:
+ * <ul>
+ *     <li>{@code example.com} matches the domain and all of its subdomains.</li>
+ *     <li>{@code *.example.com} matches only the subdomains of the domain.</li>
+ *     <li>{@code *} as any other label matches exactly one label, e.g. {@code cdn.*.example.com}.</li>
+ * </ul>
+ * Rules made of wildcards only, like a bare {@code *}, would match every host and are rejected.
+ * Rules can also be added for the exact domain only with {@link #addRule(String, boolean)}.
+ * Rules are lowercased and their scheme, path and port are ignored. Hosts must be lowercase already, as the
+ * callers parse them from the url, so a lookup does not convert them.
+ */
+public class DomainMatcher {
+    private static final String WILDCARD_LABEL = "*";
+    private static final String SUBDOMAINS_PREFIX = "*.";
+
+    private final Node mRoot = new Node();
+    private int mRulesCount = 0;
+
+    /**
+     * Creates a matcher with the rules, each matching the domain and all of its subdomains.
+     * Empty, malformed or wildcard only rules are ignored.
+     *
+     * @param rules The domain rules.
+     * @return The new matcher.
+     */
+    @NonNull
+    public static DomainMatcher fromRules(@NonNull Collection<String> rules) {
+        DomainMatcher matcher = new DomainMatcher();
+        for (String rule : rules) {
+            matcher.addRule(rule, true);
+        }
+        return matcher;
+    }
+
+    /**
+     * Adds a rule to the matcher. Empty, malformed or wildcard only rules like {@code *} are ignored.
+     *
+     * @param rule              The domain rule.
+     * @param includeSubdomains True if the rule also matches the subdomains of the domain, otherwise only the exact domain.
+     *                          Ignored if the rule starts with {@code *.} as it matches only the subdomains.
+     */
+    public void addRule(@NonNull String rule, boolean includeSubdomains) {
+        String domain = normalizeRule(rule);
+        boolean matchesSelf = true;
+        if (domain.startsWith(SUBDOMAINS_PREFIX)) {
+            domain = domain.substring(SUBDOMAINS_PREFIX.length());
+            matchesSelf = false;
+            includeSubdomains = true;
+        }
+        if (domain.isEmpty() || isWildcardOnly(domain)) return;
+
+        // Reject empty labels like "example..com" before inserting anything
+        if (domain.startsWith(".") || domain.contains("..")) return;
+
+        // Insert the labels from right to left
+        Node node = mRoot;
+        int end = domain.length();
+        while (end > 0) {
+            int start = domain.lastIndexOf('.', end - 1) + 1;
+            String label = domain.substring(start, end);
+            node = label.equals(WILDCARD_LABEL) ? node.getOrAddWildcard() : node.getOrAddChild(label);
+            end = start - 1;
+        }
+
+        node.matchesSelf |= matchesSelf;
+        node.matchesSubdomains |= includeSubdomains;
+        mRulesCount++;
+    }
+
+    /**
+     * Checks if the host matches any of the rules.
+     *
+     * @param host The lowercase host to check, e.g. parsed from the url.
+     * @return True if the host matches a rule.
+     */
+    public boolean matches(@NonNull String host) {
+        if (mRulesCount == 0 || host.isEmpty()) return false;
+
+        int end = host.endsWith(".") ? host.length() - 1 : host.length();
+        return end > 0 && matches(mRoot, host, end);
+    }
+
+    /**
+     * @return True if the matcher has no rules.
+     */
+    public boolean isEmpty() {
+        return mRulesCount == 0;
+    }
+
+    /**
+     * Matches the remaining labels of the host i.e. {@code host[0, end)} starting from the node.
+     */
+    private static boolean matches(@NonNull Node node, @NonNull String host, int end) {
+        if (end <= 0) return node.matchesSelf;
+        if (node.matchesSubdomains) return true;
+        if (!node.hasChildren()) return false;
+
+        int start = host.lastIndexOf('.', end - 1) + 1;
+        int nextEnd = start - 1;
+
+        Node child = node.getChild(host, start, end);
+        if (child != null && matches(child, host, nextEnd)) return true;
+
+        // Wildcard label matches any single label
+        return node.wildcardChild != null && matches(node.wildcardChild, host, nextEnd);
+    }
+
+    private static boolean isWildcardOnly(@NonNull String domain) {
+        for (String label : domain.split("\\.", -1)) {
+            if (!label.equals(WILDCARD_LABEL)) return false;
+        }
+        return true;
+    }
+
+    @NonNull
+    private static String normalizeRule(@NonNull String rule) {
+        String domain = rule.trim().toLowerCase(Locale.ROOT);
+
+        // Remove scheme, path and port if the rule is a url
+        int schemeEnd = domain.indexOf("://");
+        if (schemeEnd >= 0) domain = domain.substring(schemeEnd + 3);
+        int pathStart = domain.indexOf('/');
+        if (pathStart >= 0) domain = domain.substring(0, pathStart);
+        int portStart = domain.indexOf(':');
+        if (portStart >= 0) domain = domain.substring(0, portStart);
+
+        if (domain.endsWith(".")) domain = domain.substring(0, domain.length() - 1);
+        return domain;
+    }
+
+    /**
+     * A node of the trie. The children are kept in an open addressing table keyed by their labels, which is
+     * probed with a label given as an index range of the host. The hash of a range is the same as the
+     * {@link String#hashCode()} of the label.
+     */
+    private static class Node {
+        private static final int INITIAL_CAPACITY = 2;
+
+        @Nullable
+        private String[] mLabels = null;
+        @Nullable
+        private Node[] mChildren = null;
+        private int mSize = 0;
+
+        @Nullable
+        Node wildcardChild = null;
+        boolean matchesSelf = false;
+        boolean matchesSubdomains = false;
+
+        boolean hasChildren() {
+            return mSize > 0 || wildcardChild != null;
+        }
+
+        /**
+         * Returns the child of the label {@code text[start, end)}, if any.
+         */
+        @Nullable
+        Node getChild(@NonNull String text, int start, int end) {
+            if (mLabels == null || mChildren == null) return null;
+
+            int length = end - start;
+            int mask = mLabels.length - 1;
+            for (int i = indexFor(hashOf(text, start, end), mask); mLabels[i] != null; i = (i + 1) & mask) {
+                String label = mLabels[i];
+                if (label.length() == length && label.regionMatches(0, text, start, length)) return mChildren[i];
+            }
+            return null;
+        }
+
+        @NonNull
+        Node getOrAddChild(@NonNull String label) {
+            Node child = getChild(label, 0, label.length());
+            if (child != null) return child;
+
+            // Keep the load factor under 3/4, so probing always ends at an empty slot
+            if (mLabels == null || (mSize + 1) * 4 > mLabels.length * 3) {
+                resize(mLabels == null ? INITIAL_CAPACITY : mLabels.length * 2);
+            }
+            child = new Node();
+            put(label, child);
+            mSize++;
+            return child;
+        }
+
+        @NonNull
+        Node getOrAddWildcard() {
+            if (wildcardChild == null) wildcardChild = new Node();
+            return wildcardChild;
+        }
+
+        private void resize(int capacity) {
+            String[] oldLabels = mLabels;
+            Node[] oldChildren = mChildren;
+            mLabels = new String[capacity];
+            mChildren = new Node[capacity];
+            if (oldLabels == null || oldChildren == null) return;
+
+            for (int i = 0; i < oldLabels.length; i++) {
+                if (oldLabels[i] != null) put(oldLabels[i], oldChildren[i]);
+            }
+        }
+
+        private void put(@NonNull String label, @NonNull Node child) {
+            if (mLabels == null || mChildren == null) return;
+
+            int mask = mLabels.length - 1;
+            int i = indexFor(label.hashCode(), mask);
+            while (mLabels[i] != null) i = (i + 1) & mask;
+            mLabels[i] = label;
+            mChildren[i] = child;
+        }
+
+        private static int indexFor(int hash, int mask) {
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+
+        private static int hashOf(@NonNull String text, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) hash = 31 * hash + text.charAt(i);
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+
+/**
+ * Thread safe recorder for latency samples. It keeps the count, average and maximum of the samples
+ * along with the share of samples which stayed within a target.
+ */
+public class LatencyStats {
+    private final String mName;
+    private final long mTargetMs;
+
+    private long mCount = 0L;
+    private long mTotalMs = 0L;
+    private long mMaxMs = 0L;
+    private long mWithinTargetCount = 0L;
+
+    /**
+     * @param name     The name used when the stats are printed.
+     * @param targetMs The latency target in milliseconds.
+     */
+    public LatencyStats(@NonNull String name, long targetMs) {
+        mName = name;
+        mTargetMs = targetMs;
+    }
+
+    /**
+     * Records a new sample. Negative samples, caused by clock adjustments, are recorded as zero.
+     *
+     * @param latencyMs The latency in milliseconds.
+     * @return The total number of samples recorded so far.
+     */
+    public synchronized long record(long latencyMs) {
+        latencyMs = Math.max(0L, latencyMs);
+        mCount++;
+        mTotalMs += latencyMs;
+        mMaxMs = Math.max(mMaxMs, latencyMs);
+        if (latencyMs <= mTargetMs) mWithinTargetCount++;
+        return mCount;
+    }
+
+    /**
+     * Clears all the recorded samples.
+     */
+    public synchronized void reset() {
+        mCount = 0L;
+        mTotalMs = 0L;
+        mMaxMs = 0L;
+        mWithinTargetCount = 0L;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        if (mCount == 0) return mName + ": No samples";
+        return String.format(Locale.ENGLISH,
+                "%s: %d samples, avg %dms, max %dms, %.1f%% within %dms",
+                mName, mCount, mTotalMs / mCount, mMaxMs, (mWithinTargetCount * 100f) / mCount, mTargetMs);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MultiPatternMatcher finds which of a set of substrings occur in a text in a single pass over the text.
+ * The patterns are compiled into an Aho-Corasick automaton whose failure links are folded into a full
+ * transition table, so every char of the text costs one table lookup no matter how many patterns there are.
+ * <p>
+ * Every pattern carries a bitmask of labels and a match returns the union of the labels of all the patterns
+ * found in the text. Chars are compared case sensitively and only the chars used by the patterns get their
+ * own column in the table, every other char sends the automaton back to its root.
+ * <p>
+ * NOTE: The matcher is immutable once compiled and can be shared between threads.
+ */
+public class MultiPatternMatcher {
+    private static final int ASCII_SIZE = 128;
+    private static final int OTHER_CHARS_CLASS = 0;
+
+    private final int[] mAsciiClasses = new int[ASCII_SIZE];
+    private final HashMap<Character, Integer> mNonAsciiClasses = new HashMap<>(0);
+
+    /**
+     * The rows of the states, each starting with the labels of the state followed by the offsets of the next
+     * rows for every char class, so a lookup needs neither a multiplication nor a second array.
+     */
+    private final int[] mStateRows;
+
+    /**
+     * Compiles the patterns into the automaton. Empty patterns are ignored.
+     *
+     * @param patternLabels The map of the patterns and their labels.
+     */
+    public MultiPatternMatcher(@NonNull Map<String, Integer> patternLabels) {
+        // Assign a class to every distinct char of the patterns
+        int classesCount = 1;
+        for (String pattern : patternLabels.keySet()) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (getCharClass(c) == OTHER_CHARS_CLASS) {
+                    if (c < ASCII_SIZE) mAsciiClasses[c] = classesCount++;
+                    else mNonAsciiClasses.put(c, classesCount++);
+                }
+            }
+        }
+
+        // Build the trie, the states are numbered in insertion order and the root is 0
+        int maxStates = 1;
+        for (String pattern : patternLabels.keySet()) maxStates += pattern.length();
+
+        int[] transitions = new int[maxStates * classesCount];
+        int[] outputs = new int[maxStates];
+        Arrays.fill(transitions, -1);
+        int statesCount = 1;
+
+        for (Map.Entry<String, Integer> entry : patternLabels.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern.isEmpty()) continue;
+
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int index = state * classesCount + getCharClass(pattern.charAt(i));
+                if (transitions[index] == -1) transitions[index] = statesCount++;
+                state = transitions[index];
+            }
+            outputs[state] |= entry.getValue();
+        }
+
+        // Fold the failure links into the transitions in breadth first order
+        int[] failures = new int[statesCount];
+        int[] queue = new int[statesCount];
+        int head = 0, tail = 0;
+
+        for (int c = 0; c < classesCount; c++) {
+            int next = transitions[c];
+            if (next == -1 || c == OTHER_CHARS_CLASS) {
+                transitions[c] = 0;
+            } else {
+                failures[next] = 0;
+                queue[tail++] = next;
+            }
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+            int failure = failures[state];
+            outputs[state] |= outputs[failure];
+
+            for (int c = 0; c < classesCount; c++) {
+                int index = state * classesCount + c;
+                int fallback = transitions[failure * classesCount + c];
+                if (transitions[index] == -1) {
+                    transitions[index] = fallback;
+                } else {
+                    failures[transitions[index]] = fallback;
+                    queue[tail++] = transitions[index];
+                }
+            }
+        }
+
+        int rowSize = classesCount + 1;
+        mStateRows = new int[statesCount * rowSize];
+        for (int state = 0; state < statesCount; state++) {
+            int row = state * rowSize;
+            mStateRows[row] = outputs[state];
+            for (int c = 0; c < classesCount; c++) {
+                mStateRows[row + 1 + c] = transitions[state * classesCount + c] * rowSize;
+            }
+        }
+    }
+
+    /**
+     * Finds the patterns occurring in the text.
+     *
+     * @param text The text to search.
+     * @return The union of the labels of all the patterns found, or 0 if none is found.
+     */
+    public int match(@NonNull String text) {
+        final int[] stateRows = mStateRows;
+        final int[] asciiClasses = mAsciiClasses;
+        int row = 0;
+        int labels = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            row = stateRows[row + 1 + (c < ASCII_SIZE ? asciiClasses[c] : getCharClass(c))];
+            labels |= stateRows[row];
+        }
+        return labels;
+    }
+
+    private int getCharClass(char c) {
+        if (c < ASCII_SIZE) return mAsciiClasses[c];
+        Integer charClass = mNonAsciiClasses.get(c);
+        return charClass != null ? charClass : OTHER_CHARS_CLASS;
+    }
+}
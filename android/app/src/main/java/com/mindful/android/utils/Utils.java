@@ -22,7 +22,6 @@ import android.graphics.Canvas;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
-import android.util.Base64;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -30,7 +29,6 @@ import androidx.annotation.Nullable;
 
 import org.jetbrains.annotations.Contract;
 
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Calendar;
@@ -40,7 +38,7 @@ import java.util.Map;
 
 /**
  * A utility class containing static helper methods for various common tasks such as
- * checking if a service is running, encoding images, parsing JSON strings, and manipulating URLs.
+ * checking if a service is running, parsing JSON strings, and manipulating URLs.
  */
 public class Utils {
     private static final String TAG = "Mindful.Utils";
@@ -96,40 +94,6 @@ public class Utils {
         return infoMap;
     }
 
-
-    /**
-     * Encodes a Drawable (app icon) to a Base64 string.
-     *
-     * @param iconData The Drawable to encode.
-     * @return The Base64 encoded string representing the app icon.
-     */
-    private static String encodeToBase64(@NonNull Drawable iconData) {
-        ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
-        final Bitmap image = Bitmap.createBitmap(iconData.getIntrinsicWidth(), iconData.getIntrinsicHeight(), Bitmap.Config.ARGB_8888);
-
-        final Canvas canvas = new Canvas(image);
-        iconData.setBounds(0, 0, canvas.getWidth(), canvas.getHeight());
-        iconData.draw(canvas);
-        image.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOS);
-        return Base64.encodeToString(byteArrayOS.toByteArray(), Base64.NO_WRAP);
-    }
-
-    /**
-     * Encodes and returns the Base64 representation of an app icon.
-     *
-     * @param icon The app icon as a Drawable.
-     * @return The Base64 encoded string of the app icon.
-     */
-    public static String getEncodedAppIcon(Drawable icon) {
-        String appIcon = "";
-        try {
-            appIcon = encodeToBase64(icon);
-        } catch (Exception e) {
-            Log.e(TAG, "getEncodedAppIcon: Cannot parse app icon from memory", e);
-        }
-        return appIcon;
-    }
-
     /**
      * Converts the drawable to bitmap.
      *
@@ -13,16 +13,11 @@
 package com.mindful.android.widgets;
 
 import android.app.PendingIntent;
-import android.app.usage.NetworkStats;
-import android.app.usage.NetworkStatsManager;
-import android.app.usage.UsageStatsManager;
 import android.appwidget.AppWidgetManager;
 import android.appwidget.AppWidgetProvider;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.pm.PackageInfo;
-import android.content.pm.PackageManager;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
@@ -33,23 +28,17 @@ import androidx.annotation.NonNull;
 import com.mindful.android.MainActivity;
 import com.mindful.android.R;
 import com.mindful.android.generics.SuccessCallback;
-import com.mindful.android.helpers.NetworkUsageHelper;
-import com.mindful.android.helpers.ScreenUsageHelper;
-import com.mindful.android.helpers.SharedPrefsHelper;
+import com.mindful.android.helpers.TodayUsageLedger;
+import com.mindful.android.helpers.UsageSnapshotHelper;
 import com.mindful.android.models.AggregatedUsage;
+import com.mindful.android.services.MindfulTrackerService;
 import com.mindful.android.utils.Utils;
 
-import org.jetbrains.annotations.Contract;
-
-import java.util.Calendar;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-
 
 /**
  * This class represents a widget that displays device usage information on the home screen.
- * It fetches mobile data usage, wifi usage, and screen usage only from launchable apps for the current day.
+ * It shows mobile data usage, wifi usage, and screen usage only from launchable apps for the current day,
+ * read from the snapshot kept by {@link UsageSnapshotHelper}.
  * Users can refresh the widget manually or it updates automatically based on a predefined interval.
  * Clicking the widget opens the Mindful app.
  */
@@ -77,14 +66,16 @@ public class DeviceUsageWidget extends AppWidgetProvider {
             AppWidgetManager appWidgetManager = AppWidgetManager.getInstance(context);
             ComponentName widgetComponent = new ComponentName(context, DeviceUsageWidget.class);
             int[] appWidgetIds = appWidgetManager.getAppWidgetIds(widgetComponent);
-            updateWidgetAsync(context, appWidgetManager, appWidgetIds, false);
+            updateWidgetAsync(context, appWidgetManager, appWidgetIds, false, true);
         }
     }
 
 
     @Override
     public void onUpdate(Context context, AppWidgetManager appWidgetManager, @NonNull int[] appWidgetIds) {
-        updateWidgetAsync(context, appWidgetManager, appWidgetIds, true);
+        // The snapshot is kept current by the tracker service while it is running, otherwise recompute it
+        boolean isTrackerRunning = Utils.isServiceRunning(context, MindfulTrackerService.class.getName());
+        updateWidgetAsync(context, appWidgetManager, appWidgetIds, true, !isTrackerRunning);
     }
 
     /**
@@ -94,8 +85,9 @@ public class DeviceUsageWidget extends AppWidgetProvider {
      * @param appWidgetManager The AppWidgetManager instance to update the widget.
      * @param appWidgetIds     The list of widget IDs to update.
      * @param isAutomatic      Indicates if the update is triggered automatically (by system) or manually.
+     * @param forceRefresh     Indicates if the usage snapshot must be recomputed even if it is still fresh.
      */
-    private void updateWidgetAsync(@NonNull Context context, @NonNull AppWidgetManager appWidgetManager, @NonNull int[] appWidgetIds, boolean isAutomatic) {
+    private static void updateWidgetAsync(@NonNull Context context, @NonNull AppWidgetManager appWidgetManager, @NonNull int[] appWidgetIds, boolean isAutomatic, boolean forceRefresh) {
         // Async callback to run when usages are fetched successfully
         SuccessCallback<AggregatedUsage> callback = new SuccessCallback<AggregatedUsage>() {
             @Override
@@ -126,17 +118,33 @@ public class DeviceUsageWidget extends AppWidgetProvider {
         };
 
 
-        // Fetch usages on background thread and use callback to update widget data
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                AggregatedUsage usage = fetchAggregatedUsage(context);
-                callback.onSuccess(usage);
-            }
-        }).start();
+        // Read the usage snapshot on the background thread, recompute it only if it is of another day or if forced
+        if (forceRefresh) {
+            UsageSnapshotHelper.getInstance(context).refreshSnapshot(callback);
+        } else {
+            UsageSnapshotHelper.getInstance(context).getSnapshot(callback);
+        }
     }
 
-    private void setUpClickListener(@NonNull Context context, @NonNull RemoteViews views) {
+    /**
+     * Updates the usage snapshot from today's usage ledger and then the placed widgets from the snapshot, if any
+     * widget is placed. The usage events since midnight are not read again, so frequent calls like on every device
+     * lock stay cheap. Called by the tracker when the usage is likely to have changed.
+     *
+     * @param context          The context of the application.
+     * @param todayUsageLedger The ledger of today's screen usage kept by the tracker service.
+     */
+    public static void refreshPlacedWidgets(@NonNull Context context, @NonNull TodayUsageLedger todayUsageLedger) {
+        AppWidgetManager appWidgetManager = AppWidgetManager.getInstance(context);
+        int[] appWidgetIds = appWidgetManager.getAppWidgetIds(new ComponentName(context, DeviceUsageWidget.class));
+        if (appWidgetIds.length == 0) return;
+
+        // Both run on the single thread of the snapshot helper, so the widgets read the updated snapshot
+        UsageSnapshotHelper.getInstance(context).updateSnapshot(todayUsageLedger);
+        updateWidgetAsync(context.getApplicationContext(), appWidgetManager, appWidgetIds, false, false);
+    }
+
+    private static void setUpClickListener(@NonNull Context context, @NonNull RemoteViews views) {
         Intent refreshIntent = new Intent(context.getApplicationContext(), DeviceUsageWidget.class);
         refreshIntent.setAction(WIDGET_ACTION_REFRESH);
         PendingIntent refreshPendingIntent = PendingIntent.getBroadcast(context, 0, refreshIntent, PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
@@ -148,76 +156,4 @@ public class DeviceUsageWidget extends AppWidgetProvider {
         views.setOnClickPendingIntent(R.id.widgetRefreshButton, refreshPendingIntent);
         views.setOnClickPendingIntent(R.id.widgetRoot, launchPendingIntent);
     }
-
-
-    /**
-     * Fetches device usage data for the current day only from launchable apps, including screen usage, mobile data usage, and wifi data usage.
-     * Calculates total usage for each category and stores them in AggregatedUsage model and returns it.
-     *
-     * @param context The context of the application.
-     * @return AggregatedUsage model with latest usage.
-     */
-    @NonNull
-    @Contract("_ -> new")
-    private AggregatedUsage fetchAggregatedUsage(@NonNull Context context) {
-        Calendar screenUsageCal = Calendar.getInstance();
-        screenUsageCal.set(Calendar.HOUR_OF_DAY, 0);
-        screenUsageCal.set(Calendar.MINUTE, 0);
-        screenUsageCal.set(Calendar.SECOND, 0);
-        screenUsageCal.set(Calendar.MILLISECOND, 0);
-
-        // Users may have different timings for their data renewal or reset so keeping it in mind
-        Calendar dataUsageCal = SharedPrefsHelper.getSetDataResetTimeMins(context, null);
-
-        long screenUsageStart = screenUsageCal.getTimeInMillis();
-        long dataUsageStart = dataUsageCal.getTimeInMillis();
-        long ms24Hours = 24 * 60 * 60 * 1000; // 24 hours in milliseconds
-
-        UsageStatsManager usageStatsManager = (UsageStatsManager) context.getApplicationContext().getSystemService(Context.USAGE_STATS_SERVICE);
-        NetworkStatsManager networkStatsManager = (NetworkStatsManager) context.getApplicationContext().getSystemService(Context.NETWORK_STATS_SERVICE);
-
-        HashMap<String, Long> screenUsageOneDay = ScreenUsageHelper.fetchUsageForInterval(usageStatsManager, screenUsageStart, screenUsageStart + ms24Hours, null);
-        HashMap<Integer, Long> mobileUsageOneDay = NetworkUsageHelper.fetchMobileUsageForInterval(networkStatsManager, dataUsageStart, dataUsageStart + ms24Hours);
-        HashMap<Integer, Long> wifiUsageOneDay = NetworkUsageHelper.fetchWifiUsageForInterval(networkStatsManager, dataUsageStart, dataUsageStart + ms24Hours);
-
-
-        // Fetch package info of installed apps on device
-        PackageManager packageManager = context.getPackageManager();
-        List<PackageInfo> deviceApps = packageManager.getInstalledPackages(PackageManager.GET_META_DATA);
-
-
-        // Fetch excluded apps
-        HashSet<String> excludedApps = SharedPrefsHelper.getSetExcludedApps(context, null);
-
-        Long wifiUsageKbs = 0L;
-        Long mobileUsageKbs = 0L;
-        Long screenTimeSec = 0L;
-
-        for (PackageInfo app : deviceApps) {
-            // Only include apps which are launchable
-            if (packageManager.getLaunchIntentForPackage(app.packageName) != null) {
-                int appUid = app.applicationInfo.uid;
-                mobileUsageKbs += mobileUsageOneDay.getOrDefault(appUid, 0L);
-                wifiUsageKbs += wifiUsageOneDay.getOrDefault(appUid, 0L);
-
-
-                // skip excluded apps
-                if (excludedApps.contains(app.packageName)) continue;
-                screenTimeSec += screenUsageOneDay.getOrDefault(app.packageName, 0L);
-            }
-        }
-
-        // Also include tethering hotspot and removed app's data usage
-        wifiUsageKbs += wifiUsageOneDay.getOrDefault(NetworkStats.Bucket.UID_TETHERING, 0L);
-        mobileUsageKbs += mobileUsageOneDay.getOrDefault(NetworkStats.Bucket.UID_TETHERING, 0L);
-
-        wifiUsageKbs += wifiUsageOneDay.getOrDefault(NetworkStats.Bucket.UID_REMOVED, 0L);
-        mobileUsageKbs += mobileUsageOneDay.getOrDefault(NetworkStats.Bucket.UID_REMOVED, 0L);
-
-        return new AggregatedUsage(
-                Math.toIntExact(screenTimeSec / 60),
-                Math.toIntExact(mobileUsageKbs / 1024),
-                Math.toIntExact(wifiUsageKbs / 1024)
-        );
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.pm.PackageManager;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.InstalledApp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Checks that {@link AppIconCache} renders an icon only once per version of an app and keeps the disk tier
+ * in sync with the installed apps, and serves warm loads from both tiers without rendering.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class AppIconCacheTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+    private static final String BROKEN = "com.broken.app";
+    private static final int MANY_APPS_COUNT = 300;
+
+    private File mIconsDirectory;
+    private PackageManager mPackageManager;
+    private CountingRenderer mRenderer;
+    private AppIconCache mCache;
+
+    @Before
+    public void setUp() throws IOException {
+        mIconsDirectory = Files.createTempDirectory("app_icons").toFile();
+        mPackageManager = RuntimeEnvironment.getApplication().getPackageManager();
+        mRenderer = new CountingRenderer();
+        mCache = new AppIconCache(mIconsDirectory, mRenderer);
+    }
+
+    @After
+    public void tearDown() {
+        File[] iconFiles = mIconsDirectory.listFiles();
+        if (iconFiles != null) {
+            for (File iconFile : iconFiles) iconFile.delete();
+        }
+        mIconsDirectory.delete();
+    }
+
+    @Test
+    public void getAppIcons_sameVersion_rendersOnlyOnce() {
+        List<InstalledApp> apps = Arrays.asList(app(YOUTUBE, 1L), app(INSTAGRAM, 1L));
+
+        byte[][] firstIcons = mCache.getAppIcons(mPackageManager, apps);
+        byte[][] secondIcons = mCache.getAppIcons(mPackageManager, apps);
+
+        assertEquals(Arrays.asList(YOUTUBE, INSTAGRAM), mRenderer.renderedPackages);
+        assertArrayEquals(iconOf(YOUTUBE), secondIcons[0]);
+        assertArrayEquals(iconOf(INSTAGRAM), secondIcons[1]);
+        assertArrayEquals(firstIcons[0], secondIcons[0]);
+    }
+
+    @Test
+    public void getAppIcons_newCacheOnSameDirectory_servesIconsFromDisk() {
+        List<InstalledApp> apps = Collections.singletonList(app(YOUTUBE, 1L));
+        mCache.getAppIcons(mPackageManager, apps);
+
+        CountingRenderer newRenderer = new CountingRenderer();
+        byte[][] icons = new AppIconCache(mIconsDirectory, newRenderer).getAppIcons(mPackageManager, apps);
+
+        assertTrue(newRenderer.renderedPackages.isEmpty());
+        assertArrayEquals(iconOf(YOUTUBE), icons[0]);
+    }
+
+    @Test
+    public void getAppIcons_updatedApp_rendersAgainAndReplacesOldFile() {
+        mCache.getAppIcons(mPackageManager, Collections.singletonList(app(YOUTUBE, 1L)));
+        mCache.getAppIcons(mPackageManager, Collections.singletonList(app(YOUTUBE, 2L)));
+
+        assertEquals(Arrays.asList(YOUTUBE, YOUTUBE), mRenderer.renderedPackages);
+        assertEquals(1, iconFilesOf(YOUTUBE).size());
+    }
+
+    @Test
+    public void getAppIcons_iconNotLoaded_isNotCached() {
+        List<InstalledApp> apps = Collections.singletonList(app(BROKEN, 1L));
+
+        assertEquals(0, mCache.getAppIcons(mPackageManager, apps)[0].length);
+        assertEquals(0, mCache.getAppIcons(mPackageManager, apps)[0].length);
+
+        assertEquals(Arrays.asList(BROKEN, BROKEN), mRenderer.renderedPackages);
+        assertTrue(iconFilesOf(BROKEN).isEmpty());
+    }
+
+    @Test
+    public void invalidate_removesIconFromBothTiers() {
+        List<InstalledApp> apps = Collections.singletonList(app(YOUTUBE, 1L));
+        mCache.getAppIcons(mPackageManager, apps);
+
+        mCache.invalidate(YOUTUBE);
+        assertTrue(iconFilesOf(YOUTUBE).isEmpty());
+
+        mCache.getAppIcons(mPackageManager, apps);
+        assertEquals(Arrays.asList(YOUTUBE, YOUTUBE), mRenderer.renderedPackages);
+    }
+
+    @Test
+    public void retainPackages_deletesIconsOfUninstalledApps() {
+        mCache.getAppIcons(mPackageManager, Arrays.asList(app(YOUTUBE, 1L), app(INSTAGRAM, 1L)));
+
+        mCache.retainPackages(new HashSet<>(Collections.singletonList(INSTAGRAM)));
+
+        assertTrue(iconFilesOf(YOUTUBE).isEmpty());
+        assertEquals(1, iconFilesOf(INSTAGRAM).size());
+    }
+
+    @Test
+    public void getAppIcons_fewHundredApps_renderOnlyOnColdLoad() {
+        List<InstalledApp> apps = new ArrayList<>();
+        for (int i = 0; i < MANY_APPS_COUNT; i++) apps.add(app("com.synthetic.app" + i, 1L));
+
+        // Cold: every icon is rendered and written to disk
+        assertAllLoaded(mCache.getAppIcons(mPackageManager, apps));
+        assertEquals(MANY_APPS_COUNT, mRenderer.renderedPackages.size());
+        assertEquals(MANY_APPS_COUNT, mIconsDirectory.list().length);
+
+        // Warm disk: new process, icons are read back from the files
+        CountingRenderer diskRenderer = new CountingRenderer();
+        assertAllLoaded(new AppIconCache(mIconsDirectory, diskRenderer).getAppIcons(mPackageManager, apps));
+        assertTrue(diskRenderer.renderedPackages.isEmpty());
+
+        // Warm memory: same cache again, served even without the files
+        for (File iconFile : mIconsDirectory.listFiles()) assertTrue(iconFile.delete());
+        assertAllLoaded(mCache.getAppIcons(mPackageManager, apps));
+        assertEquals(MANY_APPS_COUNT, mRenderer.renderedPackages.size());
+    }
+
+    private static void assertAllLoaded(@NonNull byte[][] icons) {
+        for (byte[] icon : icons) assertTrue(icon.length > 0);
+    }
+
+    @NonNull
+    private List<String> iconFilesOf(@NonNull String packageName) {
+        List<String> fileNames = new ArrayList<>();
+        String[] allFileNames = mIconsDirectory.list();
+        if (allFileNames == null) return fileNames;
+
+        for (String fileName : allFileNames) {
+            if (fileName.startsWith(packageName + "@")) fileNames.add(fileName);
+        }
+        return fileNames;
+    }
+
+    @NonNull
+    private static InstalledApp app(@NonNull String packageName, long versionCode) {
+        return new InstalledApp(packageName, packageName, 10000, versionCode, versionCode * 1000L);
+    }
+
+    @NonNull
+    private static byte[] iconOf(@NonNull String packageName) {
+        return ("icon:" + packageName).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Renders every icon as the bytes of its package name and records the rendered packages.
+     * The icon of {@link #BROKEN} can not be loaded.
+     */
+    private static class CountingRenderer extends AppIconRenderer {
+        final List<String> renderedPackages = new ArrayList<>();
+
+        CountingRenderer() {
+            super(DEFAULT_ICON_SIZE_PX);
+        }
+
+        @NonNull
+        @Override
+        public byte[][] renderAppIcons(@NonNull PackageManager packageManager, @NonNull List<String> packageNames) {
+            renderedPackages.addAll(packageNames);
+
+            byte[][] icons = new byte[packageNames.size()][];
+            for (int i = 0; i < icons.length; i++) {
+                String packageName = packageNames.get(i);
+                icons[i] = packageName.equals(BROKEN) ? new byte[0] : iconOf(packageName);
+            }
+            return icons;
+        }
+    }
+}
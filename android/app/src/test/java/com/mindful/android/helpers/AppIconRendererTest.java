@@ -0,0 +1,114 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.pm.PackageManager;
+import android.graphics.Color;
+import android.graphics.Rect;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the format, the order and the size of the icons rendered in parallel by {@link AppIconRenderer}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class AppIconRendererTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+    private static final String UNINSTALLED = "com.uninstalled.app";
+    private static final int SYNTHETIC_ICON_SIZE_PX = 192;
+
+    private PackageManager mPackageManager;
+
+    @Before
+    public void setUp() throws PackageManager.NameNotFoundException {
+        mPackageManager = mock(PackageManager.class);
+        when(mPackageManager.getApplicationIcon(YOUTUBE)).thenReturn(new ColorDrawable(Color.RED));
+        when(mPackageManager.getApplicationIcon(INSTAGRAM)).thenReturn(new ColorDrawable(Color.MAGENTA));
+        when(mPackageManager.getApplicationIcon(UNINSTALLED)).thenThrow(new PackageManager.NameNotFoundException(UNINSTALLED));
+    }
+
+    @Test
+    public void getFileExtension_androidR_isWebp() {
+        assertEquals(".webp", new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX).getFileExtension());
+    }
+
+    @Test
+    @Config(sdk = 29)
+    public void getFileExtension_belowAndroidR_isPng() {
+        assertEquals(".png", new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX).getFileExtension());
+    }
+
+    @Test
+    public void renderAppIcons_uninstalledPackage_getsEmptyIconInPlace() {
+        AppIconRenderer renderer = new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX);
+        byte[][] icons = renderer.renderAppIcons(mPackageManager, Arrays.asList(YOUTUBE, UNINSTALLED, INSTAGRAM));
+
+        assertEquals(3, icons.length);
+        assertTrue(icons[0].length > 0);
+        assertEquals(0, icons[1].length);
+        assertTrue(icons[2].length > 0);
+    }
+
+    @Test
+    public void renderAppIcons_moreIconsThanWorkers_rendersEveryIcon() {
+        List<String> packageNames = new ArrayList<>();
+        int iconsCount = 4 * Runtime.getRuntime().availableProcessors() + 1;
+        for (int i = 0; i < iconsCount; i++) packageNames.add(i % 2 == 0 ? YOUTUBE : INSTAGRAM);
+
+        AppIconRenderer renderer = new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX);
+        byte[][] icons = renderer.renderAppIcons(mPackageManager, packageNames);
+
+        assertEquals(iconsCount, icons.length);
+        for (byte[] icon : icons) assertTrue(icon.length > 0);
+    }
+
+    @Test
+    public void render_largeIntrinsicIcon_isDrawnAtTargetSize() {
+        Drawable drawable = syntheticIcon(YOUTUBE);
+        assertEquals(SYNTHETIC_ICON_SIZE_PX, drawable.getIntrinsicWidth());
+
+        byte[] icon = new AppIconRenderer(AppIconRenderer.DEFAULT_ICON_SIZE_PX).render(drawable);
+
+        assertTrue(icon.length > 0);
+        assertEquals(new Rect(0, 0, AppIconRenderer.DEFAULT_ICON_SIZE_PX, AppIconRenderer.DEFAULT_ICON_SIZE_PX), drawable.getBounds());
+    }
+
+    @NonNull
+    private static Drawable syntheticIcon(@NonNull String packageName) {
+        GradientDrawable drawable = new GradientDrawable();
+        drawable.setShape(GradientDrawable.OVAL);
+        drawable.setColor(Color.HSVToColor(new float[]{Math.abs(packageName.hashCode()) % 360, 0.8f, 0.9f}));
+        drawable.setSize(SYNTHETIC_ICON_SIZE_PX, SYNTHETIC_ICON_SIZE_PX);
+        return drawable;
+    }
+}
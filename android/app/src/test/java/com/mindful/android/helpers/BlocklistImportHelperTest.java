@@ -0,0 +1,204 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.utils.DomainBlocklist;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Checks how {@link BlocklistImportHelper} parses hosts files and domain lists into a blocklist, including a
+ * generated list of half a million domains.
+ */
+public class BlocklistImportHelperTest {
+    private static final int LARGE_LIST_DOMAINS_COUNT = 500_000;
+    private static final int LOOKUPS_COUNT = 100_000;
+    private static final String[] TOP_LEVEL_DOMAINS = {"com", "net", "org", "info", "xyz", "co.uk"};
+
+    private File mFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mFile = File.createTempFile("imported_blocklist", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Test
+    public void compileBlocklist_hostsFile_readsHostsAfterAddresses() throws IOException {
+        DomainBlocklist blocklist = compile(
+                "# Community hosts file\n"
+                        + "127.0.0.1 localhost\n"
+                        + "::1 ip6-localhost ip6-loopback\n"
+                        + "0.0.0.0 ads.example.com tracker.org # two hosts on one line\n"
+                        + "0.0.0.0\tcasino.net\n"
+        );
+
+        assertEquals(3, blocklist.size());
+        assertTrue(blocklist.matches("ads.example.com"));
+        assertTrue(blocklist.matches("tracker.org"));
+        assertTrue(blocklist.matches("casino.net"));
+        assertFalse(blocklist.matches("localhost"));
+    }
+
+    @Test
+    public void compileBlocklist_domainList_normalizesDomains() throws IOException {
+        DomainBlocklist blocklist = compile(
+                "Casino.NET\n"
+                        + "tracker.org.\n"
+                        + "   spaced.com   \n"
+                        + "\n"
+        );
+
+        assertEquals(3, blocklist.size());
+        assertTrue(blocklist.matches("casino.net"));
+        assertTrue(blocklist.matches("tracker.org"));
+        assertTrue(blocklist.matches("spaced.com"));
+    }
+
+    @Test
+    public void compileBlocklist_duplicateDomains_areStoredOnce() throws IOException {
+        DomainBlocklist blocklist = compile(
+                "0.0.0.0 casino.net\n"
+                        + "casino.net\n"
+                        + "CASINO.net\n"
+                        + "0.0.0.0 tracker.org casino.net\n"
+        );
+
+        assertEquals(2, blocklist.size());
+    }
+
+    @Test
+    public void compileBlocklist_invalidTokens_areSkipped() throws IOException {
+        DomainBlocklist blocklist = compile(
+                "example.com/path\n"
+                        + "nodots\n"
+                        + "bad*wildcard.com\n"
+                        + "||adblock.com^\n"
+                        + "0.0.0.0 0.0.0.0\n"
+                        + "valid-domain_1.com\n"
+        );
+
+        assertEquals(1, blocklist.size());
+        assertTrue(blocklist.matches("valid-domain_1.com"));
+    }
+
+    @Test
+    public void compileBlocklist_existingFile_isReplaced() throws IOException {
+        compile("casino.net\n");
+        DomainBlocklist blocklist = compile("tracker.org\n");
+
+        assertEquals(1, blocklist.size());
+        assertFalse(blocklist.matches("casino.net"));
+        assertTrue(blocklist.matches("tracker.org"));
+    }
+
+    @Test
+    public void compileBlocklist_halfMillionDomains_areAllImportedAndMatched() throws IOException {
+        File sourceFile = File.createTempFile("large_hosts", ".txt");
+        try {
+            writeLargeHostsFile(sourceFile);
+
+            int count;
+            try (InputStream inputStream = new FileInputStream(sourceFile)) {
+                count = BlocklistImportHelper.compileBlocklist(inputStream, mFile);
+            }
+            assertEquals(LARGE_LIST_DOMAINS_COUNT, count);
+
+            // Header, offsets and the domains without separators, nothing else is written
+            long domainsBytes = 0;
+            for (int i = 0; i < LARGE_LIST_DOMAINS_COUNT; i++) domainsBytes += largeListDomain(i).length();
+            assertEquals(3 * Integer.BYTES + (count + 1L) * Integer.BYTES + domainsBytes, mFile.length());
+
+            DomainBlocklist blocklist = DomainBlocklist.open(mFile);
+            assertNotNull(blocklist);
+            assertEquals(LARGE_LIST_DOMAINS_COUNT, blocklist.size());
+
+            // Half of the lookups are subdomains of listed domains, the other half are not listed at all
+            int matchedCount = 0;
+            for (int i = 0; i < LOOKUPS_COUNT; i++) {
+                int index = (int) ((i * 7919L) % LARGE_LIST_DOMAINS_COUNT);
+                String host = i % 2 == 0 ? "www." + largeListDomain(index) : largeListDomain(index) + ".unlisted";
+                if (blocklist.matches(host)) matchedCount++;
+            }
+            assertEquals(LOOKUPS_COUNT / 2, matchedCount);
+        } finally {
+            sourceFile.delete();
+        }
+    }
+
+    /**
+     * Writes a hosts file with the generated domains in random order and a few comments, same as the community lists.
+     */
+    private static void writeLargeHostsFile(@NonNull File file) throws IOException {
+        int[] order = new int[LARGE_LIST_DOMAINS_COUNT];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Random random = new Random(42);
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("# Generated hosts file\n127.0.0.1 localhost\n");
+            for (int i = 0; i < order.length; i++) {
+                if (i % 10_000 == 0) writer.write("# Section " + i + "\n");
+                writer.write("0.0.0.0 ");
+                writer.write(largeListDomain(order[i]));
+                writer.write('\n');
+            }
+        }
+    }
+
+    @NonNull
+    private static String largeListDomain(int index) {
+        return "ads-" + Integer.toString(index * 31 + 7, 36) + "-tracker." + TOP_LEVEL_DOMAINS[index % TOP_LEVEL_DOMAINS.length];
+    }
+
+    @NonNull
+    private DomainBlocklist compile(@NonNull String source) throws IOException {
+        int count = BlocklistImportHelper.compileBlocklist(
+                new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)),
+                mFile
+        );
+
+        DomainBlocklist blocklist = DomainBlocklist.open(mFile);
+        assertNotNull(blocklist);
+        assertEquals(count, blocklist.size());
+        return blocklist;
+    }
+}
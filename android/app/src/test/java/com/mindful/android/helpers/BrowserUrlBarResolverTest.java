@@ -0,0 +1,109 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Checks that {@link BrowserUrlBarResolver} only caches a browser negatively after it missed the url bar in
+ * several distinct windows, and that it recycles the nodes it looks up.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class BrowserUrlBarResolverTest {
+    private static final String BROWSER = "com.android.chrome";
+    private static final String URL_BAR_ID = BROWSER + ":id/url_bar";
+    private static final String URL = "https://example.com";
+
+    @Test
+    public void extractUrl_singleMissedWindow_isNotCachedNegatively() {
+        BrowserUrlBarResolver resolver = new BrowserUrlBarResolver();
+
+        // First window is a splash screen without the url bar
+        assertEquals("", resolver.extractUrl(windowWithoutUrlBar(1), BROWSER));
+        assertEquals(URL, resolver.extractUrl(windowWithUrlBar(2, mock(AccessibilityNodeInfo.class)), BROWSER));
+    }
+
+    @Test
+    public void extractUrl_missesInSameWindow_areCountedOnce() {
+        BrowserUrlBarResolver resolver = new BrowserUrlBarResolver();
+
+        for (int i = 0; i < 5; i++) resolver.extractUrl(windowWithoutUrlBar(1), BROWSER);
+        assertEquals(URL, resolver.extractUrl(windowWithUrlBar(1, mock(AccessibilityNodeInfo.class)), BROWSER));
+    }
+
+    @Test
+    public void extractUrl_missesInDistinctWindows_areCachedNegatively() {
+        BrowserUrlBarResolver resolver = new BrowserUrlBarResolver();
+        for (int windowId = 1; windowId <= 3; windowId++) resolver.extractUrl(windowWithoutUrlBar(windowId), BROWSER);
+
+        AccessibilityNodeInfo window = windowWithUrlBar(4, mock(AccessibilityNodeInfo.class));
+        assertEquals("", resolver.extractUrl(window, BROWSER));
+        verify(window, never()).findAccessibilityNodeInfosByViewId(anyString());
+    }
+
+    @Test
+    public void extractUrl_resolvedUrlBar_isTriedFirstAndRecycled() {
+        BrowserUrlBarResolver resolver = new BrowserUrlBarResolver();
+        AccessibilityNodeInfo urlBar = mock(AccessibilityNodeInfo.class);
+        AccessibilityNodeInfo window = windowWithUrlBar(1, urlBar);
+
+        assertEquals(URL, resolver.extractUrl(window, BROWSER));
+        clearInvocations(window);
+        assertEquals(URL, resolver.extractUrl(window, BROWSER));
+
+        verify(window).findAccessibilityNodeInfosByViewId(URL_BAR_ID);
+        verify(window, never()).findAccessibilityNodeInfosByViewId(BROWSER + ":id/url");
+        verify(urlBar, times(2)).recycle();
+    }
+
+    @NonNull
+    private static AccessibilityNodeInfo windowWithoutUrlBar(int windowId) {
+        AccessibilityNodeInfo window = mock(AccessibilityNodeInfo.class);
+        when(window.getWindowId()).thenReturn(windowId);
+        when(window.getClassName()).thenReturn("android.widget.FrameLayout");
+        when(window.findAccessibilityNodeInfosByViewId(anyString())).thenReturn(Collections.emptyList());
+        return window;
+    }
+
+    @NonNull
+    private static AccessibilityNodeInfo windowWithUrlBar(int windowId, @NonNull AccessibilityNodeInfo urlBar) {
+        AccessibilityNodeInfo window = windowWithoutUrlBar(windowId);
+        when(urlBar.getText()).thenReturn(URL);
+        when(window.findAccessibilityNodeInfosByViewId(URL_BAR_ID)).thenAnswer(invocation -> {
+            ArrayList<AccessibilityNodeInfo> nodes = new ArrayList<>();
+            nodes.add(urlBar);
+            return nodes;
+        });
+        return window;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowUsageStatsManager;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.TimeZone;
+
+/**
+ * Checks the hour-of-day histogram built by {@link ScreenUsageHelper#fetchHourlyUsageForDay(UsageStatsManager, long)}
+ * from the usage events of a day.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class HourlyScreenUsageTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+
+    private TimeZone mDefaultTimeZone;
+    private UsageStatsManager mUsageStatsManager;
+
+    @Before
+    public void setUp() {
+        mDefaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        mUsageStatsManager = (UsageStatsManager) RuntimeEnvironment.getApplication()
+                .getSystemService(Context.USAGE_STATS_SERVICE);
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(mDefaultTimeZone);
+    }
+
+    @Test
+    public void fetchHourlyUsageForDay_sessionCrossingHour_isSplitBetweenHours() {
+        long dayStart = midnightOf(2024, Calendar.JUNE, 10);
+        addSession(YOUTUBE, timeOf(dayStart, 10, 50), timeOf(dayStart, 11, 10));
+        addSession(INSTAGRAM, timeOf(dayStart, 23, 0), timeOf(dayStart, 23, 45));
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchHourlyUsageForDay(mUsageStatsManager, dayStart);
+
+        long[] youtubeHours = new long[24];
+        youtubeHours[10] = 10 * 60;
+        youtubeHours[11] = 10 * 60;
+        assertArrayEquals(youtubeHours, usage.get(YOUTUBE));
+
+        long[] instagramHours = new long[24];
+        instagramHours[23] = 45 * 60;
+        assertArrayEquals(instagramHours, usage.get(INSTAGRAM));
+    }
+
+    @Test
+    public void fetchHourlyUsageForDay_sessionResumedBeforeMidnight_isClippedToTheDay() {
+        long dayStart = midnightOf(2024, Calendar.JUNE, 10);
+        addSession(YOUTUBE, dayStart - 30 * 60 * 1000L, timeOf(dayStart, 0, 15));
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchHourlyUsageForDay(mUsageStatsManager, dayStart);
+
+        long[] youtubeHours = new long[24];
+        youtubeHours[0] = 15 * 60;
+        assertArrayEquals(youtubeHours, usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchHourlyUsageForDay_sessionStillOpen_isNotCounted() {
+        long dayStart = midnightOf(2024, Calendar.JUNE, 10);
+        addEvent(YOUTUBE, timeOf(dayStart, 9, 0), UsageEvents.Event.ACTIVITY_RESUMED);
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchHourlyUsageForDay(mUsageStatsManager, dayStart);
+        assertNull(usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchHourlyUsageForDay_daylightSavingStart_hasNoUsageInSkippedHour() {
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+
+        // Clocks jump from 02:00 to 03:00, so 01:30 till 03:30 lasts one hour
+        long dayStart = midnightOf(2024, Calendar.MARCH, 31);
+        addSession(YOUTUBE, timeOf(dayStart, 1, 30), timeOf(dayStart, 3, 30));
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchHourlyUsageForDay(mUsageStatsManager, dayStart);
+
+        long[] youtubeHours = usage.get(YOUTUBE);
+        assertEquals(30 * 60, youtubeHours[1]);
+        assertEquals(0, youtubeHours[2]);
+        assertEquals(30 * 60, youtubeHours[3]);
+    }
+
+    private void addSession(String packageName, long resumedAt, long pausedAt) {
+        addEvent(packageName, resumedAt, UsageEvents.Event.ACTIVITY_RESUMED);
+        addEvent(packageName, pausedAt, UsageEvents.Event.ACTIVITY_PAUSED);
+    }
+
+    private void addEvent(String packageName, long timestamp, int eventType) {
+        Shadows.shadowOf(mUsageStatsManager).addEvent(
+                ShadowUsageStatsManager.EventBuilder.buildEvent()
+                        .setPackage(packageName)
+                        .setClass(packageName + ".MainActivity")
+                        .setTimeStamp(timestamp)
+                        .setEventType(eventType)
+                        .build()
+        );
+    }
+
+    private static long midnightOf(int year, int month, int day) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, day);
+        return calendar.getTimeInMillis();
+    }
+
+    private static long timeOf(long dayStart, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(dayStart);
+        calendar.set(Calendar.HOUR_OF_DAY, hour);
+        calendar.set(Calendar.MINUTE, minute);
+        return calendar.getTimeInMillis();
+    }
+}
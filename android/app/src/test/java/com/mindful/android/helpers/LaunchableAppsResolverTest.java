@@ -0,0 +1,176 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Intent;
+import android.content.pm.ActivityInfo;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks that {@link LaunchableAppsResolver} resolves the launchable packages with the bulk launcher queries
+ * and serves them from its cache till invalidated, and compares its Binder calls with resolving the launch intent
+ * of every package.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class LaunchableAppsResolverTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+    private static final String SETTINGS = "com.android.settings";
+    private static final String SERVICE_ONLY = "com.android.service";
+    private static final int INSTALLED_PACKAGES_COUNT = 300;
+    private static final int LAUNCHABLE_PACKAGES_COUNT = 250;
+
+    private PackageManager mPackageManager;
+
+    @Before
+    public void setUp() {
+        LaunchableAppsResolver.invalidate();
+        mPackageManager = mock(PackageManager.class);
+        stubMainActivities(Intent.CATEGORY_LAUNCHER, YOUTUBE, INSTAGRAM);
+        stubMainActivities(Intent.CATEGORY_INFO, SETTINGS);
+    }
+
+    @Test
+    public void getLaunchablePackages_launcherAndInfoActivities_areMerged() {
+        assertEquals(
+                new HashSet<>(Arrays.asList(YOUTUBE, INSTAGRAM, SETTINGS)),
+                LaunchableAppsResolver.getLaunchablePackages(mPackageManager)
+        );
+        assertFalse(LaunchableAppsResolver.isLaunchable(mPackageManager, SERVICE_ONLY));
+    }
+
+    @Test
+    public void getLaunchablePackages_resolveInfoWithoutActivity_isSkipped() {
+        List<ResolveInfo> activities = new ArrayList<>();
+        activities.add(mainActivity(YOUTUBE));
+        activities.add(new ResolveInfo());
+        when(mPackageManager.queryIntentActivities(argThat(intent -> intent != null && intent.hasCategory(Intent.CATEGORY_LAUNCHER)), anyInt()))
+                .thenReturn(activities);
+
+        assertEquals(
+                new HashSet<>(Arrays.asList(YOUTUBE, SETTINGS)),
+                LaunchableAppsResolver.getLaunchablePackages(mPackageManager)
+        );
+    }
+
+    @Test
+    public void getLaunchablePackages_repeatedCalls_queryOnlyOnce() {
+        LaunchableAppsResolver.getLaunchablePackages(mPackageManager);
+        assertTrue(LaunchableAppsResolver.isLaunchable(mPackageManager, YOUTUBE));
+        assertTrue(LaunchableAppsResolver.isLaunchable(mPackageManager, SETTINGS));
+
+        // One query for each of the two categories
+        verify(mPackageManager, times(2)).queryIntentActivities(any(Intent.class), anyInt());
+    }
+
+    @Test
+    public void invalidate_resolvesChangedPackagesAgain() {
+        assertFalse(LaunchableAppsResolver.isLaunchable(mPackageManager, SERVICE_ONLY));
+
+        stubMainActivities(Intent.CATEGORY_LAUNCHER, YOUTUBE, SERVICE_ONLY);
+        assertFalse(LaunchableAppsResolver.isLaunchable(mPackageManager, SERVICE_ONLY));
+
+        LaunchableAppsResolver.invalidate();
+        assertTrue(LaunchableAppsResolver.isLaunchable(mPackageManager, SERVICE_ONLY));
+        assertFalse(LaunchableAppsResolver.isLaunchable(mPackageManager, INSTAGRAM));
+    }
+
+    @Test
+    public void getLaunchablePackages_fewHundredPackages_makesFarFewerBinderCallsThanLaunchIntentLoop() {
+        List<String> installedPackages = new ArrayList<>();
+        List<ResolveInfo> launcherActivities = new ArrayList<>();
+        for (int i = 0; i < INSTALLED_PACKAGES_COUNT; i++) {
+            String packageName = "com.synthetic.app" + i;
+            installedPackages.add(packageName);
+            if (i < LAUNCHABLE_PACKAGES_COUNT) launcherActivities.add(mainActivity(packageName));
+        }
+        Set<String> launchablePackages = new HashSet<>(installedPackages.subList(0, LAUNCHABLE_PACKAGES_COUNT));
+
+        // Every query of the package manager is a Binder transaction
+        AtomicInteger binderCalls = new AtomicInteger();
+        PackageManager packageManager = mock(PackageManager.class);
+        when(packageManager.queryIntentActivities(any(Intent.class), anyInt())).thenAnswer(invocation -> {
+            binderCalls.incrementAndGet();
+            Intent intent = invocation.getArgument(0);
+            return intent.hasCategory(Intent.CATEGORY_LAUNCHER) ? launcherActivities : new ArrayList<ResolveInfo>();
+        });
+        // Same as the framework, the info category is queried first and the launcher category only if it is empty
+        when(packageManager.getLaunchIntentForPackage(anyString())).thenAnswer(invocation -> {
+            binderCalls.addAndGet(2);
+            String packageName = invocation.getArgument(0);
+            return launchablePackages.contains(packageName) ? new Intent(Intent.ACTION_MAIN) : null;
+        });
+
+        LaunchableAppsResolver.invalidate();
+        Set<String> resolvedPackages = LaunchableAppsResolver.getLaunchablePackages(packageManager);
+        int bulkBinderCalls = binderCalls.getAndSet(0);
+
+        Set<String> loopPackages = new HashSet<>();
+        for (String packageName : installedPackages) {
+            if (packageManager.getLaunchIntentForPackage(packageName) != null) loopPackages.add(packageName);
+        }
+        int loopBinderCalls = binderCalls.get();
+
+        assertEquals(loopPackages, resolvedPackages);
+        assertEquals(2, bulkBinderCalls);
+        assertEquals(2 * INSTALLED_PACKAGES_COUNT, loopBinderCalls);
+    }
+
+    private void stubMainActivities(@NonNull String category, @NonNull String... packageNames) {
+        List<ResolveInfo> activities = new ArrayList<>();
+        for (String packageName : packageNames) activities.add(mainActivity(packageName));
+
+        when(mPackageManager.queryIntentActivities(
+                argThat(intent -> intent != null && Intent.ACTION_MAIN.equals(intent.getAction()) && intent.hasCategory(category)),
+                anyInt()
+        )).thenReturn(activities);
+    }
+
+    @NonNull
+    private static ResolveInfo mainActivity(@NonNull String packageName) {
+        ResolveInfo resolveInfo = new ResolveInfo();
+        resolveInfo.activityInfo = new ActivityInfo();
+        resolveInfo.activityInfo.packageName = packageName;
+        resolveInfo.activityInfo.name = packageName + ".MainActivity";
+        return resolveInfo;
+    }
+}
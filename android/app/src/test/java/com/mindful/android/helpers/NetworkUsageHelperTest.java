@@ -0,0 +1,77 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.usage.NetworkStatsManager;
+import android.net.ConnectivityManager;
+import android.os.RemoteException;
+import android.util.SparseLongArray;
+
+import com.mindful.android.models.NetworkUsage;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that {@link NetworkUsageHelper} queries both networks on the calling thread and sums the buckets per UID
+ * into a {@link SparseLongArray}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class NetworkUsageHelperTest {
+    private static final int FIRST_APP_UID = 10_000;
+
+    @Test
+    public void fetchNetworkUsage_wifiAndMobile_areQueriedOnCallingThread() throws RemoteException {
+        NetworkStatsManager networkStatsManager = mock(NetworkStatsManager.class);
+        List<Thread> queryThreads = new ArrayList<>();
+        when(networkStatsManager.querySummary(anyInt(), isNull(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            queryThreads.add(Thread.currentThread());
+            throw new RemoteException();
+        });
+
+        NetworkUsage usage = NetworkUsageHelper.fetchNetworkUsage(networkStatsManager, 0L, 1000L);
+
+        assertEquals(0, usage.uids.length);
+        assertEquals(Arrays.asList(Thread.currentThread(), Thread.currentThread()), queryThreads);
+        verify(networkStatsManager).querySummary(eq(ConnectivityManager.TYPE_WIFI), isNull(), anyLong(), anyLong());
+        verify(networkStatsManager).querySummary(eq(ConnectivityManager.TYPE_MOBILE), isNull(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void addBytes_bucketsOfSameUid_areSummed() {
+        SparseLongArray usage = new SparseLongArray();
+        NetworkUsageHelper.addBytes(usage, FIRST_APP_UID, 1024L);
+        NetworkUsageHelper.addBytes(usage, FIRST_APP_UID + 1, 10L);
+        NetworkUsageHelper.addBytes(usage, FIRST_APP_UID, 2048L);
+
+        assertEquals(2, usage.size());
+        assertEquals(3072L, usage.get(FIRST_APP_UID));
+        assertEquals(10L, usage.get(FIRST_APP_UID + 1));
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.app.usage.NetworkStatsManager;
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+import android.content.Context;
+import android.os.RemoteException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowUsageStatsManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks how the usage sessions are split and accumulated into the intervals of {@link ScreenUsageHelper},
+ * that the single pass scan over a synthetic day agrees with the per-event allocating scan it replaced,
+ * and that the one pass week aggregation needs fewer Binder calls than the per-day queries it replaced.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class ScreenUsageHelperTest {
+    private static final int SYNTHETIC_EVENTS_COUNT = 50_000;
+    private static final int SYNTHETIC_PACKAGES_COUNT = 60;
+    private static final int WEEK_DAYS_COUNT = 7;
+    private static final int WEEK_EVENTS_PER_DAY = 10_000;
+
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+
+    @Test
+    public void fetchUsageForInterval_syntheticDay_matchesPreviousScan() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        long dayStart = 10 * DAY;
+        long dayEnd = dayStart + DAY;
+        addSyntheticDay(usageStatsManager, dayStart, SYNTHETIC_EVENTS_COUNT);
+
+        // Results must not change, the synthetic sessions are all closed within the day
+        HashMap<String, Long> usage = ScreenUsageHelper.fetchUsageForInterval(usageStatsManager, dayStart, dayEnd, null);
+        assertEquals(fetchUsageForIntervalPerEvent(usageStatsManager, dayStart, dayEnd, null), usage);
+        assertEquals(SYNTHETIC_PACKAGES_COUNT, usage.size());
+    }
+
+    @Test
+    public void fetchUsageForIntervals_syntheticWeek_needsFewerBinderCallsThanPerDayQueries() throws RemoteException {
+        UsageStatsManager eventsSource = (UsageStatsManager) RuntimeEnvironment.getApplication()
+                .getSystemService(Context.USAGE_STATS_SERVICE);
+        long[] boundaries = new long[WEEK_DAYS_COUNT + 1];
+        for (int day = 0; day <= WEEK_DAYS_COUNT; day++) boundaries[day] = (10 + day) * DAY;
+        for (int day = 0; day < WEEK_DAYS_COUNT; day++) addSyntheticDay(eventsSource, boundaries[day], WEEK_EVENTS_PER_DAY);
+
+        // Every query of the system services is a Binder call
+        AtomicInteger binderCalls = new AtomicInteger();
+        UsageStatsManager usageStatsManager = mock(UsageStatsManager.class);
+        when(usageStatsManager.queryEvents(anyLong(), anyLong())).thenAnswer(invocation -> {
+            binderCalls.incrementAndGet();
+            return eventsSource.queryEvents(invocation.getArgument(0), invocation.getArgument(1));
+        });
+        NetworkStatsManager networkStatsManager = mock(NetworkStatsManager.class);
+        when(networkStatsManager.querySummary(anyInt(), isNull(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            binderCalls.incrementAndGet();
+            throw new RemoteException();
+        });
+        when(networkStatsManager.queryDetails(anyInt(), isNull(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            binderCalls.incrementAndGet();
+            throw new RemoteException();
+        });
+
+        HashMap<String, long[]> weekUsage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, boundaries);
+        NetworkUsageHelper.fetchMobileUsageForIntervals(networkStatsManager, boundaries);
+        NetworkUsageHelper.fetchWifiUsageForIntervals(networkStatsManager, boundaries);
+        int onePassBinderCalls = binderCalls.getAndSet(0);
+
+        HashMap<String, Long>[] perDayUsage = fetchWeekUsagePerDay(usageStatsManager, networkStatsManager, boundaries);
+        int perDayBinderCalls = binderCalls.get();
+
+        // The synthetic sessions never cross midnight, so both must attribute the same usage to every day
+        for (int day = 0; day < WEEK_DAYS_COUNT; day++) {
+            for (Map.Entry<String, Long> entry : perDayUsage[day].entrySet()) {
+                assertEquals(entry.getKey(), (long) entry.getValue(), weekUsage.get(entry.getKey())[day]);
+            }
+        }
+        assertEquals(3, onePassBinderCalls);
+        assertEquals(3 * WEEK_DAYS_COUNT, perDayBinderCalls);
+    }
+
+    @Test
+    public void fetchUsageForIntervals_sessionInsideInterval_addsToThatIntervalOnly() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        addSession(usageStatsManager, YOUTUBE, 10 * DAY + HOUR, 10 * DAY + HOUR + 30 * MINUTE);
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 2));
+        assertArrayEquals(new long[]{30 * 60, 0}, usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchUsageForIntervals_sessionCrossingBoundaries_isSplitBetweenIntervals() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        addSession(usageStatsManager, YOUTUBE, 11 * DAY - 10 * MINUTE, 12 * DAY + 5 * MINUTE);
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 3));
+        assertArrayEquals(new long[]{10 * 60, 24 * 60 * 60, 5 * 60}, usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchUsageForIntervals_sessionsCrossingOuterBoundaries_areClippedOrLeftOpen() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        addSession(usageStatsManager, YOUTUBE, 10 * DAY - HOUR, 10 * DAY + HOUR);
+        addSession(usageStatsManager, INSTAGRAM, 11 * DAY - HOUR, 11 * DAY + HOUR);
+
+        // The session still active at the end is not counted yet, only reported as open
+        long[] openSessionsSince = new long[1];
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 1), openSessionsSince);
+        assertArrayEquals(new long[]{60 * 60}, usage.get(YOUTUBE));
+        assertNull(usage.get(INSTAGRAM));
+        assertEquals(11 * DAY - HOUR, openSessionsSince[0]);
+    }
+
+    @Test
+    public void fetchUsageForIntervals_sessionStartingOnBoundary_addsToTheIntervalItStarts() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        addSession(usageStatsManager, YOUTUBE, 11 * DAY, 11 * DAY + MINUTE);
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 2));
+        assertArrayEquals(new long[]{0, 60}, usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchUsageForIntervals_millisOfSessions_areSummedBeforeConvertingToSeconds() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        for (int i = 0; i < 4; i++) {
+            long start = 10 * DAY + i * MINUTE;
+            addSession(usageStatsManager, YOUTUBE, start, start + 750L);
+        }
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 1));
+        assertArrayEquals(new long[]{3}, usage.get(YOUTUBE));
+    }
+
+    @Test
+    public void fetchUsageForIntervals_manyPackages_keepTheirUsageWhileGrowing() {
+        UsageStatsManager usageStatsManager = usageStatsManager();
+        for (int i = 0; i < 200; i++) {
+            addSession(usageStatsManager, "com.app" + i, 11 * DAY - i * 1000L, 11 * DAY + i * 1000L);
+        }
+
+        HashMap<String, long[]> usage = ScreenUsageHelper.fetchUsageForIntervals(usageStatsManager, days(10, 2));
+        for (int i = 0; i < 200; i++) {
+            assertArrayEquals(new long[]{i, i}, usage.get("com.app" + i));
+        }
+        assertNull(usage.get(YOUTUBE));
+    }
+
+    @NonNull
+    private static UsageStatsManager usageStatsManager() {
+        return (UsageStatsManager) RuntimeEnvironment.getApplication().getSystemService(Context.USAGE_STATS_SERVICE);
+    }
+
+    /**
+     * Boundaries of consecutive days starting from the given day since the epoch.
+     */
+    @NonNull
+    private static long[] days(int firstDay, int daysCount) {
+        long[] boundaries = new long[daysCount + 1];
+        for (int day = 0; day <= daysCount; day++) boundaries[day] = (firstDay + day) * DAY;
+        return boundaries;
+    }
+
+    private static void addSession(@NonNull UsageStatsManager usageStatsManager, @NonNull String packageName, long from, long to) {
+        ShadowUsageStatsManager shadow = Shadows.shadowOf(usageStatsManager);
+        shadow.addEvent(syntheticEvent(packageName, packageName + ".MainActivity", from, UsageEvents.Event.ACTIVITY_RESUMED));
+        shadow.addEvent(syntheticEvent(packageName, packageName + ".MainActivity", to, UsageEvents.Event.ACTIVITY_PAUSED));
+    }
+
+    /**
+     * Adds a heavy day of usage events, short sessions of a few seconds across many packages and activities.
+     */
+    private static void addSyntheticDay(@NonNull UsageStatsManager usageStatsManager, long dayStart, int eventsCount) {
+        ShadowUsageStatsManager shadow = Shadows.shadowOf(usageStatsManager);
+        Random random = new Random(42);
+        long sessionsSpan = DAY / (eventsCount / 2);
+        long time = dayStart;
+
+        for (int i = 0; i < eventsCount / 2; i++) {
+            // Every package is used at least once, the rest are picked at random
+            int app = i < SYNTHETIC_PACKAGES_COUNT ? i : random.nextInt(SYNTHETIC_PACKAGES_COUNT);
+            String packageName = "com.synthetic.app" + app;
+            String className = packageName + ".Activity" + random.nextInt(3);
+            long duration = 1 + random.nextInt((int) sessionsSpan - 2);
+
+            shadow.addEvent(syntheticEvent(packageName, className, time, UsageEvents.Event.ACTIVITY_RESUMED));
+            shadow.addEvent(syntheticEvent(packageName, className, time + duration, UsageEvents.Event.ACTIVITY_PAUSED));
+            time += sessionsSpan;
+        }
+    }
+
+    @NonNull
+    private static UsageEvents.Event syntheticEvent(@NonNull String packageName, @NonNull String className, long timestamp, int eventType) {
+        return ShadowUsageStatsManager.EventBuilder.buildEvent()
+                .setPackage(packageName)
+                .setClass(className)
+                .setTimeStamp(timestamp)
+                .setEventType(eventType)
+                .build();
+    }
+
+    /**
+     * The previous week aggregation, kept as the baseline. It queries the screen, mobile and Wi-Fi usage of
+     * every day separately.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private static HashMap<String, Long>[] fetchWeekUsagePerDay(
+            @NonNull UsageStatsManager usageStatsManager,
+            @NonNull NetworkStatsManager networkStatsManager,
+            @NonNull long[] boundaries
+    ) {
+        HashMap<String, Long>[] weekUsage = new HashMap[boundaries.length - 1];
+        for (int day = 0; day < weekUsage.length; day++) {
+            weekUsage[day] = ScreenUsageHelper.fetchUsageForInterval(usageStatsManager, boundaries[day], boundaries[day + 1], null);
+            NetworkUsageHelper.fetchMobileUsageForInterval(networkStatsManager, boundaries[day], boundaries[day + 1]);
+            NetworkUsageHelper.fetchWifiUsageForInterval(networkStatsManager, boundaries[day], boundaries[day + 1]);
+        }
+        return weekUsage;
+    }
+
+    /**
+     * The previous scan, kept as the baseline. It allocates an event and a key per event and boxes every duration.
+     */
+    @NonNull
+    private static HashMap<String, Long> fetchUsageForIntervalPerEvent(
+            @NonNull UsageStatsManager usageStatsManager,
+            long start,
+            long end,
+            @Nullable String lastActiveAppPackage
+    ) {
+        HashMap<String, Long> usageMap = new HashMap<>();
+        UsageEvents usageEvents = usageStatsManager.queryEvents(start, end);
+        Map<String, UsageEvents.Event> lastResumedEvents = new HashMap<>();
+        boolean isFirstEvent = true;
+
+        while (usageEvents.hasNextEvent()) {
+            UsageEvents.Event event = new UsageEvents.Event();
+            usageEvents.getNextEvent(event);
+
+            String packageName = event.getPackageName();
+            String eventKey = packageName + event.getClassName();
+            long timestamp = event.getTimeStamp();
+
+            switch (event.getEventType()) {
+                case UsageEvents.Event.ACTIVITY_RESUMED:
+                    lastResumedEvents.put(eventKey, event);
+                    break;
+
+                case UsageEvents.Event.ACTIVITY_PAUSED:
+                case UsageEvents.Event.ACTIVITY_STOPPED:
+                    Long usageTime = usageMap.getOrDefault(packageName, 0L);
+                    UsageEvents.Event lastResumedEvent = lastResumedEvents.get(eventKey);
+
+                    if (lastResumedEvent != null) {
+                        usageTime += (timestamp - lastResumedEvent.getTimeStamp());
+                        lastResumedEvents.remove(eventKey);
+                    } else if (isFirstEvent) {
+                        usageTime += (timestamp - start);
+                        isFirstEvent = false;
+                    }
+                    usageMap.put(packageName, usageTime);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        if (lastActiveAppPackage != null) {
+            for (UsageEvents.Event event : lastResumedEvents.values()) {
+                if (!lastActiveAppPackage.equals(event.getPackageName())) continue;
+                usageMap.put(lastActiveAppPackage, usageMap.getOrDefault(lastActiveAppPackage, 0L) + (end - event.getTimeStamp()));
+                break;
+            }
+        }
+
+        usageMap.replaceAll((key, value) -> value / 1000);
+        return usageMap;
+    }
+}
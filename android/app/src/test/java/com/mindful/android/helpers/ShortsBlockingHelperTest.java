@@ -0,0 +1,103 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.ShortsRule;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Checks that the compiled {@link ShortsBlockingHelper.PackageMatcher} recycles the nodes it looks up.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class ShortsBlockingHelperTest {
+    private static final String FACEBOOK = "com.facebook.katana";
+    private static final String SNAPCHAT = "com.snapchat.android";
+
+    @Test
+    public void isShortsOpen_childrenTexts_areRecycled() throws JSONException {
+        ShortsBlockingHelper.PackageMatcher matcher = matcherOf(
+                "{\"setting\":\"blockFbReels\",\"packages\":[\"" + FACEBOOK + "\"],\"texts\":[\"Add a comment…\"]}",
+                FACEBOOK
+        );
+        AccessibilityNodeInfo otherChild = nodeWithText("Like");
+        AccessibilityNodeInfo commentChild = nodeWithText("Add a comment…");
+        AccessibilityNodeInfo root = nodeWithText("Reels");
+        when(root.getChildCount()).thenReturn(2);
+        when(root.getChild(0)).thenReturn(otherChild);
+        when(root.getChild(1)).thenReturn(commentChild);
+
+        assertTrue(matcher.isShortsOpen(root, FACEBOOK));
+        verify(otherChild).recycle();
+        verify(commentChild).recycle();
+    }
+
+    @Test
+    public void isShortsOpen_descendantsFound_areRecycled() throws JSONException {
+        ShortsBlockingHelper.PackageMatcher matcher = matcherOf(
+                "{\"setting\":\"blockSnapSpotlight\",\"packages\":[\"" + SNAPCHAT + "\"],"
+                        + "\"descendantIds\":[\"{package}:id/spotlight_view_count\"]}",
+                SNAPCHAT
+        );
+        AccessibilityNodeInfo viewCount = mock(AccessibilityNodeInfo.class);
+        AccessibilityNodeInfo root = mock(AccessibilityNodeInfo.class);
+        when(root.findAccessibilityNodeInfosByViewId(anyString())).thenReturn(Collections.emptyList());
+        when(root.findAccessibilityNodeInfosByViewId(SNAPCHAT + ":id/spotlight_view_count")).thenAnswer(invocation -> {
+            ArrayList<AccessibilityNodeInfo> nodes = new ArrayList<>();
+            nodes.add(viewCount);
+            return nodes;
+        });
+
+        assertTrue(matcher.isShortsOpen(root, SNAPCHAT));
+        verify(viewCount).recycle();
+
+        when(root.findAccessibilityNodeInfosByViewId(anyString())).thenReturn(Collections.emptyList());
+        assertFalse(matcher.isShortsOpen(root, SNAPCHAT));
+    }
+
+    @NonNull
+    private static ShortsBlockingHelper.PackageMatcher matcherOf(@NonNull String ruleJson, @NonNull String packageName) throws JSONException {
+        ShortsRule rule = new ShortsRule(new JSONObject(ruleJson));
+        ShortsBlockingHelper.PackageMatcher matcher = new ShortsBlockingHelper(Collections.singletonList(rule)).getMatcher(packageName);
+        assertNotNull(matcher);
+        return matcher;
+    }
+
+    @NonNull
+    private static AccessibilityNodeInfo nodeWithText(@NonNull String text) {
+        AccessibilityNodeInfo node = mock(AccessibilityNodeInfo.class);
+        when(node.getText()).thenReturn(text);
+        return node;
+    }
+}
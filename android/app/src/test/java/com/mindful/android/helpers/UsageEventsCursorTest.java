@@ -0,0 +1,171 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Replays usage event logs whose events are delivered by the system after they happened and checks that the
+ * cursor passes every event to the listener exactly once.
+ */
+public class UsageEventsCursorTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String INSTAGRAM = "com.instagram.android";
+
+    private final List<ReplayedEvent> mEventsLog = new ArrayList<>();
+    private final List<String> mReceivedEvents = new ArrayList<>();
+    private ReplayedEvent mCurrentEvent;
+    private UsageEventsCursor mCursor;
+
+    @Before
+    public void setUp() {
+        // The event instance reused by the cursor reads the event currently returned by the replayed query
+        UsageEvents.Event event = mock(UsageEvents.Event.class);
+        when(event.getTimeStamp()).thenAnswer(invocation -> mCurrentEvent.timestamp);
+        when(event.getEventType()).thenAnswer(invocation -> mCurrentEvent.eventType);
+        when(event.getPackageName()).thenAnswer(invocation -> mCurrentEvent.packageName);
+        when(event.getClassName()).thenAnswer(invocation -> mCurrentEvent.className);
+
+        UsageStatsManager usageStatsManager = mock(UsageStatsManager.class);
+        when(usageStatsManager.queryEvents(anyLong(), anyLong()))
+                .thenAnswer(invocation -> replayQuery(invocation.getArgument(0), invocation.getArgument(1)));
+
+        mCursor = new UsageEventsCursor(usageStatsManager, Long.MAX_VALUE, event);
+        mCursor.seekTo(0L);
+    }
+
+    @Test
+    public void readNewEvents_eventsInOrder_passesEveryEventOnce() {
+        logEvent(1000L, 1000L, UsageEvents.Event.ACTIVITY_RESUMED, YOUTUBE);
+        logEvent(1100L, 1100L, UsageEvents.Event.ACTIVITY_PAUSED, YOUTUBE);
+        logEvent(1150L, 1150L, UsageEvents.Event.ACTIVITY_RESUMED, INSTAGRAM);
+
+        assertEquals(2, readNewEvents(1120L));
+        assertEquals(1, readNewEvents(1200L));
+        assertEquals(0, readNewEvents(1300L));
+
+        assertEquals(Arrays.asList(
+                "1000:" + YOUTUBE,
+                "1100:" + YOUTUBE,
+                "1150:" + INSTAGRAM
+        ), mReceivedEvents);
+    }
+
+    @Test
+    public void readNewEvents_lateEventOlderThanLastHandled_isNotSkipped() {
+        // Instagram is resumed after youtube was paused, but the pause is delivered after the resume was read
+        logEvent(1000L, 1000L, UsageEvents.Event.ACTIVITY_RESUMED, YOUTUBE);
+        logEvent(1150L, 1150L, UsageEvents.Event.ACTIVITY_RESUMED, INSTAGRAM);
+        logEvent(1100L, 1300L, UsageEvents.Event.ACTIVITY_PAUSED, YOUTUBE);
+
+        assertEquals(2, readNewEvents(1200L));
+        assertEquals(1, readNewEvents(1400L));
+        assertEquals(0, readNewEvents(1600L));
+
+        assertEquals(Arrays.asList(
+                "1000:" + YOUTUBE,
+                "1150:" + INSTAGRAM,
+                "1100:" + YOUTUBE
+        ), mReceivedEvents);
+    }
+
+    @Test
+    public void readNewEvents_eventsWithSameTimestamp_areNotMergedAsDuplicates() {
+        logEvent(1000L, 1000L, UsageEvents.Event.ACTIVITY_PAUSED, YOUTUBE);
+        logEvent(1000L, 1000L, UsageEvents.Event.ACTIVITY_RESUMED, INSTAGRAM);
+        logEvent(1000L, 1250L, UsageEvents.Event.ACTIVITY_RESUMED, YOUTUBE);
+
+        assertEquals(2, readNewEvents(1100L));
+        assertEquals(1, readNewEvents(1300L));
+        assertEquals(0, readNewEvents(1350L));
+        assertEquals(3, mReceivedEvents.size());
+    }
+
+    @Test
+    public void readNewEvents_frequentReads_neverRepeatEvents() {
+        for (long time = 100L; time <= 5000L; time += 100L) {
+            logEvent(time, time + 250L, UsageEvents.Event.ACTIVITY_RESUMED, YOUTUBE);
+        }
+
+        for (long now = 50L; now <= 6000L; now += 50L) {
+            readNewEvents(now);
+        }
+
+        assertEquals(50, mReceivedEvents.size());
+        assertEquals(50, new HashSet<>(mReceivedEvents).size());
+    }
+
+    private int readNewEvents(long now) {
+        return mCursor.readNewEvents(now, event ->
+                mReceivedEvents.add(event.getTimeStamp() + ":" + event.getPackageName())
+        );
+    }
+
+    private void logEvent(long timestamp, long deliveredAt, int eventType, String packageName) {
+        mEventsLog.add(new ReplayedEvent(timestamp, deliveredAt, eventType, packageName, packageName + ".MainActivity"));
+    }
+
+    /**
+     * Returns the events which happened during the interval and were delivered by its end, like the system does.
+     */
+    private UsageEvents replayQuery(long start, long end) {
+        List<ReplayedEvent> events = new ArrayList<>();
+        for (ReplayedEvent event : mEventsLog) {
+            if (event.timestamp >= start && event.timestamp < end && event.deliveredAt <= end) events.add(event);
+        }
+        Collections.sort(events, (a, b) -> Long.compare(a.timestamp, b.timestamp));
+
+        Iterator<ReplayedEvent> iterator = events.iterator();
+        UsageEvents usageEvents = mock(UsageEvents.class);
+        when(usageEvents.hasNextEvent()).thenAnswer(invocation -> iterator.hasNext());
+        doAnswer(invocation -> {
+            mCurrentEvent = iterator.next();
+            return true;
+        }).when(usageEvents).getNextEvent(any(UsageEvents.Event.class));
+        return usageEvents;
+    }
+
+    private static class ReplayedEvent {
+        final long timestamp;
+        final long deliveredAt;
+        final int eventType;
+        final String packageName;
+        final String className;
+
+        ReplayedEvent(long timestamp, long deliveredAt, int eventType, String packageName, String className) {
+            this.timestamp = timestamp;
+            this.deliveredAt = deliveredAt;
+            this.eventType = eventType;
+            this.packageName = packageName;
+            this.className = className;
+        }
+    }
+}
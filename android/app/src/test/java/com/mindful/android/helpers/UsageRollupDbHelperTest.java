@@ -0,0 +1,84 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import com.mindful.android.models.DailyUsage;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Checks that a change of the data reset time drops only the network usage of the rolled up days of the current
+ * week in {@link UsageRollupDbHelper}, and keeps their screen time.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class UsageRollupDbHelperTest {
+    private static final String YOUTUBE = "com.google.android.youtube";
+
+    @Test
+    public void invalidateRolledUpDays_resetTimeChanged_keepsScreenTime() throws Exception {
+        UsageRollupDbHelper rollupDb = UsageRollupDbHelper.getInstance(RuntimeEnvironment.getApplication());
+        Calendar cal = Calendar.getInstance();
+        int today = UsageRollupDbHelper.getDayKey(cal.getTimeInMillis());
+        cal.add(Calendar.DAY_OF_MONTH, -7);
+        int lastWeekDay = UsageRollupDbHelper.getDayKey(cal.getTimeInMillis());
+
+        rollupDb.saveRolledUpDay(today, usageOf(3600, 500), rollupDb.getInvalidationGeneration());
+        rollupDb.saveRolledUpDay(lastWeekDay, usageOf(1800, 700), rollupDb.getInvalidationGeneration());
+        rollupDb.invalidateRolledUpDays();
+        rollupDb.awaitWrites();
+
+        // The day of this week is fetched again, the day of the last week is left as it was
+        assertFalse(rollupDb.fetchRolledUpDays(today, today).contains(today));
+        assertTrue(rollupDb.fetchRolledUpDays(lastWeekDay, lastWeekDay).contains(lastWeekDay));
+        assertUsage(rollupDb, today, 3600, 0);
+        assertUsage(rollupDb, lastWeekDay, 1800, 700);
+
+        // The usage events of the day may be gone by the time it is rolled up again
+        rollupDb.saveRolledUpDay(today, usageOf(0, 400), rollupDb.getInvalidationGeneration());
+        rollupDb.awaitWrites();
+
+        assertTrue(rollupDb.fetchRolledUpDays(today, today).contains(today));
+        assertUsage(rollupDb, today, 3600, 400);
+    }
+
+    private static void assertUsage(@NonNull UsageRollupDbHelper rollupDb, int day, long screenTimeSecs, long wifiUsageKbs) {
+        DailyUsage usage = rollupDb.fetchDailyUsage(day, day).get(day).get(YOUTUBE);
+        assertNotNull(usage);
+        assertEquals(screenTimeSecs, usage.screenTimeSecs);
+        assertEquals(wifiUsageKbs, usage.wifiUsageKbs);
+    }
+
+    @NonNull
+    private static Map<String, DailyUsage> usageOf(long screenTimeSecs, long wifiUsageKbs) {
+        DailyUsage usage = new DailyUsage();
+        usage.screenTimeSecs = screenTimeSecs;
+        usage.wifiUsageKbs = wifiUsageKbs;
+        return Collections.singletonMap(YOUTUBE, usage);
+    }
+}
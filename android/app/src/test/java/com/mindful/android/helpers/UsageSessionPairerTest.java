@@ -0,0 +1,217 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.usage.UsageEvents;
+import android.app.usage.UsageStatsManager;
+import android.content.Context;
+
+import com.mindful.android.models.UsageSession;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.Shadows;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowUsageStatsManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks how {@link UsageSessionPairer} and {@link UsageSessionIterator} pair the resume and pause events
+ * into sessions, including the events cut off by the start or the end of the query.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class UsageSessionPairerTest {
+    private static final long START = 1_000_000L;
+
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String YOUTUBE_PLAYER = YOUTUBE + ".PlayerActivity";
+    private static final String YOUTUBE_MAIN = YOUTUBE + ".MainActivity";
+    private static final String INSTAGRAM = "com.instagram.android";
+    private static final String INSTAGRAM_MAIN = INSTAGRAM + ".MainActivity";
+
+    private UsageSessionPairer mPairer;
+
+    @Before
+    public void setUp() {
+        mPairer = new UsageSessionPairer(START);
+    }
+
+    @Test
+    public void onEvent_resumeThenPause_producesSession() {
+        assertNull(feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED));
+        UsageSession session = feed(YOUTUBE, YOUTUBE_MAIN, START + 600L, UsageEvents.Event.ACTIVITY_PAUSED);
+
+        assertNotNull(session);
+        assertEquals(YOUTUBE, session.packageName);
+        assertEquals(YOUTUBE_MAIN, session.className);
+        assertEquals(START + 100L, session.startTime);
+        assertEquals(START + 600L, session.endTime);
+        assertFalse(session.isOpen);
+        assertFalse(session.isClipped);
+    }
+
+    @Test
+    public void onEvent_pauseWithoutResume_producesSessionClippedToStart() {
+        UsageSession session = feed(YOUTUBE, YOUTUBE_MAIN, START + 300L, UsageEvents.Event.ACTIVITY_PAUSED);
+
+        assertNotNull(session);
+        assertEquals(START, session.startTime);
+        assertEquals(START + 300L, session.endTime);
+        assertTrue(session.isClipped);
+    }
+
+    @Test
+    public void onEvent_pauseOfClosedActivity_isIgnored() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        assertNotNull(feed(YOUTUBE, YOUTUBE_MAIN, START + 200L, UsageEvents.Event.ACTIVITY_PAUSED));
+
+        assertNull(feed(YOUTUBE, YOUTUBE_MAIN, START + 300L, UsageEvents.Event.ACTIVITY_PAUSED));
+        assertNull(feed(YOUTUBE, YOUTUBE_MAIN, START + 400L, UsageEvents.Event.ACTIVITY_STOPPED));
+    }
+
+    @Test
+    public void onEvent_stopWithoutResume_isIgnored() {
+        assertNull(feed(YOUTUBE, YOUTUBE_MAIN, START + 300L, UsageEvents.Event.ACTIVITY_STOPPED));
+    }
+
+    @Test
+    public void onEvent_stopAfterMissedPause_closesSession() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        UsageSession session = feed(YOUTUBE, YOUTUBE_MAIN, START + 900L, UsageEvents.Event.ACTIVITY_STOPPED);
+
+        assertNotNull(session);
+        assertEquals(START + 100L, session.startTime);
+        assertEquals(START + 900L, session.endTime);
+    }
+
+    @Test
+    public void onEvent_repeatedResume_restartsSession() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 500L, UsageEvents.Event.ACTIVITY_RESUMED);
+        UsageSession session = feed(YOUTUBE, YOUTUBE_MAIN, START + 800L, UsageEvents.Event.ACTIVITY_PAUSED);
+
+        assertNotNull(session);
+        assertEquals(START + 500L, session.startTime);
+    }
+
+    @Test
+    public void onEvent_overlappingActivities_arePairedSeparately() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        feed(INSTAGRAM, INSTAGRAM_MAIN, START + 200L, UsageEvents.Event.ACTIVITY_RESUMED);
+        feed(YOUTUBE, YOUTUBE_PLAYER, START + 300L, UsageEvents.Event.ACTIVITY_RESUMED);
+
+        UsageSession player = feed(YOUTUBE, YOUTUBE_PLAYER, START + 400L, UsageEvents.Event.ACTIVITY_PAUSED);
+        assertNotNull(player);
+        assertEquals(YOUTUBE_PLAYER, player.className);
+        assertEquals(START + 300L, player.startTime);
+
+        UsageSession instagram = feed(INSTAGRAM, INSTAGRAM_MAIN, START + 700L, UsageEvents.Event.ACTIVITY_PAUSED);
+        assertNotNull(instagram);
+        assertEquals(START + 200L, instagram.startTime);
+
+        UsageSession main = feed(YOUTUBE, YOUTUBE_MAIN, START + 900L, UsageEvents.Event.ACTIVITY_PAUSED);
+        assertNotNull(main);
+        assertEquals(START + 100L, main.startTime);
+    }
+
+    @Test
+    public void getOpenSession_activityStillResumedAtEnd_returnsOpenSession() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 200L, UsageEvents.Event.ACTIVITY_PAUSED);
+        feed(INSTAGRAM, INSTAGRAM_MAIN, START + 300L, UsageEvents.Event.ACTIVITY_RESUMED);
+
+        assertEquals(2, mPairer.getComponentsCount());
+        assertNull(mPairer.getOpenSession(0, START + 1000L));
+
+        UsageSession open = mPairer.getOpenSession(1, START + 1000L);
+        assertNotNull(open);
+        assertEquals(INSTAGRAM, open.packageName);
+        assertEquals(START + 300L, open.startTime);
+        assertEquals(START + 1000L, open.endTime);
+        assertTrue(open.isOpen);
+    }
+
+    @Test
+    public void getLatestOpenSession_severalResumedActivities_returnsLastResumed() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        feed(INSTAGRAM, INSTAGRAM_MAIN, START + 300L, UsageEvents.Event.ACTIVITY_RESUMED);
+
+        UsageSession latest = mPairer.getLatestOpenSession(START + 1000L);
+        assertNotNull(latest);
+        assertEquals(INSTAGRAM, latest.packageName);
+
+        assertEquals(START + 100L, mPairer.getLatestOpenSessionStart(YOUTUBE));
+        assertEquals(-1L, mPairer.getLatestOpenSessionStart("com.other.app"));
+    }
+
+    @Test
+    public void reset_forgetsResumedActivities() {
+        feed(YOUTUBE, YOUTUBE_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED);
+        mPairer.reset(START + 500L);
+
+        assertNull(mPairer.getLatestOpenSession(START + 1000L));
+        UsageSession session = feed(YOUTUBE, YOUTUBE_MAIN, START + 800L, UsageEvents.Event.ACTIVITY_PAUSED);
+        assertNotNull(session);
+        assertEquals(START + 500L, session.startTime);
+        assertTrue(session.isClipped);
+    }
+
+    @Test
+    public void sessionIterator_withOpenSessions_returnsThemLastUntilEnd() {
+        UsageStatsManager usageStatsManager = (UsageStatsManager) RuntimeEnvironment.getApplication()
+                .getSystemService(Context.USAGE_STATS_SERVICE);
+        ShadowUsageStatsManager shadowUsageStatsManager = Shadows.shadowOf(usageStatsManager);
+        shadowUsageStatsManager.addEvent(event(INSTAGRAM, INSTAGRAM_MAIN, START + 100L, UsageEvents.Event.ACTIVITY_RESUMED));
+        shadowUsageStatsManager.addEvent(event(YOUTUBE, YOUTUBE_MAIN, START + 200L, UsageEvents.Event.ACTIVITY_PAUSED));
+        shadowUsageStatsManager.addEvent(event(INSTAGRAM, INSTAGRAM_MAIN, START + 400L, UsageEvents.Event.ACTIVITY_PAUSED));
+        shadowUsageStatsManager.addEvent(event(YOUTUBE, YOUTUBE_MAIN, START + 500L, UsageEvents.Event.ACTIVITY_RESUMED));
+
+        List<String> sessions = new ArrayList<>();
+        UsageSessionIterator iterator = new UsageSessionIterator(usageStatsManager, START, START + 1000L, true);
+        while (iterator.hasNext()) {
+            UsageSession session = iterator.next();
+            sessions.add(session.packageName + ":" + session.startTime + "-" + session.endTime + (session.isOpen ? ":open" : ""));
+        }
+
+        List<String> expected = new ArrayList<>();
+        expected.add(YOUTUBE + ":" + START + "-" + (START + 200L));
+        expected.add(INSTAGRAM + ":" + (START + 100L) + "-" + (START + 400L));
+        expected.add(YOUTUBE + ":" + (START + 500L) + "-" + (START + 1000L) + ":open");
+        assertEquals(expected, sessions);
+    }
+
+    private UsageSession feed(String packageName, String className, long timestamp, int eventType) {
+        return mPairer.onEvent(event(packageName, className, timestamp, eventType));
+    }
+
+    private static UsageEvents.Event event(String packageName, String className, long timestamp, int eventType) {
+        return ShadowUsageStatsManager.EventBuilder.buildEvent()
+                .setPackage(packageName)
+                .setClass(className)
+                .setTimeStamp(timestamp)
+                .setEventType(eventType)
+                .build();
+    }
+}
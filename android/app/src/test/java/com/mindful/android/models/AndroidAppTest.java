@@ -0,0 +1,159 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.util.Base64;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+/**
+ * Checks the columnar map of {@link AndroidApp} sent to flutter, and compares its payload size against the map
+ * per app with Base64 icons and boxed weekly usages it replaced.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class AndroidAppTest {
+    private static final int APPS_COUNT = 300;
+    private static final int ICON_SIZE_BYTES = 4 * 1024;
+
+    @Test
+    public void toColumnarMap_sharedIcon_isSentOnce() {
+        byte[] defaultIcon = new byte[]{1, 2, 3};
+        List<AndroidApp> apps = Arrays.asList(
+                new AndroidApp("YouTube", "com.google.android.youtube", new byte[]{4, 5}, false, 3, 10001),
+                new AndroidApp("Tethering", "com.mindful.tethering", defaultIcon, true, 0, 1),
+                new AndroidApp("Removed", "com.mindful.removed", defaultIcon, true, 0, 2)
+        );
+
+        Map<String, Object> columnsMap = AndroidApp.toColumnarMap(apps);
+
+        assertEquals(3, columnsMap.get("count"));
+        assertArrayEquals(new int[]{0, 1, 1}, (int[]) columnsMap.get("iconIndices"));
+        assertEquals(2, ((List<?>) columnsMap.get("icons")).size());
+        assertArrayEquals(new int[]{3, 0, 0}, (int[]) columnsMap.get("launchCounts"));
+    }
+
+    @Test
+    public void toColumnarMap_weeklyUsages_areFlattenedPerApp() {
+        List<AndroidApp> apps = syntheticApps(2);
+
+        long[] screenTimes = (long[]) AndroidApp.toColumnarMap(apps).get("screenTimeThisWeek");
+
+        assertEquals(2 * AndroidApp.DAYS_IN_WEEK, screenTimes.length);
+        for (int i = 0; i < apps.size(); i++) {
+            for (int day = 0; day < AndroidApp.DAYS_IN_WEEK; day++) {
+                assertEquals(apps.get(i).screenTimeThisWeek[day], screenTimes[i * AndroidApp.DAYS_IN_WEEK + day]);
+            }
+        }
+    }
+
+    @Test
+    public void toColumnarMap_fewHundredApps_isSmallerThanMapPerApp() {
+        List<AndroidApp> apps = syntheticApps(APPS_COUNT);
+        StandardMessageCodec codec = StandardMessageCodec.INSTANCE;
+
+        ByteBuffer columnarMessage = codec.encodeMessage(AndroidApp.toColumnarMap(apps));
+        int columnarBytes = columnarMessage.limit();
+        int mapPerAppBytes = codec.encodeMessage(toMapPerApp(apps)).limit();
+
+        // The platform channel decodes the same columns on the other side
+        columnarMessage.rewind();
+        Map<?, ?> decodedColumns = (Map<?, ?>) codec.decodeMessage(columnarMessage);
+        assertEquals(APPS_COUNT, decodedColumns.get("count"));
+        assertArrayEquals((long[]) AndroidApp.toColumnarMap(apps).get("screenTimeThisWeek"), (long[]) decodedColumns.get("screenTimeThisWeek"));
+
+        assertTrue(columnarBytes + " >= " + mapPerAppBytes + " * 0.8", columnarBytes < mapPerAppBytes * 0.8);
+    }
+
+    /**
+     * Creates apps with incompressible icons like real WebP icons, every fifth app shares the default icon.
+     */
+    @NonNull
+    private static List<AndroidApp> syntheticApps(int count) {
+        Random random = new Random(42);
+        byte[] defaultIcon = new byte[ICON_SIZE_BYTES];
+        random.nextBytes(defaultIcon);
+
+        List<AndroidApp> apps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] icon = defaultIcon;
+            if (i % 5 != 0) {
+                icon = new byte[ICON_SIZE_BYTES];
+                random.nextBytes(icon);
+            }
+
+            String packageName = "com.synthetic.app" + i;
+            AndroidApp app = new AndroidApp("Synthetic App " + i, packageName, icon, i % 10 == 0, random.nextInt(50), 10000 + i);
+            for (int day = 0; day < AndroidApp.DAYS_IN_WEEK; day++) {
+                app.screenTimeThisWeek[day] = random.nextInt(4 * 60 * 60);
+                app.mobileUsageThisWeek[day] = random.nextInt(512 * 1024);
+                app.wifiUsageThisWeek[day] = random.nextInt(2 * 1024 * 1024);
+            }
+            apps.add(app);
+        }
+        return apps;
+    }
+
+    /**
+     * The previous payload, kept as the baseline. A map per app with the icon as a Base64 string and the weekly
+     * usages as boxed lists, including the total data usage.
+     */
+    @NonNull
+    private static List<Map<String, Object>> toMapPerApp(@NonNull List<AndroidApp> apps) {
+        List<Map<String, Object>> appMaps = new ArrayList<>(apps.size());
+        for (AndroidApp app : apps) {
+            ArrayList<Long> screenTimes = new ArrayList<>(AndroidApp.DAYS_IN_WEEK);
+            ArrayList<Long> mobileUsages = new ArrayList<>(AndroidApp.DAYS_IN_WEEK);
+            ArrayList<Long> wifiUsages = new ArrayList<>(AndroidApp.DAYS_IN_WEEK);
+            ArrayList<Long> dataUsages = new ArrayList<>(AndroidApp.DAYS_IN_WEEK);
+            for (int day = 0; day < AndroidApp.DAYS_IN_WEEK; day++) {
+                screenTimes.add(app.screenTimeThisWeek[day]);
+                mobileUsages.add(app.mobileUsageThisWeek[day]);
+                wifiUsages.add(app.wifiUsageThisWeek[day]);
+                dataUsages.add(app.mobileUsageThisWeek[day] + app.wifiUsageThisWeek[day]);
+            }
+
+            Map<String, Object> appMap = new HashMap<>();
+            appMap.put("appName", app.appName);
+            appMap.put("packageName", app.packageName);
+            appMap.put("appIcon", Base64.encodeToString(app.appIcon, Base64.NO_WRAP));
+            appMap.put("isImpSysApp", app.isImpSysApp);
+            appMap.put("launchCount", app.launchCount);
+            appMap.put("screenTimeThisWeek", screenTimes);
+            appMap.put("mobileUsageThisWeek", mobileUsages);
+            appMap.put("wifiUsageThisWeek", wifiUsages);
+            appMap.put("dataUsageThisWeek", dataUsages);
+            appMaps.add(appMap);
+        }
+        return appMaps;
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.mindful.android.helpers.ShortsBlockingHelper;
+import com.mindful.android.utils.DomainBlocklist;
+import com.mindful.android.utils.NsfwDomains;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks what the accessibility service reads from a {@link ContentBlockingSnapshot} compiled from the settings,
+ * and checks its url classification against the chain of {@code String.contains} checks it replaced.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class ContentBlockingSnapshotTest {
+    private static final String INSTAGRAM = "com.instagram.android";
+    private static final String YOUTUBE = "com.google.android.youtube";
+    private static final String CHROME = "com.android.chrome";
+    private static final int STRESS_READERS_COUNT = 4;
+    private static final long STRESS_DURATION_MS = 1500L;
+    private static final int URL_CORPUS_SIZE = 5000;
+
+    // Published the same way as by the accessibility service
+    private volatile ContentBlockingSnapshot mPublishedSnapshot;
+
+    @After
+    public void tearDown() {
+        // Restore the bundled rules for the other tests
+        ShortsBlockingHelper.updateRules(RuntimeEnvironment.getApplication(), "");
+    }
+
+    @Test
+    public void snapshot_defaultSettings_blocksNothing() {
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot();
+
+        assertFalse(snapshot.shouldBlockContent);
+        assertTrue(snapshot.monitoredPackages.isEmpty());
+        assertNull(snapshot.getShortsCheck(INSTAGRAM));
+        assertFalse(snapshot.isWebsiteBlocked("example.com"));
+    }
+
+    @Test
+    public void snapshot_anyBlockingSetting_blocksContent() {
+        List<WellBeingSettings> settingsList = new ArrayList<>();
+        for (int i = 0; i < 7; i++) settingsList.add(new WellBeingSettings());
+        settingsList.get(0).blockInstaReels = true;
+        settingsList.get(1).blockYtShorts = true;
+        settingsList.get(2).blockSnapSpotlight = true;
+        settingsList.get(3).blockFbReels = true;
+        settingsList.get(4).blockRedditShorts = true;
+        settingsList.get(5).blockNsfwSites = true;
+        settingsList.get(6).blockedWebsites.add("example.com");
+
+        for (WellBeingSettings settings : settingsList) {
+            assertTrue(new ContentBlockingSnapshot(settings, new HashSet<>(), null, null, null).shouldBlockContent);
+        }
+
+        DomainBlocklist blocklist = mock(DomainBlocklist.class);
+        assertTrue(new ContentBlockingSnapshot(new WellBeingSettings(), new HashSet<>(), null, null, blocklist).shouldBlockContent);
+    }
+
+    @Test
+    public void monitoredPackages_changedAfterPublishing_staysUnchanged() {
+        Set<String> monitoredPackages = new HashSet<>(Arrays.asList(CHROME, INSTAGRAM));
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(new WellBeingSettings(), monitoredPackages, null, null, null);
+
+        monitoredPackages.add(YOUTUBE);
+        assertEquals(new HashSet<>(Arrays.asList(CHROME, INSTAGRAM)), snapshot.monitoredPackages);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void monitoredPackages_isReadOnly() {
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(new WellBeingSettings(), Collections.singleton(CHROME), null, null, null);
+        snapshot.monitoredPackages.add(YOUTUBE);
+    }
+
+    @Test
+    public void isWebsiteBlocked_checksEverySource() {
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockNsfwSites = true;
+        settings.blockedWebsites.add("blocked.com");
+
+        NsfwDomains nsfwDomains = mock(NsfwDomains.class);
+        when(nsfwDomains.matches("adult.com")).thenReturn(true);
+        DomainBlocklist blocklist = mock(DomainBlocklist.class);
+        when(blocklist.matches("tracker.org")).thenReturn(true);
+
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(settings, new HashSet<>(), null, nsfwDomains, blocklist);
+
+        assertTrue(snapshot.isWebsiteBlocked("blocked.com"));
+        assertTrue(snapshot.isWebsiteBlocked("m.blocked.com"));
+        assertTrue(snapshot.isWebsiteBlocked("adult.com"));
+        assertTrue(snapshot.isWebsiteBlocked("tracker.org"));
+        assertFalse(snapshot.isWebsiteBlocked("example.com"));
+    }
+
+    @Test
+    public void settings_changedAfterPublishing_doNotChangeCompiledWebsites() {
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockedWebsites.add("blocked.com");
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(settings.makeCopy(), new HashSet<>(), null, null, null);
+
+        settings.blockedWebsites.add("example.com");
+        assertFalse(snapshot.isWebsiteBlocked("example.com"));
+    }
+
+    @Test
+    public void getShortsCheck_onlyForAppsWithEnabledRule() throws JSONException {
+        ShortsBlockingHelper shortsRules = shortsRules(
+                rule("blockInstaReels", INSTAGRAM, "instagram.com/reels/"),
+                rule("blockYtShorts", YOUTUBE, "youtube.com/shorts/")
+        );
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockInstaReels = true;
+
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(settings, new HashSet<>(), shortsRules, null, null);
+
+        ContentBlockingSnapshot.ShortsCheck check = snapshot.getShortsCheck(INSTAGRAM);
+        assertNotNull(check);
+        assertSame(check, snapshot.getShortsCheck(INSTAGRAM));
+        assertNull(snapshot.getShortsCheck(YOUTUBE));
+        assertNull(snapshot.getShortsCheck(CHROME));
+    }
+
+    @Test
+    public void classifyUrl_searchEngines_areClassified() {
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot();
+
+        assertEquals(ContentBlockingSnapshot.URL_GOOGLE_SEARCH, snapshot.classifyUrl("www.google.com/search?q=cats"));
+        assertEquals(
+                ContentBlockingSnapshot.URL_GOOGLE_SEARCH | ContentBlockingSnapshot.URL_SAFE_SEARCH_ACTIVE,
+                snapshot.classifyUrl("www.google.com/search?q=cats&safe=active")
+        );
+        assertEquals(ContentBlockingSnapshot.URL_BING_SEARCH, snapshot.classifyUrl("bing.com/search?q=cats"));
+        assertEquals(ContentBlockingSnapshot.URL_BRAVE_SEARCH, snapshot.classifyUrl("search.brave.com/search?q=cats"));
+        assertEquals(ContentBlockingSnapshot.URL_DUCKDUCKGO_SEARCH, snapshot.classifyUrl("duckduckgo.com/?q=cats"));
+        assertEquals(0, snapshot.classifyUrl("example.com/search?q=cats"));
+    }
+
+    @Test
+    public void getShortContentRule_overlappingUrls_returnTheirRule() throws JSONException {
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockYtShorts = true;
+        settings.blockInstaReels = true;
+
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(
+                settings,
+                new HashSet<>(),
+                shortsRules(
+                        rule("blockYtShorts", YOUTUBE, "youtube.com/shorts/", "m.youtube.com/shorts/"),
+                        rule("blockInstaReels", INSTAGRAM, "instagram.com/reels/")
+                ),
+                null,
+                null
+        );
+
+        assertEquals("blockYtShorts", shortContentSetting(snapshot, "m.youtube.com/shorts/abc"));
+        assertEquals("blockYtShorts", shortContentSetting(snapshot, "www.youtube.com/shorts/abc"));
+        assertEquals("blockInstaReels", shortContentSetting(snapshot, "www.instagram.com/reels/abc"));
+        assertNull(shortContentSetting(snapshot, "m.youtube.com/watch?v=abc"));
+        assertNull(shortContentSetting(snapshot, "www.google.com/search?q=shorts"));
+    }
+
+    @Test
+    public void getShortContentRule_disabledRule_isNotMatched() throws JSONException {
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockInstaReels = true;
+
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(
+                settings,
+                new HashSet<>(),
+                shortsRules(
+                        rule("blockYtShorts", YOUTUBE, "youtube.com/shorts/"),
+                        rule("blockInstaReels", INSTAGRAM, "instagram.com/reels/")
+                ),
+                null,
+                null
+        );
+
+        assertEquals(0, snapshot.classifyUrl("m.youtube.com/shorts/abc"));
+        assertNotNull(snapshot.getShortContentRule(snapshot.classifyUrl("instagram.com/reels/abc")));
+    }
+
+    @Test
+    public void classifyUrl_realisticUrls_agreesWithContainsChain() throws JSONException {
+        // The url patterns of the bundled rules
+        ShortsBlockingHelper shortsRules = shortsRules(
+                rule("blockInstaReels", INSTAGRAM, "instagram.com/reels/", "m.instagram.com/reels/"),
+                rule("blockYtShorts", YOUTUBE, "youtube.com/shorts/", "m.youtube.com/shorts/"),
+                rule("blockSnapSpotlight", "com.snapchat.android", "snapchat.com/spotlight/", "m.snapchat.com/spotlight/", "web.snapchat.com/spotlight/"),
+                rule("blockFbReels", "com.facebook.katana", "facebook.com/reel/", "m.facebook.com/reel/")
+        );
+        WellBeingSettings settings = new WellBeingSettings();
+        settings.blockInstaReels = true;
+        settings.blockYtShorts = true;
+        settings.blockSnapSpotlight = true;
+        settings.blockFbReels = true;
+        settings.blockNsfwSites = true;
+        List<ShortsRule> rules = shortsRules.getEnabledRules(settings);
+        ContentBlockingSnapshot snapshot = new ContentBlockingSnapshot(settings, new HashSet<>(), shortsRules, null, null);
+
+        String[] urls = realisticUrls();
+        for (String url : urls) {
+            int urlClass = snapshot.classifyUrl(url);
+            assertEquals(url, isShortContentUrlByContains(rules, url), snapshot.getShortContentRule(urlClass) != null);
+            assertEquals(url, searchUrlClassByContains(url), urlClass & 0xFF);
+        }
+    }
+
+    @Test
+    public void publishedSnapshot_flippedWhileReading_isAlwaysConsistent() throws Exception {
+        ShortsBlockingHelper shortsRules = shortsRules(
+                rule("blockInstaReels", INSTAGRAM, "instagram.com/reels/"),
+                rule("blockYtShorts", YOUTUBE, "youtube.com/shorts/")
+        );
+
+        // Every setting differs between the two snapshots, so a mix of them would be noticed
+        WellBeingSettings instagramSettings = new WellBeingSettings();
+        instagramSettings.blockInstaReels = true;
+        instagramSettings.blockedWebsites.add("instagram-blocked.com");
+        WellBeingSettings youtubeSettings = new WellBeingSettings();
+        youtubeSettings.blockYtShorts = true;
+        youtubeSettings.blockedWebsites.add("youtube-blocked.com");
+
+        mPublishedSnapshot = new ContentBlockingSnapshot(instagramSettings.makeCopy(), Collections.singleton(INSTAGRAM), shortsRules, null, null);
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        CountDownLatch readersStarted = new CountDownLatch(STRESS_READERS_COUNT);
+        ExecutorService readers = Executors.newFixedThreadPool(STRESS_READERS_COUNT);
+        List<Future<long[]>> results = new ArrayList<>();
+
+        for (int i = 0; i < STRESS_READERS_COUNT; i++) {
+            results.add(readers.submit(() -> {
+                long[] seenCounts = new long[2];
+                readersStarted.countDown();
+                while (isRunning.get()) {
+                    // Read once per event, as the event processing threads do
+                    ContentBlockingSnapshot snapshot = mPublishedSnapshot;
+                    boolean isInstagram = snapshot.isWebsiteBlocked("m.instagram-blocked.com");
+
+                    assertEquals(!isInstagram, snapshot.isWebsiteBlocked("m.youtube-blocked.com"));
+                    assertEquals(isInstagram, snapshot.getShortsCheck(INSTAGRAM) != null);
+                    assertEquals(!isInstagram, snapshot.getShortsCheck(YOUTUBE) != null);
+                    assertEquals(isInstagram, snapshot.getShortContentRule(snapshot.classifyUrl("www.instagram.com/reels/abc")) != null);
+                    assertEquals(!isInstagram, snapshot.getShortContentRule(snapshot.classifyUrl("m.youtube.com/shorts/abc")) != null);
+                    assertEquals(isInstagram, snapshot.monitoredPackages.contains(INSTAGRAM));
+                    assertEquals(!isInstagram, snapshot.monitoredPackages.contains(YOUTUBE));
+                    seenCounts[isInstagram ? 0 : 1]++;
+                }
+                return seenCounts;
+            }));
+        }
+
+        // Keep republishing while the readers are checking
+        assertTrue(readersStarted.await(5, TimeUnit.SECONDS));
+        long publishedCount = 0;
+        long deadline = System.currentTimeMillis() + STRESS_DURATION_MS;
+        while (System.currentTimeMillis() < deadline) {
+            boolean isInstagram = publishedCount++ % 2 == 1;
+            mPublishedSnapshot = new ContentBlockingSnapshot(
+                    (isInstagram ? instagramSettings : youtubeSettings).makeCopy(),
+                    Collections.singleton(isInstagram ? INSTAGRAM : YOUTUBE),
+                    shortsRules,
+                    null,
+                    null
+            );
+        }
+        isRunning.set(false);
+        readers.shutdown();
+
+        long[] totalSeenCounts = new long[2];
+        for (Future<long[]> result : results) {
+            long[] seenCounts = result.get(5, TimeUnit.SECONDS);
+            totalSeenCounts[0] += seenCounts[0];
+            totalSeenCounts[1] += seenCounts[1];
+        }
+        assertTrue(publishedCount > 100);
+        assertTrue("Instagram snapshot never read", totalSeenCounts[0] > 0);
+        assertTrue("YouTube snapshot never read", totalSeenCounts[1] > 0);
+    }
+
+    /**
+     * Urls as read from the url bar of a browser: articles, searches with and without safe search, videos and
+     * short-form content, each followed by a random path or query.
+     */
+    @NonNull
+    private static String[] realisticUrls() {
+        String[] prefixes = {
+                "www.nytimes.com/2024/05/12/world/europe/", "en.wikipedia.org/wiki/", "github.com/akaMrNagar/Mindful/issues/",
+                "stackoverflow.com/questions/", "www.amazon.com/dp/", "news.ycombinator.com/item?id=",
+                "www.google.com/search?q=", "www.google.com/search?safe=active&q=", "www.bing.com/search?q=",
+                "search.brave.com/search?q=", "duckduckgo.com/?q=", "m.youtube.com/watch?v=", "www.youtube.com/shorts/",
+                "www.instagram.com/reels/", "www.instagram.com/p/", "m.facebook.com/reel/", "www.snapchat.com/spotlight/",
+        };
+        Random random = new Random(42);
+        String[] urls = new String[URL_CORPUS_SIZE];
+        for (int i = 0; i < urls.length; i++) {
+            StringBuilder url = new StringBuilder(prefixes[random.nextInt(prefixes.length)]);
+            int suffixLength = 8 + random.nextInt(80);
+            for (int j = 0; j < suffixLength; j++) url.append((char) ('a' + random.nextInt(26)));
+            urls[i] = url.toString();
+        }
+        return urls;
+    }
+
+    /**
+     * The previous short-form content check, kept as the baseline.
+     */
+    private static boolean isShortContentUrlByContains(@NonNull List<ShortsRule> rules, @NonNull String url) {
+        for (ShortsRule rule : rules) {
+            for (String element : rule.urls) {
+                if (url.contains(element)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The previous search engine checks of the safe search, kept as the baseline.
+     */
+    private static int searchUrlClassByContains(@NonNull String url) {
+        int urlClass = 0;
+        if (url.contains("google.com/search?")) urlClass |= ContentBlockingSnapshot.URL_GOOGLE_SEARCH;
+        if (url.contains("bing.com/search?")) urlClass |= ContentBlockingSnapshot.URL_BING_SEARCH;
+        if (url.contains("search.brave.com/search?")) urlClass |= ContentBlockingSnapshot.URL_BRAVE_SEARCH;
+        if (url.contains("duckduckgo.com/?")) urlClass |= ContentBlockingSnapshot.URL_DUCKDUCKGO_SEARCH;
+        if (url.contains("safe=active")) urlClass |= ContentBlockingSnapshot.URL_SAFE_SEARCH_ACTIVE;
+        return urlClass;
+    }
+
+    @Nullable
+    private static String shortContentSetting(@NonNull ContentBlockingSnapshot snapshot, @NonNull String url) {
+        ShortsRule rule = snapshot.getShortContentRule(snapshot.classifyUrl(url));
+        return rule != null ? rule.setting : null;
+    }
+
+    /**
+     * Loads the rules the same way as an update of the rules table from Flutter.
+     */
+    @NonNull
+    private static ShortsBlockingHelper shortsRules(@NonNull JSONObject... rules) throws JSONException {
+        JSONArray rulesArray = new JSONArray();
+        for (JSONObject rule : rules) rulesArray.put(rule);
+        String rulesJson = new JSONObject().put("version", 1).put("rules", rulesArray).toString();
+
+        Context context = RuntimeEnvironment.getApplication();
+        assertTrue(ShortsBlockingHelper.updateRules(context, rulesJson));
+        return ShortsBlockingHelper.getInstance(context);
+    }
+
+    @NonNull
+    private static JSONObject rule(@NonNull String setting, @NonNull String packageName, @NonNull String... urls) throws JSONException {
+        JSONObject jsonObject = new JSONObject()
+                .put("name", setting)
+                .put("setting", setting)
+                .put("packages", new JSONArray().put(packageName))
+                .put("rootIds", new JSONArray().put("{package}:id/root"));
+        JSONArray urlsArray = new JSONArray();
+        for (String url : urls) urlsArray.put(url);
+        return jsonObject.put("urls", urlsArray);
+    }
+}
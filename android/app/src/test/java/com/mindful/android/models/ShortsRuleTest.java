@@ -0,0 +1,53 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.models;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * Checks which entries of the short-form content rules table are accepted by {@link ShortsRule#isValid()}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 33)
+public class ShortsRuleTest {
+
+    @Test
+    public void isValid_knownSettingWithUrls_isValid() throws JSONException {
+        assertTrue(new ShortsRule(new JSONObject("{\"setting\":\"blockYtShorts\",\"urls\":[\"youtube.com/shorts/\"]}")).isValid());
+    }
+
+    @Test
+    public void isValid_knownSettingWithBareRootId_isValid() throws JSONException {
+        assertTrue(new ShortsRule(new JSONObject("{\"setting\":\"blockRedditShorts\",\"rootIds\":[\"feed_vertical_pager\"]}")).isValid());
+    }
+
+    @Test
+    public void isValid_unknownSetting_isInvalid() throws JSONException {
+        assertFalse(new ShortsRule(new JSONObject("{\"setting\":\"blockTikTok\",\"urls\":[\"tiktok.com/\"]}")).isValid());
+        assertFalse(new ShortsRule(new JSONObject("{\"urls\":[\"tiktok.com/\"]}")).isValid());
+    }
+
+    @Test
+    public void isValid_withoutAnyMatcher_isInvalid() throws JSONException {
+        assertFalse(new ShortsRule(new JSONObject("{\"setting\":\"blockFbReels\",\"packages\":[\"com.facebook.katana\"]}")).isValid());
+        assertFalse(new ShortsRule(new JSONObject("{\"setting\":\"blockFbReels\",\"texts\":[\"\"]}")).isValid());
+    }
+}
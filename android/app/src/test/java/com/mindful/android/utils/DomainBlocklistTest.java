@@ -0,0 +1,126 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Checks that the {@link DomainBlocklist} file format round trips and that malformed files are rejected.
+ */
+public class DomainBlocklistTest {
+    private File mFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mFile = File.createTempFile("blocklist", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Test
+    public void open_writtenFile_matchesDomainsAndSubdomains() throws IOException {
+        DomainBlocklist.write(Arrays.asList("ads.example.com", "casino.net", "tracker.org"), mFile);
+
+        DomainBlocklist blocklist = DomainBlocklist.open(mFile);
+        assertNotNull(blocklist);
+        assertEquals(3, blocklist.size());
+
+        assertTrue(blocklist.matches("casino.net"));
+        assertTrue(blocklist.matches("www.casino.net"));
+        assertTrue(blocklist.matches("eu.ads.example.com"));
+        assertTrue(blocklist.matches("tracker.org"));
+
+        assertFalse(blocklist.matches("example.com"));
+        assertFalse(blocklist.matches("mycasino.net"));
+        assertFalse(blocklist.matches("net"));
+    }
+
+    @Test
+    public void open_emptyList_matchesNothing() throws IOException {
+        DomainBlocklist.write(Collections.emptyList(), mFile);
+
+        DomainBlocklist blocklist = DomainBlocklist.open(mFile);
+        assertNotNull(blocklist);
+        assertEquals(0, blocklist.size());
+        assertFalse(blocklist.matches("casino.net"));
+    }
+
+    @Test
+    public void open_missingFile_returnsNull() {
+        mFile.delete();
+        assertNull(DomainBlocklist.open(mFile));
+    }
+
+    @Test
+    public void open_unknownMagic_returnsNull() throws IOException {
+        DomainBlocklist.write(Collections.singletonList("casino.net"), mFile);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(mFile, "rw")) {
+            randomAccessFile.writeInt(0x12345678);
+        }
+        assertNull(DomainBlocklist.open(mFile));
+    }
+
+    @Test
+    public void open_unknownVersion_returnsNull() throws IOException {
+        DomainBlocklist.write(Collections.singletonList("casino.net"), mFile);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(mFile, "rw")) {
+            randomAccessFile.seek(Integer.BYTES);
+            randomAccessFile.writeInt(99);
+        }
+        assertNull(DomainBlocklist.open(mFile));
+    }
+
+    @Test
+    public void open_truncatedFile_returnsNull() throws IOException {
+        DomainBlocklist.write(Arrays.asList("casino.net", "tracker.org"), mFile);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(mFile, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 3);
+        }
+        assertNull(DomainBlocklist.open(mFile));
+    }
+
+    @Test
+    public void open_fileShorterThanHeader_returnsNull() throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(mFile, "rw")) {
+            randomAccessFile.writeInt(0x4D424C4B);
+        }
+        assertNull(DomainBlocklist.open(mFile));
+    }
+
+    @Test
+    public void open_negativeCount_returnsNull() throws IOException {
+        DomainBlocklist.write(Collections.singletonList("casino.net"), mFile);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(mFile, "rw")) {
+            randomAccessFile.seek(2 * Integer.BYTES);
+            randomAccessFile.writeInt(-5);
+        }
+        assertNull(DomainBlocklist.open(mFile));
+    }
+}
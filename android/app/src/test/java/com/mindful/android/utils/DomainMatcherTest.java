@@ -0,0 +1,133 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the rules supported by {@link DomainMatcher} and its lookups against a plain set of domains and a hundred
+ * thousand rules.
+ */
+public class DomainMatcherTest {
+    private static final int LARGE_RULES_COUNT = 100_000;
+    private static final int LOOKUPS_COUNT = 10_000;
+
+    @Test
+    public void matches_domainRule_matchesDomainAndSubdomains() {
+        DomainMatcher matcher = DomainMatcher.fromRules(Collections.singletonList("example.com"));
+
+        assertTrue(matcher.matches("example.com"));
+        assertTrue(matcher.matches("m.example.com"));
+        assertTrue(matcher.matches("a.b.example.com"));
+        assertFalse(matcher.matches("notexample.com"));
+        assertFalse(matcher.matches("example.org"));
+        assertFalse(matcher.matches("com"));
+    }
+
+    @Test
+    public void matches_subdomainsRule_skipsDomainItself() {
+        DomainMatcher matcher = DomainMatcher.fromRules(Collections.singletonList("*.example.com"));
+
+        assertFalse(matcher.matches("example.com"));
+        assertTrue(matcher.matches("m.example.com"));
+    }
+
+    @Test
+    public void matches_wildcardLabel_matchesExactlyOneLabel() {
+        DomainMatcher matcher = new DomainMatcher();
+        matcher.addRule("cdn.*.example.com", false);
+
+        assertTrue(matcher.matches("cdn.eu.example.com"));
+        assertFalse(matcher.matches("cdn.example.com"));
+        assertFalse(matcher.matches("cdn.a.b.example.com"));
+        assertFalse(matcher.matches("img.cdn.eu.example.com"));
+    }
+
+    @Test
+    public void matches_ruleCaseAndHostTrailingDot_areIgnored() {
+        DomainMatcher matcher = DomainMatcher.fromRules(Collections.singletonList("https://Example.COM/path:80"));
+
+        assertTrue(matcher.matches("www.example.com."));
+        assertFalse(matcher.matches("."));
+        assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    public void fromRules_wildcardOnlyRules_areRejected() {
+        DomainMatcher matcher = DomainMatcher.fromRules(Arrays.asList("*", "*.", "*.*", " * "));
+
+        assertTrue(matcher.isEmpty());
+        assertFalse(matcher.matches("example.com"));
+        assertFalse(matcher.matches("localhost"));
+    }
+
+    @Test
+    public void fromRules_malformedRules_areRejected() {
+        DomainMatcher matcher = DomainMatcher.fromRules(Arrays.asList("", "example..com", ".example.com"));
+
+        assertTrue(matcher.isEmpty());
+        assertFalse(matcher.matches("example.com"));
+    }
+
+    @Test
+    public void matches_manyRules_agreeWithSet() {
+        Random random = new Random(7);
+        List<String> rules = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) rules.add(randomLabel(random) + "." + randomLabel(random));
+        DomainMatcher matcher = DomainMatcher.fromRules(rules);
+        HashSet<String> ruleSet = new HashSet<>(rules);
+
+        for (int i = 0; i < 5000; i++) {
+            String domain = randomLabel(random) + "." + randomLabel(random);
+            assertEquals(domain, ruleSet.contains(domain), matcher.matches(domain));
+            assertEquals(domain, ruleSet.contains(domain), matcher.matches("www." + domain));
+        }
+    }
+
+    @Test
+    public void matches_hundredThousandRules_matchesOnlyTheirDomains() {
+        List<String> rules = new ArrayList<>(LARGE_RULES_COUNT);
+        for (int i = 0; i < LARGE_RULES_COUNT; i++) rules.add(ruleDomain(i));
+        DomainMatcher matcher = DomainMatcher.fromRules(rules);
+
+        // Half of the hosts are the rules or their subdomains, the other half match none
+        for (int i = 0; i < LOOKUPS_COUNT; i++) {
+            String ruleDomain = ruleDomain(i * (LARGE_RULES_COUNT / LOOKUPS_COUNT));
+            assertTrue(ruleDomain, matcher.matches(ruleDomain));
+            assertTrue(ruleDomain, matcher.matches("www." + ruleDomain));
+            assertFalse(ruleDomain, matcher.matches("www.allowed-" + i + ".org"));
+            assertFalse(ruleDomain, matcher.matches(ruleDomain + ".org"));
+        }
+    }
+
+    private static String ruleDomain(int index) {
+        return "blocked-" + Integer.toString(index * 31 + 7, 36) + (index % 3 == 0 ? ".net" : ".com");
+    }
+
+    private static String randomLabel(Random random) {
+        char[] label = new char[1 + random.nextInt(3)];
+        for (int i = 0; i < label.length; i++) label[i] = (char) ('a' + random.nextInt(5));
+        return new String(label);
+    }
+}
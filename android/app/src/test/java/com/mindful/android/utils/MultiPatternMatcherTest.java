@@ -0,0 +1,129 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that {@link MultiPatternMatcher} finds the same patterns as a chain of {@link String#contains} checks.
+ */
+public class MultiPatternMatcherTest {
+    private static final int YT_SHORTS = 1;
+    private static final int YT_MOBILE_SHORTS = 1 << 1;
+    private static final int GOOGLE_SEARCH = 1 << 2;
+    private static final int SAFE_SEARCH = 1 << 3;
+
+    @Test
+    public void match_overlappingPatterns_reportsEveryPattern() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("youtube.com/shorts/", YT_SHORTS);
+        patterns.put("m.youtube.com/shorts/", YT_MOBILE_SHORTS);
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+        // The shorter pattern is a suffix of the longer one, so both are found in the mobile url
+        assertEquals(YT_SHORTS | YT_MOBILE_SHORTS, matcher.match("https://m.youtube.com/shorts/abc"));
+        assertEquals(YT_SHORTS, matcher.match("https://www.youtube.com/shorts/abc"));
+        assertEquals(0, matcher.match("https://m.youtube.com/watch?v=abc"));
+        assertEquals(0, matcher.match("https://m.youtube.com/shorts"));
+    }
+
+    @Test
+    public void match_patternAfterFailedPrefix_isFound() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("google.com/search?", GOOGLE_SEARCH);
+        patterns.put("safe=active", SAFE_SEARCH);
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+        assertEquals(GOOGLE_SEARCH, matcher.match("google.google.com/search?q=a"));
+        assertEquals(GOOGLE_SEARCH | SAFE_SEARCH, matcher.match("www.google.com/search?q=a&safe=safe=active"));
+        assertEquals(SAFE_SEARCH, matcher.match("ssafe=active"));
+    }
+
+    @Test
+    public void match_samePatternWithSeveralLabels_unitesLabels() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("reel", YT_SHORTS | SAFE_SEARCH);
+        patterns.put("reels", YT_MOBILE_SHORTS);
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+        assertEquals(YT_SHORTS | SAFE_SEARCH, matcher.match("facebook.com/reel/1"));
+        assertEquals(YT_SHORTS | SAFE_SEARCH | YT_MOBILE_SHORTS, matcher.match("instagram.com/reels/1"));
+    }
+
+    @Test
+    public void match_emptyPatternsAndTexts_matchNothing() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("", YT_SHORTS);
+        patterns.put("shorts", YT_MOBILE_SHORTS);
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+        assertEquals(0, matcher.match(""));
+        assertEquals(0, matcher.match("no match here"));
+        assertEquals(0, new MultiPatternMatcher(new LinkedHashMap<>()).match("anything"));
+    }
+
+    @Test
+    public void match_nonAsciiChars_areMatchedCaseSensitively() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("कमेंट", YT_SHORTS);
+        patterns.put("Shorts", YT_MOBILE_SHORTS);
+        MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+        assertEquals(YT_SHORTS, matcher.match("एक कमेंट जोड़ें"));
+        assertEquals(0, matcher.match("एक कमे"));
+        assertEquals(0, matcher.match("shorts"));
+        assertEquals(YT_MOBILE_SHORTS, matcher.match("Shorts"));
+    }
+
+    @Test
+    public void match_randomTexts_agreeWithContainsChain() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            Map<String, Integer> patterns = new LinkedHashMap<>();
+            for (int p = 0; p < 12; p++) {
+                patterns.merge(randomText(random, 1 + random.nextInt(5)), 1 << p, (a, b) -> a | b);
+            }
+            MultiPatternMatcher matcher = new MultiPatternMatcher(patterns);
+
+            for (int t = 0; t < 200; t++) {
+                String text = randomText(random, random.nextInt(40));
+                assertEquals(text, containsChain(patterns, text), matcher.match(text));
+            }
+        }
+    }
+
+    private static int containsChain(@NonNull Map<String, Integer> patterns, @NonNull String text) {
+        int labels = 0;
+        for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+            if (text.contains(entry.getKey())) labels |= entry.getValue();
+        }
+        return labels;
+    }
+
+    @NonNull
+    private static String randomText(@NonNull Random random, int length) {
+        // A small alphabet with a non-ASCII char makes overlapping matches frequent
+        final String alphabet = "abc./é";
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) text[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        return new String(text);
+    }
+}
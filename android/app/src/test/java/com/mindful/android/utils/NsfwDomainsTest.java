@@ -0,0 +1,160 @@
+/*
+ *
+ *  *
+ *  *  * Copyright (c) 2024 Mindful (https://github.com/akaMrNagar/Mindful)
+ *  *  * Author : Pawan Nagar (https://github.com/akaMrNagar)
+ *  *  *
+ *  *  * This source code is licensed under the GPL-2.0 license license found in the
+ *  *  * LICENSE file in the root directory of this source tree.
+ *  *
+ *
+ */
+
+package com.mindful.android.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Checks the lookups of the packed {@link NsfwDomains} index against the sorted domains it is built from,
+ * and the format of the bundled domains the index relies on.
+ */
+public class NsfwDomainsTest {
+    private static final File BUNDLED_DOMAINS_FILE = new File("src/main/res/raw/nsfw_domains.txt");
+
+    @Test
+    public void matches_listedDomain_isMatched() {
+        NsfwDomains domains = indexOf("adult.com", "example.org", "naughty.net");
+
+        assertTrue(domains.matches("adult.com"));
+        assertTrue(domains.matches("example.org"));
+        assertTrue(domains.matches("naughty.net"));
+    }
+
+    @Test
+    public void matches_firstAndLastDomains_areMatched() {
+        NsfwDomains domains = indexOf("aaa.com", "mmm.com", "zzz.com");
+
+        assertTrue(domains.matches("aaa.com"));
+        assertTrue(domains.matches("zzz.com"));
+    }
+
+    @Test
+    public void matches_subdomainOfListedDomain_isMatched() {
+        NsfwDomains domains = indexOf("adult.com");
+
+        assertTrue(domains.matches("www.adult.com"));
+        assertTrue(domains.matches("m.videos.adult.com"));
+    }
+
+    @Test
+    public void matches_sameSuffixWithoutDot_isNotMatched() {
+        NsfwDomains domains = indexOf("adult.com");
+
+        assertFalse(domains.matches("notadult.com"));
+        assertFalse(domains.matches("adult.com.evil.org"));
+        assertFalse(domains.matches("adult.co"));
+    }
+
+    @Test
+    public void matches_topLevelDomainOnly_isNotMatched() {
+        NsfwDomains domains = indexOf("adult.com", "com");
+
+        assertFalse(domains.matches("com"));
+        assertFalse(domains.matches("google.com"));
+    }
+
+    @Test
+    public void matches_emptyIndex_matchesNothing() {
+        NsfwDomains domains = new NsfwDomains(new byte[0]);
+
+        assertFalse(domains.matches("adult.com"));
+        assertFalse(domains.matches(""));
+    }
+
+    @Test
+    public void matches_randomDomains_agreeWithSet() {
+        Random random = new Random(42);
+        TreeSet<String> listed = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) listed.add(randomLabel(random) + "." + (random.nextBoolean() ? "com" : "net"));
+        NsfwDomains domains = indexOf(listed.toArray(new String[0]));
+        HashSet<String> listedSet = new HashSet<>(listed);
+
+        for (int i = 0; i < 5000; i++) {
+            String host = randomLabel(random) + "." + (random.nextBoolean() ? "com" : "net");
+            assertTrue(host, domains.matches(host) == listedSet.contains(host));
+            assertTrue(host, domains.matches("www." + host) == listedSet.contains(host));
+        }
+    }
+
+    @Test
+    public void bundledDomains_areLowercaseHostsSortedInByteOrder() throws IOException {
+        byte[] packedDomains = Files.readAllBytes(BUNDLED_DOMAINS_FILE.toPath());
+        assertTrue(packedDomains.length > 0);
+        assertEquals('\n', packedDomains[packedDomains.length - 1]);
+
+        String[] domains = new String(packedDomains, StandardCharsets.US_ASCII).split("\n");
+        for (int i = 0; i < domains.length; i++) {
+            String domain = domains[i];
+            assertTrue(domain, domain.matches("[a-z0-9-]+(\\.[a-z0-9-]+)+"));
+            if (i > 0) assertTrue(domains[i - 1] + " >= " + domain, domains[i - 1].compareTo(domain) < 0);
+        }
+
+        NsfwDomains index = new NsfwDomains(packedDomains);
+        for (String domain : domains) assertTrue(domain, index.matches(domain));
+    }
+
+    @Test
+    public void bundledDomains_sharedHostsAndPublicSuffixes_areNotMatched() throws IOException {
+        NsfwDomains index = new NsfwDomains(Files.readAllBytes(BUNDLED_DOMAINS_FILE.toPath()));
+
+        // Subdomains of these hosts belong to unrelated users, so they can not be blocked as a whole
+        String[] sharedHosts = {
+                "fc2.com", "tripod.com", "angelfire.com", "over-blog.com", "over-blog.fr", "over-blog.org",
+                "canalblog.com", "freehostia.com", "tr.gg", "net.tc", "net.tf",
+        };
+        for (String host : sharedHosts) {
+            assertFalse(host, index.matches(host));
+            assertFalse(host, index.matches("someone." + host));
+        }
+    }
+
+    @Test
+    public void bundledDomains_containNoSecondLevelPublicSuffixes() throws IOException {
+        String[] domains = new String(Files.readAllBytes(BUNDLED_DOMAINS_FILE.toPath()), StandardCharsets.US_ASCII).split("\n");
+        for (String domain : domains) {
+            assertFalse(domain, domain.matches("(com|net|org|co|gov|edu|ac)\\.[a-z]{2}"));
+        }
+    }
+
+    @NonNull
+    private static NsfwDomains indexOf(@NonNull String... sortedDomains) {
+        String[] domains = sortedDomains.clone();
+        Arrays.sort(domains);
+
+        StringBuilder packed = new StringBuilder();
+        for (String domain : domains) packed.append(domain).append('\n');
+        return new NsfwDomains(packed.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @NonNull
+    private static String randomLabel(@NonNull Random random) {
+        char[] label = new char[1 + random.nextInt(3)];
+        for (int i = 0; i < label.length; i++) label[i] = (char) ('a' + random.nextInt(4));
+        return new String(label);
+    }
+}
@@ -33,6 +33,11 @@ class MethodChannelService {
     'com.mindful.android.methodchannel',
   );
 
+  /// The event channel used for streaming device apps in stages.
+  final EventChannel _deviceAppsEventChannel = const EventChannel(
+    'com.mindful.android.deviceappseventchannel',
+  );
+
   /// Package name of the app whose Time Limit Exceeded dialog's emergency button is clicked.
   /// This is forwarded by the overlay dialog service to show the emergency button on the dashboard.
   String get targetedAppPackage => _targetedAppPackage;
@@ -96,23 +101,77 @@ class MethodChannelService {
   /// This method calls the native side to get information about all installed apps and their usage data
   /// for the current week, including screen time, Wi-Fi usage, and mobile data usage per day. The returned
   /// list contains `AndroidApp` objects with the app details and usage statistics.
+  ///
+  /// The apps are transferred as a single columnar map with raw icon bytes and primitive usage arrays,
+  /// see [AndroidApp.listFromColumns].
   Future<List<AndroidApp>> getDeviceApps() async {
     List<AndroidApp> appsList = [];
     try {
-      List<Map> result =
-          await _methodChannel.invokeListMethod<Map>('getDeviceApps') ?? [];
-
-      for (Map entry in result) {
-        try {
-          appsList.add(AndroidApp.fromMap(entry));
-        } catch (e, trace) {
-          debugPrint('MethodChannelService.getDeviceApps() : $e $trace');
-        }
+      final columns =
+          await _methodChannel.invokeMapMethod('getDeviceApps') ?? {};
+
+      if (columns.isNotEmpty) appsList = AndroidApp.listFromColumns(columns);
+    } catch (e, trace) {
+      debugPrint("MethodChannelService.getDeviceApps() Error: $e $trace");
+    }
+    return appsList;
+  }
+
+  /// Streams the list of all launchable apps installed on the user's device along with their usage statistics.
+  ///
+  /// The native side first sends the app names and package names, then the weekly usage and then the icons
+  /// in batches. A new list is emitted after every stage, so the apps can be shown before they are complete.
+  /// Every event is acknowledged only after the listener has processed the emitted list, which lets the
+  /// native side hold back the next batch of icons till then.
+  Stream<List<AndroidApp>> streamDeviceApps({
+    Map<String, AndroidApp> previousApps = const {},
+  }) async* {
+    List<AndroidApp> appsList = [];
+    await for (final event in _deviceAppsEventChannel.receiveBroadcastStream()) {
+      final columns = event as Map;
+      switch (columns['type']) {
+        case 'metadata':
+          appsList = AndroidApp.listFromMetadataColumns(
+            columns,
+            previous: previousApps,
+          );
+          break;
+        case 'usage':
+          appsList = AndroidApp.withUsageColumns(appsList, columns);
+          break;
+        case 'icons':
+          appsList = AndroidApp.withIconColumns(appsList, columns);
+          break;
       }
+
+      yield appsList;
+      await _methodChannel.invokeMethod(
+        'ackDeviceAppsEvent',
+        columns['generation'],
+      );
+    }
+  }
+
+  /// Retrieves the hour-of-day screen usage of every app for the day of the given [date].
+  ///
+  /// The native side splits every session across the hours it spans in a single pass over usage events.
+  /// Returns a map of package names to a list of 24 screen times in seconds, one for every hour of the day.
+  Future<Map<String, List<int>>> getHourlyScreenUsage(DateTime date) async {
+    Map<String, List<int>> hourlyUsage = {};
+    try {
+      final result = await _methodChannel.invokeMapMethod<String, dynamic>(
+            'getHourlyScreenUsage',
+            date.millisecondsSinceEpoch,
+          ) ??
+          {};
+
+      result.forEach(
+        (package, hours) => hourlyUsage[package] = List<int>.from(hours),
+      );
     } catch (e) {
-      debugPrint("MethodChannelService.getDeviceApps() Error: $e");
+      debugPrint("MethodChannelService.getHourlyScreenUsage() Error: $e");
     }
-    return appsList;
+    return hourlyUsage;
   }
 
   // !SECTION
@@ -162,6 +221,23 @@ class MethodChannelService {
         jsonEncode(wellBeingSettings),
       );
 
+  /// Imports a hosts file or domain list from the [filePath] as the blocklist for websites.
+  ///
+  /// The list is compiled into a compact index on the native side, replacing the previously
+  /// imported one, and returns the number of imported domains.
+  Future<int> importBlocklist(String filePath) async =>
+      await _methodChannel.invokeMethod('importBlocklist', filePath);
+
+  /// Removes the imported blocklist, if any.
+  Future<bool> removeBlocklist() async =>
+      await _methodChannel.invokeMethod('removeBlocklist');
+
+  /// Replaces the bundled short-form content detection rules with the [rulesJson] table.
+  ///
+  /// Pass an empty string to restore the bundled rules. Returns `false` if the table is invalid.
+  Future<bool> updateShortsRules(String rulesJson) async =>
+      await _methodChannel.invokeMethod('updateShortsRules', rulesJson);
+
   /// Updates the bedtime schedule for the foreground service.
   ///
   /// This method takes a [BedtimeSchedule] object and sends it to the native side
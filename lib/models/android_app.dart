@@ -8,7 +8,8 @@
  *
  */
 
-import 'dart:convert';
+import 'dart:typed_data';
+
 import 'package:flutter/foundation.dart';
 
 /// Represents an Android application with detailed information and usage statistics.
@@ -54,25 +55,108 @@ class AndroidApp {
     required this.networkUsageThisWeek,
   });
 
-  /// Creates an `AndroidApp` instance from a JSON-like map representation.
-  factory AndroidApp.fromMap(Map<dynamic, dynamic> map) {
-    return AndroidApp(
-      name: map['appName'] as String,
-      packageName: map['packageName'] as String,
-      icon: base64Decode(map['appIcon'] as String),
-      isImpSysApp: map['isImpSysApp'] as bool,
-      launchCount: map['launchCount'] as int,
-      screenTimeThisWeek:
-          List<int>.from(map['screenTimeThisWeek'], growable: false),
-      mobileUsageThisWeek:
-          List<int>.from(map['mobileUsageThisWeek'], growable: false),
-      wifiUsageThisWeek:
-          List<int>.from(map['wifiUsageThisWeek'], growable: false),
-      networkUsageThisWeek:
-          List<int>.from(map['dataUsageThisWeek'], growable: false),
+  /// Number of days in a week, the length of every weekly usage list.
+  static const int daysInWeek = 7;
+
+  /// Creates the list of `AndroidApp` instances from the columnar map sent by the native side.
+  ///
+  /// Every column is indexed by the app's position. Icons are raw image bytes, lossless WebP on Android R and
+  /// above and PNG below, shared through the `iconIndices` column. The weekly usages of all the apps are
+  /// flattened into single Int64Lists, so the usage lists of every app are views over them instead of copies.
+  static List<AndroidApp> listFromColumns(Map<dynamic, dynamic> columns) =>
+      withIconColumns(
+        withUsageColumns(listFromMetadataColumns(columns), columns),
+        columns,
+      );
+
+  /// Creates the list of `AndroidApp` instances from the metadata columns only.
+  /// The icons and usages are taken from the [previous] apps with the same package if any, otherwise they are
+  /// empty and zero till they are applied.
+  static List<AndroidApp> listFromMetadataColumns(
+    Map<dynamic, dynamic> columns, {
+    Map<String, AndroidApp> previous = const {},
+  }) {
+    final count = columns['count'] as int;
+    final appNames = columns['appNames'] as List;
+    final packageNames = columns['packageNames'] as List;
+    final isImpSysApps = columns['isImpSysApps'] as Uint8List;
+    final launchCounts = columns['launchCounts'] as Int32List;
+    final emptyIcon = Uint8List(0);
+    final emptyUsage = List<int>.filled(daysInWeek, 0, growable: false);
+
+    return List<AndroidApp>.generate(
+      count,
+      (i) {
+        final packageName = packageNames[i] as String;
+        final previousApp = previous[packageName];
+
+        return AndroidApp(
+          name: appNames[i] as String,
+          packageName: packageName,
+          icon: previousApp?.icon ?? emptyIcon,
+          isImpSysApp: isImpSysApps[i] != 0,
+          launchCount: launchCounts[i],
+          screenTimeThisWeek: previousApp?.screenTimeThisWeek ?? emptyUsage,
+          mobileUsageThisWeek: previousApp?.mobileUsageThisWeek ?? emptyUsage,
+          wifiUsageThisWeek: previousApp?.wifiUsageThisWeek ?? emptyUsage,
+          networkUsageThisWeek: previousApp?.networkUsageThisWeek ?? emptyUsage,
+        );
+      },
+      growable: false,
     );
   }
 
+  /// Returns a copy of the [apps] with the weekly usages from the usage columns.
+  static List<AndroidApp> withUsageColumns(
+    List<AndroidApp> apps,
+    Map<dynamic, dynamic> columns,
+  ) {
+    final screenTimes = columns['screenTimeThisWeek'] as Int64List;
+    final mobileUsages = columns['mobileUsageThisWeek'] as Int64List;
+    final wifiUsages = columns['wifiUsageThisWeek'] as Int64List;
+
+    return List<AndroidApp>.generate(
+      apps.length,
+      (i) {
+        final start = i * daysInWeek;
+        final end = start + daysInWeek;
+        final mobileUsage = Int64List.sublistView(mobileUsages, start, end);
+        final wifiUsage = Int64List.sublistView(wifiUsages, start, end);
+
+        return apps[i].copyWith(
+          screenTimeThisWeek: Int64List.sublistView(screenTimes, start, end),
+          mobileUsageThisWeek: mobileUsage,
+          wifiUsageThisWeek: wifiUsage,
+          networkUsageThisWeek: List<int>.generate(
+            daysInWeek,
+            (day) => mobileUsage[day] + wifiUsage[day],
+            growable: false,
+          ),
+        );
+      },
+      growable: false,
+    );
+  }
+
+  /// Returns a copy of the [apps] with the icons from the icon columns, which may cover only a range of the apps.
+  static List<AndroidApp> withIconColumns(
+    List<AndroidApp> apps,
+    Map<dynamic, dynamic> columns,
+  ) {
+    final iconsStart = columns['iconsStart'] as int;
+    final iconIndices = columns['iconIndices'] as Int32List;
+    final icons = columns['icons'] as List;
+
+    final updatedApps = List<AndroidApp>.of(apps, growable: false);
+    for (int i = 0; i < iconIndices.length; i++) {
+      final icon = icons[iconIndices[i]];
+      if (icon is Uint8List) {
+        updatedApps[iconsStart + i] = apps[iconsStart + i].copyWith(icon: icon);
+      }
+    }
+    return updatedApps;
+  }
+
   AndroidApp copyWith({
     String? name,
     String? packageName,
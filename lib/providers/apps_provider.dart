@@ -8,6 +8,9 @@
  *
  */
 
+import 'dart:async';
+
+import 'package:flutter/foundation.dart';
 import 'package:flutter_riverpod/flutter_riverpod.dart';
 import 'package:mindful/core/services/method_channel_service.dart';
 import 'package:mindful/models/android_app.dart';
@@ -25,18 +28,43 @@ class DeviceAppsList
     refreshDeviceApps();
   }
 
+  StreamSubscription<List<AndroidApp>>? _appsSubscription;
+  Completer<bool>? _refreshCompleter;
+
   /// Fetches and updates the state with the latest list of installed Android applications with their usage details.
   ///
-  /// This method retrieves information about installed apps using the `MethodChannelService` and updates the internal state
-  /// with a map where keys are app package names and values are corresponding `AndroidApp` objects.
+  /// The apps are streamed from the native side in stages, so the state is updated as soon as the app names are
+  /// available and again when their usage and icons arrive. Until then the apps keep the usage and icons of the
+  /// current state, so a refresh does not blank an already complete list. A new refresh cancels the ongoing one.
+  /// Completes when all the stages are received.
   Future<bool> refreshDeviceApps() async {
-    state = const AsyncLoading();
-    final appsList = await MethodChannelService.instance.getDeviceApps();
+    await _appsSubscription?.cancel();
+    if (!(_refreshCompleter?.isCompleted ?? true)) _refreshCompleter!.complete(false);
+    final completer = _refreshCompleter = Completer<bool>();
 
-    state = AsyncData(
-      Map.fromEntries(appsList.map((e) => MapEntry(e.packageName, e))),
+    _appsSubscription = MethodChannelService.instance
+        .streamDeviceApps(previousApps: state.valueOrNull ?? const {})
+        .listen(
+      (appsList) => state = AsyncData(
+        Map.fromEntries(appsList.map((e) => MapEntry(e.packageName, e))),
+      ),
+      onError: (e, trace) {
+        debugPrint("DeviceAppsList.refreshDeviceApps() Error: $e");
+        if (!state.hasValue) state = AsyncError(e, trace);
+        if (!completer.isCompleted) completer.complete(false);
+      },
+      onDone: () {
+        if (!completer.isCompleted) completer.complete(true);
+      },
     );
 
-    return true;
+    return completer.future;
+  }
+
+  @override
+  void dispose() {
+    _appsSubscription?.cancel();
+    if (!(_refreshCompleter?.isCompleted ?? true)) _refreshCompleter!.complete(false);
+    super.dispose();
   }
 }
@@ -32,6 +32,12 @@ class ApplicationIcon extends StatelessWidget {
       return _createIcon(FluentIcons.delete_24_regular, context);
     } else if (app.packageName == AppConstants.tetheringAppPackage) {
       return _createIcon(FluentIcons.communication_24_regular, context);
+    } else if (app.icon.isEmpty) {
+      // Icon is not streamed yet
+      return CircleAvatar(
+        radius: size,
+        backgroundColor: Theme.of(context).focusColor,
+      );
     } else {
       return CircleAvatar(
         backgroundColor: Colors.transparent,